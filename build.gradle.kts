@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 val querydslVersion = "5.0.0:jakarta"
 val mapstructVersion = "1.5.4.Final"
 
@@ -55,5 +59,14 @@ dependencies {
 
     // test
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.testcontainers:junit-jupiter")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
-}
\ No newline at end of file
+}
+
+// jmh (./gradlew :dailyfeed-member:jmh)
+jmh {
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    profilers.add("gc")
+}
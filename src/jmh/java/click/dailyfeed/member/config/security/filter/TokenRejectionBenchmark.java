@@ -0,0 +1,82 @@
+package click.dailyfeed.member.config.security.filter;
+
+import click.dailyfeed.member.domain.jwt.exception.TokenRejectedException;
+import click.dailyfeed.member.domain.jwt.util.JwtKeyIdExtractor;
+import click.dailyfeed.member.domain.jwt.util.JwtProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 거부되는 요청의 인증 처리량 비교 (기존 예외 경로 vs TokenRejectedException)
+ * ./gradlew :dailyfeed-member:jmh  (ops/ms 가 클수록 스캐너/잘못된 클라이언트 요청을 적은 CPU 로 거부)
+ *
+ * - legacy : getJwtFromHeaderOrThrow + extractKeyIdOrThrow (BearerTokenMissingException, InvalidTokenException 을 stack trace 와 함께 생성/래핑)
+ * - rejected : getJwtFromHeaderOrNull + extractKeyIdOrReject (예외 없음 또는 미리 만든 stackless 예외)
+ * - stackDepth : servlet container + security filter chain 안에서 호출되는 상황을 흉내낸 호출 깊이 (stack trace 비용은 깊이에 비례)
+ *
+ * 기존 경로에서 예외가 filter 밖으로 나간 뒤의 /error 재디스패치 비용은 포함하지 않는다. (실제 차이는 이보다 큼)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenRejectionBenchmark {
+    @Param({"missing", "malformed", "no_kid"})
+    private String input;
+
+    @Param({"0", "120"})
+    private int stackDepth;
+
+    private String authHeader;
+
+    @Setup
+    public void setUp() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        authHeader = switch (input) {
+            case "missing" -> null;
+            case "malformed" -> "Bearer undefined";
+            default -> "Bearer " + encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+                    + "." + encoder.encodeToString("{\"id\":1}".getBytes(StandardCharsets.UTF_8))
+                    + "." + encoder.encodeToString(new byte[32]);
+        };
+    }
+
+    @Benchmark
+    public Object legacy() {
+        return atDepth(stackDepth, this::legacyReject);
+    }
+
+    @Benchmark
+    public Object rejected() {
+        return atDepth(stackDepth, this::reject);
+    }
+
+    // 변경 전 JwtAuthenticationFilter 의 토큰 추출 + kid 추출
+    private Object legacyReject() {
+        try {
+            String token = JwtProcessor.getJwtFromHeaderOrThrow(authHeader);
+            return JwtProcessor.extractKeyIdOrThrow(token);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private Object reject() {
+        String token = JwtProcessor.getJwtFromHeaderOrNull(authHeader);
+        if (token == null) {
+            return TokenRejectedException.Reason.BEARER_TOKEN_MISSING;
+        }
+        try {
+            return JwtKeyIdExtractor.extractKeyIdOrReject(token);
+        } catch (TokenRejectedException e) {
+            return e.getReason();
+        }
+    }
+
+    private static Object atDepth(int depth, Supplier<Object> body) {
+        return depth == 0 ? body.get() : atDepth(depth - 1, body);
+    }
+}
@@ -0,0 +1,139 @@
+package click.dailyfeed.member.domain.jwt.redis;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 무효화된 Refresh Token 표시의 Redis 메모리 사용량 비교 (기존 형식 key vs hash bucket)
+ *
+ * 실제 Redis 에 markers 개를 기록하고 used_memory 증가량을 표시 1개당 바이트(bytesPerMarker) 로 보고한다.
+ * 지정한 database 는 매 측정 전에 FLUSHDB 하므로 운영 데이터가 없는 Redis/database 를 사용할 것.
+ * ./gradlew :dailyfeed-member:jmh -Pjmh.includes=RevokedRefreshMarkerFootprintBenchmark
+ *   (예: -Pjmh.params="redisUri=redis://localhost:6379/15;markers=100000;buckets=1024")
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class RevokedRefreshMarkerFootprintBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    @Param("redis://localhost:6379/15")
+    public String redisUri;
+
+    @Param("100000")
+    public int markers;
+
+    // markers / buckets 가 hash-max-listpack-entries(기본 128) 이하가 되도록 설정
+    @Param("1024")
+    public int buckets;
+
+    private RedisClient redisClient;
+    private StatefulRedisConnection<String, String> connection;
+    private List<String> tokenValues;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long usedMemoryBytes;
+        public long bytesPerMarker;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisClient = RedisClient.create(RedisURI.create(redisUri));
+        connection = redisClient.connect();
+        tokenValues = new ArrayList<>(markers);
+        for (int i = 0; i < markers; i++) {
+            tokenValues.add(UUID.randomUUID().toString());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void flush() {
+        connection.sync().flushdb();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connection.sync().flushdb();
+        connection.close();
+        redisClient.shutdown();
+    }
+
+    @Benchmark
+    public void legacyKeys(Footprint footprint) {
+        long before = usedMemory();
+        RedisAsyncCommands<String, String> async = connection.async();
+        writeInBatches(async, tokenValue -> async.set(
+                RevokedRefreshMarkerRedisService.legacyKey(tokenValue),
+                "true",
+                SetArgs.Builder.px(RETENTION.toMillis())
+        ));
+        report(footprint, before);
+    }
+
+    @Benchmark
+    public void hashBuckets(Footprint footprint) {
+        long before = usedMemory();
+        RedisAsyncCommands<String, String> async = connection.async();
+        long window = System.currentTimeMillis() / Duration.ofDays(7).toMillis();
+        writeInBatches(async, tokenValue -> {
+            RevokedRefreshMarkerRedisService.MarkerSlot slot = RevokedRefreshMarkerRedisService.slotOf(tokenValue, buckets);
+            String bucketKey = RevokedRefreshMarkerRedisService.bucketKey(window, slot.bucket());
+            async.hset(bucketKey, slot.field(), "1");
+            return async.pexpire(bucketKey, RETENTION.toMillis());
+        });
+        report(footprint, before);
+    }
+
+    private void writeInBatches(RedisAsyncCommands<String, String> async,
+                                Function<String, RedisFuture<?>> write) {
+        connection.setAutoFlushCommands(false);
+        try {
+            List<RedisFuture<?>> futures = new ArrayList<>(BATCH_SIZE);
+            for (String tokenValue : tokenValues) {
+                futures.add(write.apply(tokenValue));
+                if (futures.size() == BATCH_SIZE) {
+                    connection.flushCommands();
+                    LettuceFutures.awaitAll(Duration.ofSeconds(30), futures.toArray(new RedisFuture[0]));
+                    futures.clear();
+                }
+            }
+            connection.flushCommands();
+            LettuceFutures.awaitAll(Duration.ofSeconds(30), futures.toArray(new RedisFuture[0]));
+        } finally {
+            connection.setAutoFlushCommands(true);
+        }
+    }
+
+    private void report(Footprint footprint, long before) {
+        footprint.usedMemoryBytes = usedMemory() - before;
+        footprint.bytesPerMarker = footprint.usedMemoryBytes / markers;
+    }
+
+    private long usedMemory() {
+        for (String line : connection.sync().info("memory").split("\r\n")) {
+            if (line.startsWith("used_memory:")) {
+                return Long.parseLong(line.substring("used_memory:".length()));
+            }
+        }
+        throw new IllegalStateException("used_memory not found in INFO memory");
+    }
+}
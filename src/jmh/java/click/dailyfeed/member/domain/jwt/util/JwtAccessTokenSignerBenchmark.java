@@ -0,0 +1,60 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 발급 비교 (Jwts.builder() vs JwtAccessTokenSigner)
+ * ./gradlew :dailyfeed-member:jmh  (gc profiler 의 gc.alloc.rate.norm 으로 발급당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAccessTokenSignerBenchmark {
+    @Param({"HS256", "ES256"})
+    private String algorithmName;
+
+    private SignatureAlgorithm algorithm;
+    private Key signingKey;
+    private String keyId;
+    private String encodedHeader;
+    private String jti;
+
+    @Setup
+    public void setUp() {
+        algorithm = SignatureAlgorithm.forName(algorithmName);
+        signingKey = algorithm.isHmac()
+                ? Keys.secretKeyFor(algorithm)
+                : Keys.keyPairFor(algorithm).getPrivate();
+        keyId = UUID.randomUUID().toString();
+        encodedHeader = JwtAccessTokenSigner.encodeHeaderOrNull(keyId, algorithm);
+        jti = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String jjwt() {
+        Date issuedAt = new Date();
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setId(jti)
+                .setSubject("1")
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + 3600000L))
+                .claim("id", 1L)
+                .signWith(signingKey, algorithm)
+                .compact();
+    }
+
+    @Benchmark
+    public String signer() {
+        long issuedAtMillis = System.currentTimeMillis();
+        return JwtAccessTokenSigner.sign(encodedHeader, signingKey, algorithm, jti, 1L, issuedAtMillis, issuedAtMillis + 3600000L);
+    }
+}
@@ -0,0 +1,62 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * kid 추출 비교 (기존 정규식/split 방식 vs JwtKeyIdExtractor)
+ * ./gradlew :dailyfeed-member:jmh  (gc profiler 의 gc.alloc.rate.norm 으로 요청당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtKeyIdExtractorBenchmark {
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String header = "{\"kid\":\"" + UUID.randomUUID() + "\",\"alg\":\"HS256\"}";
+        String payload = "{\"jti\":\"" + UUID.randomUUID() + "\",\"sub\":\"1\",\"exp\":1893456000,\"id\":1}";
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        token = encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(new byte[32]);
+    }
+
+    @Benchmark
+    public String legacy() {
+        return legacyExtractKeyId(token);
+    }
+
+    @Benchmark
+    public String scanner() {
+        return JwtKeyIdExtractor.extractKeyIdOrNull(token);
+    }
+
+    // 변경 전 JwtProcessor.extractKeyIdOrThrow 의 본문
+    private static String legacyExtractKeyId(String token) {
+        token = token.trim();
+        token = token.replaceAll("\\s", "");
+
+        String[] chunks = token.split("\\.");
+        if (chunks.length != 3) {
+            throw new IllegalArgumentException("Invalid JWT Token");
+        }
+
+        byte[] headerBytes = Base64.getUrlDecoder().decode(chunks[0]);
+        String headerJson = new String(headerBytes, StandardCharsets.UTF_8);
+
+        if (headerJson.contains("\"kid\"")) {
+            int kidStart = headerJson.indexOf("\"kid\":\"") + 7;
+            int kidEnd = headerJson.indexOf("\"", kidStart);
+            if (kidStart > 6 && kidEnd > kidStart) {
+                return headerJson.substring(kidStart, kidEnd);
+            }
+        }
+        return null;
+    }
+}
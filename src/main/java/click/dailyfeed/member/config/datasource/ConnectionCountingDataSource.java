@@ -0,0 +1,48 @@
+package click.dailyfeed.member.config.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 스레드별 커넥션 획득 횟수를 세는 DataSource
+ *
+ * 요청 스레드에서 특정 구간(예: JwtAuthenticationFilter 의 토큰 검증) 의 전후 값을 비교해
+ * 그 구간에서 Hikari 커넥션을 몇 번 잡았는지 측정한다. (누적값만 증가, 초기화 없음)
+ * 종료 시 close 는 원래 DataSource(HikariDataSource) 로 위임해 pool 이 정상 종료되도록 한다.
+ */
+public class ConnectionCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+    private static final ThreadLocal<long[]> ACQUIRED = ThreadLocal.withInitial(() -> new long[1]);
+
+    public ConnectionCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 획득한 커넥션 수
+     */
+    public static long acquiredOnCurrentThread() {
+        return ACQUIRED.get()[0];
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ACQUIRED.get()[0]++;
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        ACQUIRED.get()[0]++;
+        return super.getConnection(username, password);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package click.dailyfeed.member.config.datasource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 DataSource 를 ConnectionCountingDataSource 로 감싼다.
+ * (Hikari 메트릭은 Spring Boot 가 DelegatingDataSource 를 unwrap 해서 그대로 수집)
+ */
+@Component
+public class ConnectionCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionCountingDataSource)) {
+            return new ConnectionCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
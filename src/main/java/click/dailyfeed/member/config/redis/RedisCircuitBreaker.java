@@ -0,0 +1,234 @@
+package click.dailyfeed.member.config.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 토큰 검증 경로의 Redis 호출용 circuit breaker
+ *
+ * Redis 가 느려지거나 실패할 때 요청마다 timeout 을 기다린 뒤 MySQL 로 넘어가면, Redis 장애가 곧바로 MySQL 폭주로 이어진다.
+ * 최근 호출의 실패(예외 + 느린 호출) 비율이 임계치를 넘으면 OPEN 으로 전환해 Redis 를 호출하지 않고 바로 fallback 을 사용한다.
+ *
+ * - CLOSED    : 최근 redis.circuit-breaker.window-size 건 중 minimum-calls 이상 기록되었고 실패율이 failure-rate-threshold(%) 이상이면 OPEN
+ * - OPEN      : open-duration.millis 동안 Redis 호출 없이 fallback
+ * - HALF_OPEN : half-open-calls 건만 Redis 로 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ *
+ * 느린 호출(slow-call.millis 이상) 은 결과는 그대로 사용하되 실패로 기록한다.
+ * 메트릭 : redis.circuit_breaker.state (0=CLOSED, 1=OPEN, 2=HALF_OPEN), redis.circuit_breaker.transitions{from,to},
+ *         redis.circuit_breaker.calls{outcome=success|failure|slow|not_permitted}
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final MeterRegistry meterRegistry;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter slowCounter;
+    private final Counter notPermittedCounter;
+
+    private final boolean[] window;
+    private int windowPosition;
+    private int windowRecorded;
+    private int windowFailures;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAtMillis;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    @Value("${redis.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${redis.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${redis.circuit-breaker.slow-call.millis:200}")
+    private long slowCallMillis;
+
+    @Value("${redis.circuit-breaker.open-duration.millis:5000}")
+    private long openDurationMillis;
+
+    @Value("${redis.circuit-breaker.half-open-calls:5}")
+    private int halfOpenCalls;
+
+    public RedisCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${redis.circuit-breaker.window-size:50}") int windowSize
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.window = new boolean[windowSize];
+
+        this.successCounter = callCounter("success");
+        this.failureCounter = callCounter("failure");
+        this.slowCounter = callCounter("slow");
+        this.notPermittedCounter = callCounter("not_permitted");
+        Gauge.builder("redis.circuit_breaker.state", this, breaker -> breaker.getState().ordinal())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 호출, OPEN 상태이거나 호출이 실패하면 fallback 결과 반환
+     * (redisCall 이 null 을 반환하는 것은 정상 결과로 취급)
+     */
+    public <T> T execute(Supplier<T> redisCall, Supplier<T> fallback) {
+        if (!tryAcquirePermission()) {
+            notPermittedCounter.increment();
+            return fallback.get();
+        }
+
+        long startedAt = System.nanoTime();
+        T result;
+        try {
+            result = redisCall.get();
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            onResult(false);
+            log.debug("Redis call failed, using fallback: {}", e.getMessage());
+            return fallback.get();
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000L;
+        if (elapsedMillis >= slowCallMillis) {
+            slowCounter.increment();
+            onResult(false);
+        } else {
+            successCounter.increment();
+            onResult(true);
+        }
+        return result;
+    }
+
+    /**
+     * 결과가 없는 Redis 호출 (캐시 적재 등)
+     * @return Redis 호출이 실행되어 성공했으면 true
+     */
+    public boolean run(Runnable redisCall) {
+        return execute(() -> {
+            redisCall.run();
+            return Boolean.TRUE;
+        }, () -> Boolean.FALSE);
+    }
+
+    /**
+     * Redis 를 호출하지 않고 바로 fallback 을 사용하는 상태인지 (OPEN 이고 시험 호출 시각 전)
+     */
+    public boolean isOpen() {
+        return state == State.OPEN && System.currentTimeMillis() - openedAtMillis < openDurationMillis;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private boolean tryAcquirePermission() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+
+        if (current == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < openDurationMillis) {
+                return false;
+            }
+            synchronized (this) {
+                if (state == State.OPEN) {
+                    halfOpenPermits.set(halfOpenCalls);
+                    halfOpenSuccesses.set(0);
+                    transitionTo(State.HALF_OPEN);
+                }
+            }
+        }
+
+        return state == State.HALF_OPEN
+                ? halfOpenPermits.getAndDecrement() > 0
+                : state == State.CLOSED;
+    }
+
+    private void onResult(boolean success) {
+        State current = state;
+        if (current == State.HALF_OPEN) {
+            if (!success) {
+                synchronized (this) {
+                    if (state == State.HALF_OPEN) {
+                        open();
+                    }
+                }
+            } else if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls) {
+                synchronized (this) {
+                    if (state == State.HALF_OPEN) {
+                        resetWindow();
+                        transitionTo(State.CLOSED);
+                    }
+                }
+            }
+            return;
+        }
+
+        if (current != State.CLOSED) {
+            return;
+        }
+
+        synchronized (this) {
+            if (window[windowPosition]) {
+                windowFailures--;
+            }
+            window[windowPosition] = !success;
+            if (!success) {
+                windowFailures++;
+            }
+            windowPosition = (windowPosition + 1) % window.length;
+            windowRecorded = Math.min(windowRecorded + 1, window.length);
+
+            if (state == State.CLOSED
+                    && windowRecorded >= minimumCalls
+                    && windowFailures * 100 >= failureRateThreshold * windowRecorded) {
+                open();
+            }
+        }
+    }
+
+    private void open() {
+        openedAtMillis = System.currentTimeMillis();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void resetWindow() {
+        Arrays.fill(window, false);
+        windowPosition = 0;
+        windowRecorded = 0;
+        windowFailures = 0;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        Counter.builder("redis.circuit_breaker.transitions")
+                .tag("from", previous.name())
+                .tag("to", next.name())
+                .register(meterRegistry)
+                .increment();
+
+        if (next == State.OPEN) {
+            log.warn("Redis circuit breaker {} -> OPEN, using fallback for {} ms", previous, openDurationMillis);
+        } else {
+            log.info("Redis circuit breaker {} -> {}", previous, next);
+        }
+    }
+
+    private Counter callCounter(String outcome) {
+        return Counter.builder("redis.circuit_breaker.calls")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package click.dailyfeed.member.config.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 Pod 중 하나만 실행해야 하는 스케줄 작업용 Redis lock (SET NX + TTL)
+ *
+ * - TTL 이 지나면 자동 해제되므로, lock 을 잡은 Pod 이 죽어도 다음 주기에 다른 Pod 이 실행
+ * - 해제는 본인이 획득한 lock 일 때만 수행 (compare-and-delete)
+ * - Redis 장애 시 lock 획득 실패로 간주 (중복 실행보다 건너뛰는 쪽이 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaderLock {
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public boolean tryAcquire(String lockKey, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, instanceId, ttl));
+        } catch (Exception e) {
+            log.warn("Failed to acquire lock {}: {}", lockKey, e.getMessage());
+            return false;
+        }
+    }
+
+    public void release(String lockKey) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), instanceId);
+        } catch (Exception e) {
+            log.warn("Failed to release lock {}: {}", lockKey, e.getMessage());
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+}
@@ -0,0 +1,35 @@
+package click.dailyfeed.member.config.redis;
+
+import click.dailyfeed.member.domain.jwt.service.JtiBlacklistIndex;
+import click.dailyfeed.member.domain.jwt.service.JwtKeyRotationScheduler;
+import click.dailyfeed.member.domain.jwt.service.MemberRevocationEpoch;
+import click.dailyfeed.member.domain.member.redis.DeactivatedMemberIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisMessageListenerConfig {
+
+    /**
+     * 인증 관련 Pod 간 이벤트(pub/sub) 수신용 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer authenticationEventListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            JtiBlacklistIndex jtiBlacklistIndex,
+            JwtKeyRotationScheduler jwtKeyRotationScheduler,
+            MemberRevocationEpoch memberRevocationEpoch,
+            DeactivatedMemberIndex deactivatedMemberIndex
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(jtiBlacklistIndex, new ChannelTopic(JtiBlacklistIndex.BLACKLIST_CHANNEL));
+        container.addMessageListener(jwtKeyRotationScheduler, new ChannelTopic(JwtKeyRotationScheduler.KEY_EVENT_CHANNEL));
+        container.addMessageListener(memberRevocationEpoch, new ChannelTopic(MemberRevocationEpoch.EPOCH_CHANNEL));
+        container.addMessageListener(deactivatedMemberIndex, new ChannelTopic(DeactivatedMemberIndex.DEACTIVATED_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,181 @@
+package click.dailyfeed.member.config.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Redis List 기반 write-behind 대기열 (요청 경로에서는 적재만, DB 반영은 batch 로)
+ *
+ * 주기적으로 lock 을 획득한 Pod 하나가 대기열을 batch 단위로 꺼내 반영한다.
+ * - 대기열은 처리 중 목록({queueKey}:processing) 으로 옮겨서 꺼내고, 반영이 끝나야 지운다. (처리 중 Pod 이 죽어도 다음 주기에 같은 batch 를 다시 반영)
+ * - maxAttempts 번 연속 실패한 batch 는 dead letter({queueKey}:dead) 로 옮겨 이후 항목의 반영을 막지 않도록 한다.
+ *
+ * 같은 batch 가 다시 반영될 수 있으므로 반영 로직은 멱등이어야 한다.
+ *
+ * 메트릭 : jwt.write_behind.pending{queue}, jwt.write_behind.dead_letter{queue} (scrape 시점의 LLEN, Redis 를 쓸 수 없으면 NaN)
+ * dead letter 가 0 보다 크면 반영 실패 원인(로그의 "moved to dead letter") 을 해결한 뒤 대기열 뒤로 다시 옮긴다.
+ *   redis-cli LMOVE {queueKey}:dead {queueKey} LEFT RIGHT  (nil 이 나올 때까지 반복, 순서 유지)
+ */
+@Slf4j
+public class RedisWriteBehindQueue {
+
+    /**
+     * 처리할 batch 꺼내기 (처리 중 목록이 남아 있으면 그것부터 다시 처리)
+     * KEYS[1] = 대기열, KEYS[2] = 처리 중 목록
+     * ARGV[1] = batch 크기
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local pending = redis.call('LRANGE', KEYS[2], 0, -1) " +
+            "if #pending > 0 then return pending end " +
+            "local entries = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) " +
+            "if #entries == 0 then return entries end " +
+            "redis.call('LTRIM', KEYS[1], #entries, -1) " +
+            "redis.call('RPUSH', KEYS[2], unpack(entries)) " +
+            "return entries",
+            List.class
+    );
+
+    /**
+     * batch 반영 실패 기록
+     * KEYS[1] = 처리 중 목록, KEYS[2] = 실패 횟수, KEYS[3] = dead letter
+     * ARGV[1] = 최대 시도 횟수
+     * @return 실패 횟수 (dead letter 로 옮겼으면 -1)
+     */
+    private static final RedisScript<Long> FAIL_SCRIPT = new DefaultRedisScript<>(
+            "local attempts = redis.call('INCR', KEYS[2]) " +
+            "if attempts < tonumber(ARGV[1]) then return attempts end " +
+            "local entries = redis.call('LRANGE', KEYS[1], 0, -1) " +
+            "if #entries > 0 then redis.call('RPUSH', KEYS[3], unpack(entries)) end " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return -1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisLeaderLock redisLeaderLock;
+
+    // 로그에 표시할 대기열 이름
+    @Getter
+    private final String name;
+    @Getter
+    private final String queueKey;
+    private final String processingKey;
+    private final String attemptsKey;
+    private final String deadLetterKey;
+    private final String lockKey;
+
+    public RedisWriteBehindQueue(
+            String name,
+            String queueKey,
+            String lockKey,
+            RedisTemplate<String, String> stringRedisTemplate,
+            RedisLeaderLock redisLeaderLock,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.queueKey = queueKey;
+        this.processingKey = queueKey + ":processing";
+        this.attemptsKey = queueKey + ":attempts";
+        this.deadLetterKey = queueKey + ":dead";
+        this.lockKey = lockKey;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisLeaderLock = redisLeaderLock;
+
+        Gauge.builder("jwt.write_behind.pending", this, queue -> queue.sizeOrNaN(queue.queueKey))
+                .tag("queue", name)
+                .register(meterRegistry);
+        Gauge.builder("jwt.write_behind.dead_letter", this, queue -> queue.sizeOrNaN(queue.deadLetterKey))
+                .tag("queue", name)
+                .register(meterRegistry);
+    }
+
+    public void push(String entry) {
+        stringRedisTemplate.opsForList().rightPush(queueKey, entry);
+    }
+
+    /**
+     * lock 을 획득한 경우에만 최대 maxBatches 개의 batch 를 꺼내 persister 로 반영
+     * persister 가 예외를 던지면 batch 를 처리 중 목록에 남겨두고 이번 주기를 끝낸다.
+     */
+    public void flush(int batchSize, int maxBatches, int maxAttempts, Consumer<List<String>> persister) {
+        if (!redisLeaderLock.tryAcquire(lockKey, Duration.ofSeconds(30))) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                List<String> entries = claim(batchSize);
+                if (entries.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    persister.accept(entries);
+                    acknowledge();
+                } catch (Exception e) {
+                    long attempts = recordFailure(maxAttempts);
+                    if (attempts < 0) {
+                        log.error("Failed to persist {} {} entries {} times, moved to dead letter: {}",
+                                entries.size(), name, maxAttempts, e.getMessage());
+                    } else {
+                        log.error("Failed to persist {} {} entries (attempt {}), retrying next flush: {}",
+                                entries.size(), name, attempts, e.getMessage());
+                    }
+                    return;
+                }
+
+                if (entries.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("{} write-behind flush failed: {}", name, e.getMessage());
+        } finally {
+            redisLeaderLock.release(lockKey);
+        }
+    }
+
+    private double sizeOrNaN(String key) {
+        try {
+            Long size = stringRedisTemplate.opsForList().size(key);
+            return size == null ? 0 : size;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> claim(int batchSize) {
+        List<String> entries = stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(queueKey, processingKey),
+                String.valueOf(batchSize)
+        );
+        return entries == null ? List.of() : entries;
+    }
+
+    private void acknowledge() {
+        stringRedisTemplate.delete(List.of(processingKey, attemptsKey));
+    }
+
+    /**
+     * @return 실패 횟수 (maxAttempts 에 도달해 dead letter 로 옮겼으면 -1)
+     */
+    private long recordFailure(int maxAttempts) {
+        Long attempts = stringRedisTemplate.execute(
+                FAIL_SCRIPT,
+                List.of(processingKey, attemptsKey, deadLetterKey),
+                String.valueOf(maxAttempts)
+        );
+        return attempts == null ? 0 : attempts;
+    }
+}
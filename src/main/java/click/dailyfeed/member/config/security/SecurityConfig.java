@@ -1,16 +1,20 @@
 package click.dailyfeed.member.config.security;
 
+import click.dailyfeed.member.config.security.filter.AuthenticationFailureWriter;
 import click.dailyfeed.member.config.security.filter.JwtAuthenticationFilter;
+import click.dailyfeed.member.config.security.route.RouteClass;
+import click.dailyfeed.member.config.security.route.RouteTable;
 import click.dailyfeed.member.config.security.userdetails.CustomUserDetailsService;
-import click.dailyfeed.member.domain.jwt.service.JwtKeyHelper;
-import click.dailyfeed.member.domain.jwt.service.TokenService;
+import click.dailyfeed.member.domain.jwt.service.TokenVerifier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -29,12 +33,27 @@ import java.util.List;
 @Configuration
 public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
-    private final JwtKeyHelper jwtKeyHelper;
-    private final TokenService tokenService;
+    private final TokenVerifier tokenVerifier;
+
+    // BCrypt cost (변경 시 기존 해시는 로그인 성공 시점에 재해싱됨)
+    @Value("${security.password.bcrypt.strength:10}")
+    private int bcryptStrength;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
+    }
+
+    // 공개/헬스체크/내부/회원 경로 분류 (filter 와 authorizeHttpRequests 가 같은 표를 사용)
+    @Bean
+    public RouteTable routeTable() {
+        return RouteTable.defaults();
+    }
+
+    // 헬스체크, 정적 리소스, Swagger 는 Security filter chain 을 거치지 않음 (JWT, CORS, SecurityContext 처리 생략)
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer(RouteTable routeTable) {
+        return web -> web.ignoring().requestMatchers(routeTable.matcher(RouteClass.HEALTH, RouteClass.ASSET));
     }
 
     @Bean
@@ -66,7 +85,9 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity httpSecurity,
-            AuthenticationManager authenticationManager
+            AuthenticationManager authenticationManager,
+            RouteTable routeTable,
+            AuthenticationFailureWriter authenticationFailureWriter
     ) throws Exception {
 //        Key currentJwtKey = jwtKeyHelper.getCurrentJwtKey();
         try{
@@ -76,35 +97,16 @@ public class SecurityConfig {
                     .httpBasic(AbstractHttpConfigurer::disable)
                     .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                     .addFilterBefore(
-                            new JwtAuthenticationFilter(jwtKeyHelper, tokenService),
+                            new JwtAuthenticationFilter(tokenVerifier, routeTable, authenticationFailureWriter),
                             UsernamePasswordAuthenticationFilter.class
                     )
                     .sessionManagement(configurer -> configurer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                     .headers(configurer -> configurer.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
                     .authorizeHttpRequests(
                             configurer -> configurer
-                                    .requestMatchers(
-                                            "/",
-                                            "/welcome",
-                                            "/welcome/**",
-                                            "/img/**",
-                                            "/css/**",
-                                            "/api/authentication/login",
-                                            "/api/authentication/signup",
-                                            "/api/authentication/refresh",
-                                            "/api/token/refresh",  // Token refresh endpoint (Access Token 만료 시 호출되므로 인증 불필요)
-                                            "/healthcheck/**",
-                                            "/swagger-ui/**",       // istio 및 kubernetes 에서 Rule 적용
-                                            "/swagger-example/**",  // istio 및 kubernetes 에서 Rule 적용
-                                            "/swagger-ui.html",     // istio 및 kubernetes 에서 Rule 적용
-                                            "/api-docs", "/api-docs/**", "/v3/api-docs/**"  // istio 및 kubernetes 에서 Rule 적용
-                                    ).permitAll()
-                                    .requestMatchers(
-                                            "/api/authentication/logout",
-                                            "/api/authentication/logout-all",
-                                            "/api/members/**",
-                                            "/api/members/follow/**"
-                                    )
+                                    .requestMatchers(routeTable.matcher(RouteClass.HEALTH, RouteClass.ASSET, RouteClass.PUBLIC))
+                                    .permitAll()
+                                    .requestMatchers(routeTable.matcher(RouteClass.INTERNAL, RouteClass.MEMBER))
                                     .hasAnyRole("MEMBER", "MANAGER", "ADMIN")
                                     .anyRequest().authenticated()
                     )
@@ -0,0 +1,66 @@
+package click.dailyfeed.member.config.security.filter;
+
+import click.dailyfeed.code.domain.member.member.code.MemberHeaderCode;
+import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
+import click.dailyfeed.code.global.web.response.DailyfeedErrorResponse;
+import click.dailyfeed.member.domain.jwt.exception.TokenRejectedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * JwtAuthenticationFilter 의 인증 실패(401) 응답을 직접 작성
+ *
+ * 예외를 filter 밖으로 던지면 컨테이너의 /error 재디스패치(filter chain 재실행 + 예외 resolver) 를 거치므로,
+ * 거부 사유(TokenRejectedException.Reason) 에 맞는 헤더와 DailyfeedErrorResponse 본문을 이 자리에서 바로 쓴다.
+ * - X-Relogin-Required : 형식 오류, 알 수 없는 kid, 서명 불일치, claims 누락 (MemberControllerAdvice 의 토큰 오류 처리와 같음)
+ * - Bearer 토큰 없음 : 헤더 없이 401
+ * 만료는 Refresh Token 쿠키 상태에 따라 JwtAuthenticationFilter 가 X-Token-Refresh-Needed / X-Relogin-Required 로 응답한다.
+ *
+ * 메트릭 : authentication.rejections{reason=...}
+ */
+@Component
+public class AuthenticationFailureWriter {
+    private final ObjectMapper objectMapper;
+    private final Map<TokenRejectedException.Reason, Counter> rejectionCounters = new EnumMap<>(TokenRejectedException.Reason.class);
+
+    public AuthenticationFailureWriter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        for (TokenRejectedException.Reason reason : TokenRejectedException.Reason.values()) {
+            rejectionCounters.put(reason, Counter.builder("authentication.rejections")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void write(HttpServletRequest request, HttpServletResponse response, TokenRejectedException.Reason reason) throws IOException {
+        rejectionCounters.get(reason).increment();
+
+        if (requiresRelogin(reason)) {
+            response.setHeader(MemberHeaderCode.X_RELOGIN_REQUIRED.getHeaderKey(), "true");
+        }
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), DailyfeedErrorResponse.of(
+                HttpStatus.UNAUTHORIZED.value(),
+                ResponseSuccessCode.FAIL,
+                reason.getMessage(),
+                request.getRequestURI()
+        ));
+    }
+
+    private static boolean requiresRelogin(TokenRejectedException.Reason reason) {
+        return reason != TokenRejectedException.Reason.EXPIRED
+                && reason != TokenRejectedException.Reason.BEARER_TOKEN_MISSING;
+    }
+}
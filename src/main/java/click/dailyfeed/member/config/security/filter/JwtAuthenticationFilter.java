@@ -3,11 +3,14 @@ package click.dailyfeed.member.config.security.filter;
 import click.dailyfeed.code.domain.member.member.code.MemberHeaderCode;
 import click.dailyfeed.code.domain.member.member.predicate.BlackListedPredicate;
 import click.dailyfeed.code.global.jwt.predicate.JwtExpiredPredicate;
+import click.dailyfeed.member.config.datasource.ConnectionCountingDataSource;
+import click.dailyfeed.member.config.security.route.RouteTable;
 import click.dailyfeed.member.domain.jwt.dto.JwtDto;
-import click.dailyfeed.member.domain.jwt.service.JwtKeyHelper;
-import click.dailyfeed.member.domain.jwt.service.TokenService;
+import click.dailyfeed.member.domain.jwt.exception.TokenRejectedException;
+import click.dailyfeed.member.domain.jwt.mapper.JwtMapper;
+import click.dailyfeed.member.domain.jwt.service.TokenVerifier;
 import click.dailyfeed.member.domain.jwt.util.JwtProcessor;
-import io.jsonwebtoken.Claims;
+import click.dailyfeed.member.domain.jwt.util.VerifiedTokenContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,85 +27,135 @@ import java.util.Collections;
 
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtKeyHelper jwtKeyHelper;
-    private final TokenService tokenService;
+    private final TokenVerifier tokenVerifier;
+    private final RouteTable routeTable;
+    private final AuthenticationFailureWriter authenticationFailureWriter;
 
     public JwtAuthenticationFilter(
-            JwtKeyHelper jwtKeyHelper,
-            TokenService tokenService
+            TokenVerifier tokenVerifier,
+            RouteTable routeTable,
+            AuthenticationFailureWriter authenticationFailureWriter
     ) {
-        this.jwtKeyHelper = jwtKeyHelper;
-        this.tokenService = tokenService;
+        this.tokenVerifier = tokenVerifier;
+        this.routeTable = routeTable;
+        this.authenticationFailureWriter = authenticationFailureWriter;
+    }
+
+    /**
+     * 인증이 필요하지 않은 엔드포인트(RouteClass.PUBLIC 등) 는 JWT 검증을 건너뜀
+     * (HEALTH, ASSET 은 SecurityConfig 에서 filter chain 자체를 건너뛰므로 여기까지 오지 않음)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !routeTable.classify(request).isTokenRequired();
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String path = request.getRequestURI();
+        // 검증 구간에서 획득한 JDBC 커넥션 수 측정 (트랜잭션 없는 검증 경로이므로 대부분 0)
+        long acquiredBefore = ConnectionCountingDataSource.acquiredOnCurrentThread();
+        boolean authenticated;
+        try {
+            authenticated = authenticate(request, response);
+        } finally {
+            tokenVerifier.recordConnectionAcquisitions(ConnectionCountingDataSource.acquiredOnCurrentThread() - acquiredBefore);
+        }
 
-        // 인증이 필요하지 않은 엔드포인트는 JWT 검증을 건너뜀
-        if (shouldSkipAuthentication(path)) {
+        if (authenticated) {
             filterChain.doFilter(request, response);
-            return;
         }
+    }
 
-        String token = request.getHeader(HttpHeaders.AUTHORIZATION);
-        log.debug("JWT Filter - Path: {}, Has Auth Header: {}", path, token != null);
+    /**
+     * 토큰 검증 후 SecurityContext 설정
+     * 검증 실패는 예외를 filter 밖으로 던지지 않고 AuthenticationFailureWriter 로 401 을 바로 응답
+     * @return 다음 filter 로 진행할지 여부 (false 면 응답 헤더/상태가 이미 설정됨)
+     */
+    private boolean authenticate(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = request.getRequestURI();
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        log.debug("JWT Filter - Path: {}, Has Auth Header: {}", path, authHeader != null);
 
         // JWT 토큰 추출 (Bearer 제거)
-        token = JwtProcessor.getJwtFromHeaderOrThrow(token);
+        String token = JwtProcessor.getJwtFromHeaderOrNull(authHeader);
+        if (token == null) {
+            authenticationFailureWriter.write(request, response, TokenRejectedException.Reason.BEARER_TOKEN_MISSING);
+            return false;
+        }
 
-        // key id 추출
-        String keyId = JwtProcessor.extractKeyIdOrThrow(token);
-        Claims claims = jwtKeyHelper.readClaim(keyId, token);
+        // 토큰 검증 (kid 추출 + 서명 검증 + claims 파싱을 요청당 1회만 수행)
+        JwtDto.VerifiedToken verifiedToken;
+        try {
+            verifiedToken = tokenVerifier.verifyOrReject(token);
+        } catch (TokenRejectedException e) {
+            log.debug("Token rejected - Path: {}, Reason: {}", path, e.getReason());
+            if (e.getReason() == TokenRejectedException.Reason.EXPIRED) {
+                // 파싱 단계에서 만료가 확인된 경우 (memberId 를 알 수 없음)
+                handleExpiredAccessToken(request, response, null);
+            } else {
+                authenticationFailureWriter.write(request, response, e.getReason());
+            }
+            return false;
+        }
 
         // JTI 추출
-        String jti = jwtKeyHelper.extractJti(claims);
+        String jti = verifiedToken.getJti();
 
-        // 블랙리스트 확인
-        if (BlackListedPredicate.BLACKLISTED.equals(tokenService.isTokenBlacklisted(jti))) {
+        // 블랙리스트 확인 (로그아웃된 jti, 전체 디바이스 로그아웃 이전에 발급된 토큰)
+        if (BlackListedPredicate.BLACKLISTED.equals(tokenVerifier.isTokenBlacklisted(verifiedToken))) {
             log.debug("Token is blacklisted: JTI={}", jti);
             addReLoginRequiredAtResponseHeader(response);
-            return;
+            return false;
         }
 
-        // 토큰 검증 및 사용자 정보 추출
-        JwtDto.UserDetails userDetails = jwtKeyHelper.readUserDetailsFromToken(keyId, token);
+        // 사용자 정보 추출
+        JwtDto.UserDetails userDetails = JwtMapper.ofUserDetails(verifiedToken);
 
         // Access Token 만료 확인
         if (JwtExpiredPredicate.EXPIRED.equals(JwtProcessor.checkIfExpired(userDetails.getExpiration()))) {
-            // Access Token 만료됨 -> Refresh Token 확인
-            boolean hasCookie = hasRefreshTokenCookie(request);
-
-            if (!hasCookie) {
-                // 쿠키 없음 (서비스 간 통신) -> 토큰 갱신 필요
-                log.debug("Access Token expired, no cookie (service-to-service) - MemberId: {}", userDetails.getId());
-                addRefreshNeededAtResponseHeader(response);
-                return;
-            }
+            handleExpiredAccessToken(request, response, userDetails.getId());
+            return false;
+        }
+
+        // Access Token이 유효한 경우: 정상 처리
+        // Spring Security 인증 설정
+        cachingAuthenticationAtSecurityContext(userDetails.getId());
 
-            // 쿠키 있음 (브라우저 요청) -> Refresh Token 검증
-            JwtExpiredPredicate refreshTokenStatus = jwtKeyHelper.checkRefreshTokenExpiration(request);
+        // 검증 결과를 요청 범위에 저장 (ArgumentResolver, Controller 에서 재검증 없이 사용)
+        VerifiedTokenContext.save(request, verifiedToken);
 
-            if (JwtExpiredPredicate.EXPIRED.equals(refreshTokenStatus)) {
-                // Refresh Token도 만료됨 -> 재로그인 필요
-                log.warn("Both Access and Refresh Token expired - MemberId: {}", userDetails.getId());
-                addReLoginRequiredAtResponseHeader(response);
-                return;
-            }
+        // 만료된 JWT 생성 Key 로 만든 JWT 일 경우 (401 응답 x -> X-Token-Refresh-Needed 만 응답헤더에 심어서 응답)
+        tokenVerifier.checkAndRefreshHeader(verifiedToken, response);
+        return true;
+    }
 
-            // Refresh Token은 유효함 -> Access Token 갱신 필요
-            log.debug("Access Token expired, Refresh Token valid - MemberId: {}", userDetails.getId());
+    /**
+     * Access Token 만료 시 Refresh Token 쿠키 상태에 따라 갱신 필요 / 재로그인 필요 응답
+     */
+    private void handleExpiredAccessToken(HttpServletRequest request, HttpServletResponse response, Long memberId) {
+        // Access Token 만료됨 -> Refresh Token 확인
+        boolean hasCookie = hasRefreshTokenCookie(request);
+
+        if (!hasCookie) {
+            // 쿠키 없음 (서비스 간 통신) -> 토큰 갱신 필요
+            log.debug("Access Token expired, no cookie (service-to-service) - MemberId: {}", memberId);
             addRefreshNeededAtResponseHeader(response);
             return;
         }
 
-        // Access Token이 유효한 경우: 정상 처리
-        // Spring Security 인증 설정
-        cachingAuthenticationAtSecurityContext(userDetails.getId());
+        // 쿠키 있음 (브라우저 요청) -> Refresh Token 검증
+        JwtExpiredPredicate refreshTokenStatus = tokenVerifier.checkRefreshTokenExpiration(request);
 
-        // 만료된 JWT 생성 Key 로 만든 JWT 일 경우 (401 응답 x -> X-Token-Refresh-Needed 만 응답헤더에 심어서 응답)
-        jwtKeyHelper.checkAndRefreshHeader(token, response);
-        filterChain.doFilter(request, response);
+        if (JwtExpiredPredicate.EXPIRED.equals(refreshTokenStatus)) {
+            // Refresh Token도 만료됨 -> 재로그인 필요
+            log.warn("Both Access and Refresh Token expired - MemberId: {}", memberId);
+            addReLoginRequiredAtResponseHeader(response);
+            return;
+        }
+
+        // Refresh Token은 유효함 -> Access Token 갱신 필요
+        log.debug("Access Token expired, Refresh Token valid - MemberId: {}", memberId);
+        addRefreshNeededAtResponseHeader(response);
     }
 
     public void addReLoginRequiredAtResponseHeader(HttpServletResponse response) {
@@ -127,7 +180,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private boolean hasRefreshTokenCookie(HttpServletRequest request) {
-        return jwtKeyHelper.extractRefreshTokenFromCookie(request) != null;
+        return tokenVerifier.extractRefreshTokenFromCookie(request) != null;
     }
 
     /**
@@ -157,27 +210,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         return false;
     }
-
-    private boolean shouldSkipAuthentication(String path) {
-        return path.equals("/") ||
-               path.startsWith("/welcome") ||
-               path.startsWith("/img/") ||
-               path.startsWith("/css/") ||
-               path.equals("/api/authentication/login") ||
-               path.equals("/api/authentication/signup") ||
-               path.equals("/api/authentication/refresh") ||
-               path.equals("/api/token/refresh") ||  // Token refresh endpoint
-               path.startsWith("/swagger-ui/") ||
-               path.startsWith("/swagger-example/") ||
-               path.equals("/swagger-ui.html") ||
-               path.startsWith("/api-docs") ||
-               path.startsWith("/v3/api-docs/") ||
-               path.startsWith("/app-health/") ||  // Istio rewritten health checks (port 15020)
-               path.startsWith("/healthz") ||       // Kubernetes/Istio health checks
-               path.startsWith("/healthcheck/") ||  // Application health checks
-               path.equals("/healthcheck/ready") ||
-               path.equals("/healthcheck/live") ||
-               path.equals("/healthcheck/startup") ||
-               path.startsWith("/actuator/health"); // Spring Boot Actuator health
-    }
 }
@@ -0,0 +1,25 @@
+package click.dailyfeed.member.config.security.route;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 경로 분류
+ *
+ * - HEALTH, ASSET : Spring Security filter chain 자체를 건너뜀 (JWT, CORS, SecurityContext 처리 없음)
+ * - PUBLIC : filter chain 은 통과하지만 JWT 검증 없이 permitAll
+ * - INTERNAL : 다른 서비스가 호출하는 회원 조회 API (JWT 필요)
+ * - MEMBER : 그 외 모든 요청 (JWT 필요)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RouteClass {
+    HEALTH(false, true),
+    ASSET(false, true),
+    PUBLIC(false, false),
+    INTERNAL(true, false),
+    MEMBER(true, false);
+
+    private final boolean tokenRequired;
+    private final boolean securityBypassed;
+}
@@ -0,0 +1,142 @@
+package click.dailyfeed.member.config.security.route;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 경로 → RouteClass 분류표 (SecurityConfig 와 JwtAuthenticationFilter 가 함께 사용)
+ *
+ * 경로 목록은 defaults() 한 곳에서만 선언하고, 기동 시 경로 segment 단위 trie 로 한 번 만들어 둔다.
+ * 요청마다 startsWith/equals 를 나열해서 비교하지 않고, segment 수 만큼의 HashMap 조회로 분류한다.
+ *
+ * - "/a/b"    : 정확히 /a/b 만 일치
+ * - "/a/b/**" : /a/b 와 그 하위 경로 모두 일치 (Spring PathPattern 의 /** 와 동일)
+ * - 여러 pattern 이 일치하면 가장 긴(구체적인) pattern 이 우선, 일치하는 pattern 이 없으면 MEMBER
+ * - 빈 segment 는 무시 ("/a//b/" == "/a/b")
+ */
+public class RouteTable {
+    private static final String PREFIX_WILDCARD = "**";
+
+    private final Node root = new Node();
+
+    private RouteTable() {
+    }
+
+    public static RouteTable defaults() {
+        return new RouteTable()
+                .register(RouteClass.HEALTH,
+                        "/healthcheck/**",      // Application health checks
+                        "/healthz/**",          // Kubernetes/Istio health checks
+                        "/app-health/**",       // Istio rewritten health checks (port 15020)
+                        "/actuator/health/**"   // Spring Boot Actuator health
+                )
+                .register(RouteClass.ASSET,
+                        "/img/**",
+                        "/css/**",
+                        "/swagger-ui/**",       // istio 및 kubernetes 에서 Rule 적용
+                        "/swagger-example/**",  // istio 및 kubernetes 에서 Rule 적용
+                        "/swagger-ui.html",     // istio 및 kubernetes 에서 Rule 적용
+                        "/api-docs/**",         // istio 및 kubernetes 에서 Rule 적용
+                        "/v3/api-docs/**"       // istio 및 kubernetes 에서 Rule 적용
+                )
+                .register(RouteClass.PUBLIC,
+                        "/",
+                        "/welcome/**",
+                        "/api/authentication/login",
+                        "/api/authentication/signup",
+                        "/api/authentication/refresh",
+                        "/api/token/refresh",     // Token refresh endpoint (Access Token 만료 시 호출되므로 인증 불필요)
+                        "/.well-known/jwks.json"  // 공개키(JWKS), 다른 서비스의 로컬 토큰 검증용
+                )
+                .register(RouteClass.INTERNAL,
+                        "/api/members/query/**"   // 다른 서비스의 회원 목록 조회
+                )
+                .register(RouteClass.MEMBER,
+                        "/api/authentication/logout",
+                        "/api/authentication/logout-all",
+                        "/api/members/**"
+                );
+    }
+
+    public RouteClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+        return classify(path);
+    }
+
+    public RouteClass classify(String path) {
+        Node node = root;
+        RouteClass matched = node.prefixRouteClass;
+
+        int length = path.length();
+        int start = 0;
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                node = node.children.get(path.substring(start, end));
+                if (node == null) {
+                    return matched == null ? RouteClass.MEMBER : matched;
+                }
+                if (node.prefixRouteClass != null) {
+                    matched = node.prefixRouteClass;
+                }
+            }
+            start = end + 1;
+        }
+
+        if (node.exactRouteClass != null) {
+            return node.exactRouteClass;
+        }
+        return matched == null ? RouteClass.MEMBER : matched;
+    }
+
+    /**
+     * Spring Security 용 RequestMatcher (routeClasses 중 하나로 분류되는 요청과 일치)
+     */
+    public RequestMatcher matcher(RouteClass... routeClasses) {
+        Set<RouteClass> targets = EnumSet.noneOf(RouteClass.class);
+        targets.addAll(Set.of(routeClasses));
+        return request -> targets.contains(classify(request));
+    }
+
+    private RouteTable register(RouteClass routeClass, String... patterns) {
+        for (String pattern : patterns) {
+            Node node = root;
+            boolean prefix = false;
+            for (String segment : pattern.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (PREFIX_WILDCARD.equals(segment)) {
+                    prefix = true;
+                    break;
+                }
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+
+            if (prefix) {
+                node.prefixRouteClass = routeClass;
+            } else {
+                node.exactRouteClass = routeClass;
+            }
+        }
+        return this;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private RouteClass exactRouteClass;
+        private RouteClass prefixRouteClass;
+    }
+}
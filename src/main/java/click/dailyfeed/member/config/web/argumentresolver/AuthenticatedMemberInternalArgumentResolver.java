@@ -1,15 +1,19 @@
 package click.dailyfeed.member.config.web.argumentresolver;
 
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.code.domain.member.member.exception.MemberNotFoundException;
 import click.dailyfeed.code.global.jwt.exception.BearerTokenMissingException;
 import click.dailyfeed.member.config.web.annotation.InternalAuthenticatedMember;
 import click.dailyfeed.member.domain.jwt.dto.JwtDto;
-import click.dailyfeed.member.domain.jwt.service.JwtKeyHelper;
-import click.dailyfeed.member.domain.jwt.util.JwtProcessor;
+import click.dailyfeed.member.domain.jwt.mapper.JwtMapper;
+import click.dailyfeed.member.domain.jwt.service.TokenVerifier;
+import click.dailyfeed.member.domain.jwt.util.VerifiedTokenContext;
+import click.dailyfeed.member.domain.member.redis.DeactivatedMemberIndex;
 import click.dailyfeed.member.domain.member.redis.MemberRedisService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -17,11 +21,23 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.util.Optional;
+
+/**
+ * @InternalAuthenticatedMember MemberDto.Member 주입
+ *
+ * 서명이 검증된 토큰의 memberId 를 신뢰하고(trust-token), 탈퇴 여부만 DeactivatedMemberIndex 로 확인한다. (I/O 없음)
+ * DeactivatedMemberIndex 가 판정하지 못하거나 member.trust-token.enabled=false 이면 기존처럼 회원을 조회한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class AuthenticatedMemberInternalArgumentResolver implements HandlerMethodArgumentResolver {
-    private final JwtKeyHelper jwtKeyHelper;
+    private final TokenVerifier tokenVerifier;
     private final MemberRedisService memberRedisService;
+    private final DeactivatedMemberIndex deactivatedMemberIndex;
+
+    @Value("${member.trust-token.enabled:true}")
+    private boolean trustTokenEnabled;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -37,21 +53,37 @@ public class AuthenticatedMemberInternalArgumentResolver implements HandlerMetho
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
         HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
 
+        /// JwtAuthenticationFilter 에서 검증된 토큰 재사용 (없을 경우에만 직접 검증)
+        JwtDto.VerifiedToken verifiedToken = VerifiedTokenContext.find(request)
+                .orElseGet(() -> verifyToken(request, response));
+
+        if (trustTokenEnabled) {
+            Optional<Boolean> deactivated = deactivatedMemberIndex.isDeactivated(verifiedToken.getMemberId());
+            if (deactivated.isPresent()) {
+                if (deactivated.get()) {
+                    throw new MemberNotFoundException();
+                }
+                return JwtMapper.ofMember(verifiedToken);
+            }
+        }
+
+        MemberDto.Member memberOrThrow = memberRedisService.getMemberOrThrow(verifiedToken.getMemberId());
+        return memberOrThrow;
+    }
+
+    private JwtDto.VerifiedToken verifyToken(HttpServletRequest request, HttpServletResponse response) {
         /// jwt 추출
         String authHeader = request.getHeader("Authorization");
         String jwt = extractToken(authHeader);
 
-        /// key Id 추출
-        String keyId = JwtProcessor.extractKeyIdOrThrow(jwt);
-
-        /// jwt body 추출
-        JwtDto.UserDetails userDetails = jwtKeyHelper.readUserDetailsFromToken(keyId, jwt);
+        /// kid 추출 + jwt 검증 + body 추출
+        JwtDto.VerifiedToken verifiedToken = tokenVerifier.verifyToken(jwt);
 
         /// Key Refresh 필요한지 체크
-        jwtKeyHelper.checkAndRefreshHeader(jwt, response);
+        tokenVerifier.checkAndRefreshHeader(verifiedToken, response);
 
-        MemberDto.Member memberOrThrow = memberRedisService.getMemberOrThrow(userDetails.getId());
-        return memberOrThrow;
+        VerifiedTokenContext.save(request, verifiedToken);
+        return verifiedToken;
     }
 
     public String extractToken(String authHeader) {
@@ -8,9 +8,12 @@ import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.response.DailyfeedServerResponse;
 import click.dailyfeed.member.config.web.annotation.InternalAuthenticatedMember;
 import click.dailyfeed.member.domain.authentication.dto.AuthenticationDto;
+import click.dailyfeed.member.domain.authentication.service.AuthenticationRateLimiter;
 import click.dailyfeed.member.domain.authentication.service.AuthenticationService;
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
 import click.dailyfeed.member.domain.jwt.service.JwtKeyHelper;
 import click.dailyfeed.member.domain.jwt.service.TokenService;
+import click.dailyfeed.member.domain.jwt.util.VerifiedTokenContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -25,15 +28,19 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 public class AuthenticationController {
     private final AuthenticationService authenticationService;
+    private final AuthenticationRateLimiter authenticationRateLimiter;
     private final JwtKeyHelper jwtKeyHelper;
     private final TokenService tokenService;
 
     @PostMapping("/signup")
     public DailyfeedServerResponse<MemberDto.Member> signup(
-            @Valid @RequestBody AuthenticationDto.SignupRequest signupRequest
+            @Valid @RequestBody AuthenticationDto.SignupRequest signupRequest,
+            HttpServletRequest httpServletRequest
     ) {
         log.info("Received signup request - memberName: {}, countryCode: {}, email: {}",
                 signupRequest.getMemberName(), signupRequest.getCountryCode(), signupRequest.getEmail());
+        // 중복 조회, 비밀번호 해싱 전에 IP/email 단위 요청 제한
+        authenticationRateLimiter.checkSignupOrThrow(authenticationService.extractIpAddress(httpServletRequest), signupRequest.getEmail());
         return authenticationService.signup(signupRequest);
     }
 
@@ -43,6 +50,8 @@ public class AuthenticationController {
             HttpServletRequest httpServletRequest,
             HttpServletResponse httpServletResponse
     ) {
+        // 회원 조회, 비밀번호 검증 전에 IP/email 단위 요청 제한 (잠금 상태 포함)
+        authenticationRateLimiter.checkLoginOrThrow(authenticationService.extractIpAddress(httpServletRequest), loginRequest.getEmail());
         return authenticationService.login(loginRequest, httpServletRequest, httpServletResponse);
     }
 
@@ -81,11 +90,14 @@ public class AuthenticationController {
         try {
             String authHeader = request.getHeader("Authorization");
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String accessToken = authHeader.substring(7);
-                Long memberId = jwtKeyHelper.extractMemberId(accessToken);
-                tokenService.logoutAllDevices(memberId);
+                // 필터에서 검증된 토큰이 있으면 재사용, 없으면 직접 검증
+                Long memberId = VerifiedTokenContext.find(request)
+                        .map(JwtDto.VerifiedToken::getMemberId)
+                        .orElseGet(() -> jwtKeyHelper.extractMemberId(authHeader.substring(7)));
+                // Redis 장애로 Refresh Token 만 무효화했으면 false (이미 발급된 Access Token 은 만료될 때까지 유효)
+                boolean accessTokensRevoked = tokenService.logoutAllDevices(memberId);
                 return DailyfeedServerResponse.<Boolean>builder()
-                        .data(Boolean.TRUE)
+                        .data(accessTokensRevoked)
                         .status(HttpStatus.OK.value())
                         .result(ResponseSuccessCode.SUCCESS)
                         .build();
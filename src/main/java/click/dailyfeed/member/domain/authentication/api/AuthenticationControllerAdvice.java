@@ -8,10 +8,14 @@ import click.dailyfeed.code.domain.member.token.exception.TokenRefreshNeededExce
 import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.response.DailyfeedErrorResponse;
+import click.dailyfeed.member.domain.authentication.exception.AuthenticationRateLimitedException;
+import click.dailyfeed.member.domain.authentication.exception.PasswordHashingRejectedException;
+import click.dailyfeed.member.domain.jwt.exception.TokenRefreshRateLimitedException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -83,6 +87,42 @@ public class AuthenticationControllerAdvice {
         );
     }
 
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public DailyfeedErrorResponse handlePasswordHashingRejectedException(PasswordHashingRejectedException e, HttpServletRequest request, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return DailyfeedErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
+    @ExceptionHandler(AuthenticationRateLimitedException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public DailyfeedErrorResponse handleAuthenticationRateLimitedException(AuthenticationRateLimitedException e, HttpServletRequest request, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return DailyfeedErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
+    @ExceptionHandler(TokenRefreshRateLimitedException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public DailyfeedErrorResponse handleTokenRefreshRateLimitedException(TokenRefreshRateLimitedException e, HttpServletRequest request, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return DailyfeedErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
     // validation
     @ExceptionHandler(value = MethodArgumentNotValidException.class)
     public DailyfeedErrorResponse handleMethodArgumentNotValidException(
@@ -0,0 +1,16 @@
+package click.dailyfeed.member.domain.authentication.exception;
+
+import lombok.Getter;
+
+/**
+ * 로그인/회원가입 요청 한도 초과 또는 잠금 상태 (429, retryAfterSeconds 후 재시도)
+ */
+@Getter
+public class AuthenticationRateLimitedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public AuthenticationRateLimitedException(long retryAfterSeconds) {
+        super("Too many authentication attempts, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
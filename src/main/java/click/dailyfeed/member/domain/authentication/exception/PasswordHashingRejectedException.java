@@ -0,0 +1,10 @@
+package click.dailyfeed.member.domain.authentication.exception;
+
+/**
+ * 비밀번호 해싱 pool 이 포화 상태여서 요청을 거절한 경우 (503, 잠시 후 재시도)
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException() {
+        super("Password hashing is busy, please retry later");
+    }
+}
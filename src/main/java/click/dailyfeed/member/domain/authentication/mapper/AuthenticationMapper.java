@@ -15,8 +15,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class AuthenticationMapper {
     public Member newMember(AuthenticationDto.SignupRequest signupRequest, PasswordEncoder passwordEncoder, String roles){
+        return newMember(signupRequest, passwordEncoder.encode(signupRequest.getPassword()), roles);
+    }
+
+    public Member newMember(AuthenticationDto.SignupRequest signupRequest, String encodedPassword, String roles){
         Member member = Member.newMember()
-                .password(passwordEncoder.encode(signupRequest.getPassword()))
+                .password(encodedPassword)
                 .roles(roles)
                 .build();
 
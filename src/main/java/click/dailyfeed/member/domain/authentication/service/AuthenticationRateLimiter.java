@@ -0,0 +1,378 @@
+package click.dailyfeed.member.domain.authentication.service;
+
+import click.dailyfeed.member.domain.authentication.exception.AuthenticationRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인/회원가입 요청 제한 (Redis token bucket + 실패 누적 잠금)
+ *
+ * 회원 조회(findFirstByEmailFetchJoin) 나 BCrypt 해싱 전에 호출해서, credential stuffing 트래픽이
+ * DB 와 해싱 pool 까지 도달하지 않도록 한다.
+ *
+ * - member:authentication:rate_limit:{scope}:{id}         : token bucket (hash - tokens, ts)
+ * - member:authentication:rate_limit:failure:{scope}:{id} : 로그인 실패 횟수 (window 동안 유지)
+ * - member:authentication:rate_limit:lock:{scope}:{id}    : 잠금 (실패 횟수가 임계치에 도달하면 lockout 시간 동안 모든 요청 거절)
+ *
+ * scope 는 login:ip, login:email, signup:ip, signup:email 이며, IP 와 email 의 bucket 을 한 번의 script 호출로 검사/차감한다.
+ * Redis 장애 시에는 노드 로컬 token bucket 으로 대체한다. (Pod 단위 제한이므로 느슨하지만 해싱 pool 보호는 유지, 실패 누적 잠금은 생략)
+ * 로컬 bucket 이 security.rate-limit.local.max-entries 에 도달하면 다시 가득 찬(= 새 bucket 과 같은) bucket 만 정리하고,
+ * 그래도 자리가 없으면 새 key 는 scope 별 overflow bucket 하나를 함께 사용한다.
+ * (IP/email 을 바꿔가며 보내는 요청이 이미 소진된 bucket 을 밀어내지 못하도록)
+ */
+@Slf4j
+@Component
+public class AuthenticationRateLimiter {
+    private static final String KEY_PREFIX = "member:authentication:rate_limit:";
+    private static final String FAILURE_KEY_PREFIX = KEY_PREFIX + "failure:";
+    private static final String LOCK_KEY_PREFIX = KEY_PREFIX + "lock:";
+
+    private static final String LOGIN_IP = "login:ip";
+    private static final String LOGIN_EMAIL = "login:email";
+    private static final String SIGNUP_IP = "signup:ip";
+    private static final String SIGNUP_EMAIL = "signup:email";
+    private static final String OVERFLOW_ID = "*";
+    private static final long LOCAL_SWEEP_INTERVAL_MILLIS = 1_000L;
+
+    /**
+     * 여러 bucket 을 모두 검사한 뒤, 모두 통과한 경우에만 차감
+     * KEYS[2i-1] = bucket hash, KEYS[2i] = 잠금 key
+     * ARGV[1] = 현재시각(ms), ARGV[3i-1] = 용량, ARGV[3i] = ms 당 충전량, ARGV[3i+1] = bucket TTL(ms)
+     * 반환 : {0, 0, 0} 통과 / {i, 대기시간(ms), 1} 잠금 / {i, 대기시간(ms), 0} 한도 초과
+     */
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local remaining = {} " +
+            "for i = 1, #KEYS / 2 do " +
+            "  local lockTtl = redis.call('PTTL', KEYS[2 * i]) " +
+            "  if lockTtl > 0 then return {i, lockTtl, 1} end " +
+            "  local capacity = tonumber(ARGV[3 * i - 1]) " +
+            "  local rate = tonumber(ARGV[3 * i]) " +
+            "  local bucket = redis.call('HMGET', KEYS[2 * i - 1], 'tokens', 'ts') " +
+            "  local tokens = tonumber(bucket[1]) or capacity " +
+            "  local ts = tonumber(bucket[2]) or now " +
+            "  tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) " +
+            "  if tokens < 1 then return {i, math.ceil((1 - tokens) / rate), 0} end " +
+            "  remaining[i] = tokens - 1 " +
+            "end " +
+            "for i = 1, #KEYS / 2 do " +
+            "  redis.call('HSET', KEYS[2 * i - 1], 'tokens', tostring(remaining[i]), 'ts', ARGV[1]) " +
+            "  redis.call('PEXPIRE', KEYS[2 * i - 1], ARGV[3 * i + 1]) " +
+            "end " +
+            "return {0, 0, 0}",
+            List.class
+    );
+
+    /**
+     * 로그인 실패 누적, 임계치 도달 시 잠금
+     * KEYS[1] = 실패 횟수 key, KEYS[2] = 잠금 key
+     * ARGV[1] = 실패 집계 window(ms), ARGV[2] = 임계치, ARGV[3] = 잠금 시간(ms)
+     */
+    private static final RedisScript<Long> RECORD_FAILURE_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "if count >= tonumber(ARGV[2]) then " +
+            "  redis.call('SET', KEYS[2], '1', 'PX', ARGV[3]) " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final Map<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> lockedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> lockoutCounters = new ConcurrentHashMap<>();
+    private final Counter fallbackCounter;
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextLocalSweepAtMillis = new AtomicLong();
+
+    @Value("${security.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.rate-limit.login.ip.capacity:30}")
+    private int loginIpCapacity;
+
+    @Value("${security.rate-limit.login.ip.refill-per-minute:30}")
+    private int loginIpRefillPerMinute;
+
+    @Value("${security.rate-limit.login.email.capacity:10}")
+    private int loginEmailCapacity;
+
+    @Value("${security.rate-limit.login.email.refill-per-minute:5}")
+    private int loginEmailRefillPerMinute;
+
+    @Value("${security.rate-limit.signup.ip.capacity:5}")
+    private int signupIpCapacity;
+
+    @Value("${security.rate-limit.signup.ip.refill-per-minute:2}")
+    private int signupIpRefillPerMinute;
+
+    @Value("${security.rate-limit.signup.email.capacity:3}")
+    private int signupEmailCapacity;
+
+    @Value("${security.rate-limit.signup.email.refill-per-minute:1}")
+    private int signupEmailRefillPerMinute;
+
+    @Value("${security.rate-limit.lockout.window.minutes:15}")
+    private long lockoutWindowMinutes;
+
+    @Value("${security.rate-limit.lockout.duration.minutes:15}")
+    private long lockoutDurationMinutes;
+
+    @Value("${security.rate-limit.lockout.email.threshold:10}")
+    private int emailLockoutThreshold;
+
+    @Value("${security.rate-limit.lockout.ip.threshold:100}")
+    private int ipLockoutThreshold;
+
+    @Value("${security.rate-limit.local.max-entries:100000}")
+    private int maxLocalEntries;
+
+    public AuthenticationRateLimiter(
+            @Qualifier("stringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        for (String scope : List.of(LOGIN_IP, LOGIN_EMAIL, SIGNUP_IP, SIGNUP_EMAIL)) {
+            throttledCounters.put(scope, Counter.builder("authentication.rate_limit.rejected")
+                    .tag("scope", scope)
+                    .tag("reason", "throttled")
+                    .register(meterRegistry));
+            lockedCounters.put(scope, Counter.builder("authentication.rate_limit.rejected")
+                    .tag("scope", scope)
+                    .tag("reason", "locked")
+                    .register(meterRegistry));
+            lockoutCounters.put(scope, Counter.builder("authentication.rate_limit.lockout")
+                    .tag("scope", scope)
+                    .register(meterRegistry));
+        }
+        this.fallbackCounter = Counter.builder("authentication.rate_limit.fallback").register(meterRegistry);
+    }
+
+    /**
+     * 로그인 요청 허용 여부 확인 (회원 조회/비밀번호 검증 전에 호출)
+     * @throws AuthenticationRateLimitedException 한도 초과 또는 잠금 상태
+     */
+    public void checkLoginOrThrow(String ipAddress, String email) {
+        acquireOrThrow(List.of(
+                new Limit(LOGIN_IP, ipAddress, loginIpCapacity, loginIpRefillPerMinute),
+                new Limit(LOGIN_EMAIL, normalizeEmail(email), loginEmailCapacity, loginEmailRefillPerMinute)
+        ));
+    }
+
+    /**
+     * 회원가입 요청 허용 여부 확인 (중복 조회/비밀번호 해싱 전에 호출)
+     * @throws AuthenticationRateLimitedException 한도 초과 또는 잠금 상태
+     */
+    public void checkSignupOrThrow(String ipAddress, String email) {
+        acquireOrThrow(List.of(
+                new Limit(SIGNUP_IP, ipAddress, signupIpCapacity, signupIpRefillPerMinute),
+                new Limit(SIGNUP_EMAIL, normalizeEmail(email), signupEmailCapacity, signupEmailRefillPerMinute)
+        ));
+    }
+
+    /**
+     * 로그인 실패 (없는 회원, 비밀번호 불일치) 누적
+     * email, IP 별로 lockout.window 안에 임계치만큼 실패하면 lockout.duration 동안 잠금
+     */
+    public void recordLoginFailure(String ipAddress, String email) {
+        if (!enabled) {
+            return;
+        }
+        recordFailure(LOGIN_EMAIL, normalizeEmail(email), emailLockoutThreshold);
+        recordFailure(LOGIN_IP, ipAddress, ipLockoutThreshold);
+    }
+
+    /**
+     * 로그인 성공 시 email 의 실패 횟수 초기화 (IP 는 여러 계정이 공유하므로 유지)
+     */
+    public void resetLoginFailures(String email) {
+        String id = normalizeEmail(email);
+        if (!enabled || id == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(FAILURE_KEY_PREFIX + LOGIN_EMAIL + ":" + id);
+        } catch (Exception e) {
+            log.warn("Failed to reset login failures: {}", e.getMessage());
+        }
+    }
+
+    private void acquireOrThrow(List<Limit> candidates) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Limit> limits = candidates.stream()
+                .filter(limit -> limit.id() != null)
+                .toList();
+        if (limits.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<String> keys = new ArrayList<>(limits.size() * 2);
+        List<String> args = new ArrayList<>(limits.size() * 3 + 1);
+        args.add(String.valueOf(now));
+        for (Limit limit : limits) {
+            keys.add(KEY_PREFIX + limit.scope() + ":" + limit.id());
+            keys.add(LOCK_KEY_PREFIX + limit.scope() + ":" + limit.id());
+            args.add(String.valueOf(limit.capacity()));
+            args.add(String.valueOf(limit.refillPerMillis()));
+            args.add(String.valueOf(limit.bucketTtlMillis()));
+        }
+
+        List<?> result;
+        try {
+            result = stringRedisTemplate.execute(ACQUIRE_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.warn("Rate limit check failed, falling back to local buckets: {}", e.getMessage());
+            fallbackCounter.increment();
+            acquireLocallyOrThrow(limits, now);
+            return;
+        }
+
+        if (result == null || result.size() < 3 || toLong(result.get(0)) == 0L) {
+            return;
+        }
+
+        Limit rejected = limits.get((int) toLong(result.get(0)) - 1);
+        boolean locked = toLong(result.get(2)) == 1L;
+        (locked ? lockedCounters : throttledCounters).get(rejected.scope()).increment();
+        throw new AuthenticationRateLimitedException(toRetryAfterSeconds(toLong(result.get(1))));
+    }
+
+    private void acquireLocallyOrThrow(List<Limit> limits, long now) {
+        if (localBuckets.size() >= maxLocalEntries) {
+            evictRefilledLocalBuckets(now);
+        }
+
+        for (Limit limit : limits) {
+            LocalBucket bucket = localBucketOf(limit, now);
+            long waitMillis = bucket.tryAcquire(limit, now);
+            if (waitMillis > 0) {
+                throttledCounters.get(limit.scope()).increment();
+                throw new AuthenticationRateLimitedException(toRetryAfterSeconds(waitMillis));
+            }
+        }
+    }
+
+    /**
+     * 로컬 bucket 조회, 자리가 없으면 새 key 는 scope 의 overflow bucket 을 사용
+     */
+    private LocalBucket localBucketOf(Limit limit, long now) {
+        LocalBucket bucket = localBuckets.get(limit.scope() + ":" + limit.id());
+        if (bucket != null) {
+            return bucket;
+        }
+        String key = localBuckets.size() < maxLocalEntries
+                ? limit.scope() + ":" + limit.id()
+                : limit.scope() + ":" + OVERFLOW_ID;
+        return localBuckets.computeIfAbsent(key, ignored -> new LocalBucket(limit.capacity(), now));
+    }
+
+    /**
+     * 다시 가득 찬 bucket 정리 (전체 순회이므로 LOCAL_SWEEP_INTERVAL_MILLIS 에 한 번만)
+     */
+    private void evictRefilledLocalBuckets(long now) {
+        long nextSweepAt = nextLocalSweepAtMillis.get();
+        if (now < nextSweepAt || !nextLocalSweepAtMillis.compareAndSet(nextSweepAt, now + LOCAL_SWEEP_INTERVAL_MILLIS)) {
+            return;
+        }
+        int before = localBuckets.size();
+        localBuckets.values().removeIf(bucket -> bucket.isRefilledAt(now));
+        log.debug("Evicted refilled local rate limit buckets: {}", before - localBuckets.size());
+    }
+
+    private void recordFailure(String scope, String id, int threshold) {
+        if (id == null) {
+            return;
+        }
+        try {
+            Long locked = stringRedisTemplate.execute(
+                    RECORD_FAILURE_SCRIPT,
+                    List.of(FAILURE_KEY_PREFIX + scope + ":" + id, LOCK_KEY_PREFIX + scope + ":" + id),
+                    String.valueOf(lockoutWindowMinutes * 60_000L),
+                    String.valueOf(threshold),
+                    String.valueOf(lockoutDurationMinutes * 60_000L)
+            );
+            if (Long.valueOf(1L).equals(locked)) {
+                lockoutCounters.get(scope).increment();
+                log.info("Authentication locked. scope: {}, duration: {}m", scope, lockoutDurationMinutes);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to record login failure. scope: {}, {}", scope, e.getMessage());
+        }
+    }
+
+    private String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    private long toRetryAfterSeconds(long waitMillis) {
+        return Math.max(1L, (waitMillis + 999L) / 1000L);
+    }
+
+    private record Limit(String scope, String id, int capacity, int refillPerMinute) {
+        double refillPerMillis() {
+            return refillPerMinute / 60_000d;
+        }
+
+        // 비어있는 bucket 이 가득 찰 때까지의 시간 (그 이후의 상태는 새 bucket 과 같으므로 key 를 유지할 필요 없음)
+        long bucketTtlMillis() {
+            return (long) Math.ceil(capacity / refillPerMillis()) + 1_000L;
+        }
+    }
+
+    private static final class LocalBucket {
+        private double tokens;
+        private long updatedAtMillis;
+        // 이 시각 이후에는 가득 찬 상태 (새 bucket 과 같으므로 지워도 됨)
+        private long refilledAtMillis;
+
+        private LocalBucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAtMillis = now;
+            this.refilledAtMillis = now;
+        }
+
+        private synchronized long tryAcquire(Limit limit, long now) {
+            tokens = Math.min(limit.capacity(), tokens + Math.max(0L, now - updatedAtMillis) * limit.refillPerMillis());
+            updatedAtMillis = Math.max(updatedAtMillis, now);
+            if (tokens < 1d) {
+                return (long) Math.ceil((1d - tokens) / limit.refillPerMillis());
+            }
+            tokens -= 1d;
+            refilledAtMillis = updatedAtMillis + (long) Math.ceil((limit.capacity() - tokens) / limit.refillPerMillis());
+            return 0L;
+        }
+
+        private synchronized boolean isRefilledAt(long now) {
+            return now >= refilledAtMillis;
+        }
+    }
+}
@@ -12,15 +12,19 @@ import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.response.DailyfeedServerResponse;
 import click.dailyfeed.member.domain.authentication.dto.AuthenticationDto;
+import click.dailyfeed.member.domain.authentication.exception.PasswordHashingRejectedException;
 import click.dailyfeed.member.domain.authentication.mapper.AuthenticationMapper;
 import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import click.dailyfeed.member.domain.jwt.exception.TokenRefreshRateLimitedException;
 import click.dailyfeed.member.domain.jwt.mapper.JwtMapper;
 import click.dailyfeed.member.domain.jwt.service.JwtKeyHelper;
 import click.dailyfeed.member.domain.jwt.service.TokenService;
 import click.dailyfeed.member.domain.jwt.util.JwtProcessor;
+import click.dailyfeed.member.domain.jwt.util.VerifiedTokenContext;
 import click.dailyfeed.member.domain.member.entity.Member;
 import click.dailyfeed.member.domain.member.entity.MemberProfile;
 import click.dailyfeed.member.domain.member.mapper.MemberProfileMapper;
+import click.dailyfeed.member.domain.member.redis.DeactivatedMemberIndex;
 import click.dailyfeed.member.domain.member.repository.jpa.MemberProfileRepository;
 import click.dailyfeed.member.domain.member.repository.jpa.MemberRepository;
 import jakarta.servlet.http.Cookie;
@@ -33,50 +37,77 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class AuthenticationService {
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final AuthenticationRateLimiter authenticationRateLimiter;
     private final MemberRepository memberRepository;
     private final MemberProfileRepository memberProfileRepository;
     private final JwtKeyHelper jwtKeyHelper;
     private final TokenService tokenService;
     private final AuthenticationMapper authenticationMapper;
     private final MemberProfileMapper memberProfileMapper;
+    private final DeactivatedMemberIndex deactivatedMemberIndex;
 
     @Value("${spring.profiles.active:default}")
     private String activeProfile;
 
-    @Transactional
+    /**
+     * 로그인
+     *
+     * BCrypt 검증/재해싱(PasswordHashingService, 최대 수 초) 동안 JDBC 커넥션을 잡지 않도록 트랜잭션 없이 수행한다.
+     * 회원/프로필 조회는 Repository 의 readOnly 트랜잭션, 재해싱 저장은 짧은 UPDATE 트랜잭션, 토큰 발급은 TokenService 가 맡는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DailyfeedServerResponse<MemberProfileDto.Summary> login(
             AuthenticationDto.LoginRequest loginRequest,
             HttpServletRequest request,
             HttpServletResponse response) {
-        Member member = getMemberOrThrow(loginRequest);
-        String encryptedPassword = member.getPassword();
+        // 요청 제한(AuthenticationRateLimiter.checkLoginOrThrow) 은 Controller 에서 확인
+        // 없는 회원, 비밀번호 불일치는 실패로 누적 (임계치 도달 시 잠금)
+        String ipAddress = extractIpAddress(request);
+        Member member;
+        try {
+            member = getMemberOrThrow(loginRequest);
+            checkIfPasswordMatchesOrThrow(loginRequest.getPassword(), member.getPassword());
+        } catch (MemberNotFoundException | MemberPasswordInvalidException e) {
+            authenticationRateLimiter.recordLoginFailure(ipAddress, loginRequest.getEmail());
+            throw e;
+        }
+        authenticationRateLimiter.resetLoginFailures(loginRequest.getEmail());
 
-        checkIfPasswordMatchesOrThrow(loginRequest.getPassword(), encryptedPassword);
+        // 저장된 해시의 cost 가 설정값과 다르면 재해싱
+        rehashPasswordIfNeeded(member, loginRequest.getPassword());
+
+        // 응답과 Access Token 의 프로필 claims 에 함께 사용
+        MemberProfile memberProfile = memberProfileRepository
+                .findMemberProfileByMemberId(member.getId())
+                .orElseThrow(MemberNotFoundException::new);
 
         // UserDetails 생성 (만료 시간은 JwtKeyHelper에서 생성)
         Date expirationDate = jwtKeyHelper.generateAccessTokenExpiration();
         JwtDto.UserDetails userDetails = JwtMapper.ofUserDetails(
                 member.getId(),
-                expirationDate
+                expirationDate,
+                memberProfile
         );
 
-        // 디바이스 정보, IP 추출
+        // 디바이스 정보 추출
         String deviceInfo = extractDeviceInfo(request);
-        String ipAddress = extractIpAddress(request);
 
         // 토큰 쌍 생성
         TokenService.TokenPair tokenPair = tokenService.generateTokenPair(
@@ -91,10 +122,6 @@ public class AuthenticationService {
         // 리프레시 토큰은 HttpOnly 쿠키로 설정
         setRefreshTokenCookie(response, tokenPair.getRefreshToken());
 
-        MemberProfile memberProfile = memberProfileRepository
-                .findMemberProfileByMemberId(member.getId())
-                .orElseThrow(MemberNotFoundException::new);
-
         return DailyfeedServerResponse.<MemberProfileDto.Summary>builder()
                 .status(HttpStatus.OK.value())
                 .result(ResponseSuccessCode.SUCCESS)
@@ -104,15 +131,37 @@ public class AuthenticationService {
 
     public Boolean deactivate(Long id) {
         memberRepository.deleteById(id);
+        // 토큰의 memberId 를 신뢰하는 경로(AuthenticatedMemberInternalArgumentResolver) 에서 차단되도록 deny set 에 기록
+        // 커밋이 실패하면 남아 있는 회원이 차단되지 않도록 삭제가 커밋된 뒤에 기록
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    deactivatedMemberIndex.deactivate(id);
+                } catch (Exception e) {
+                    // 이 Pod 에는 반영됨 (다른 Pod 은 Access Token 이 만료될 때까지 차단되지 않을 수 있음)
+                    log.error("Failed to record deactivated member in Redis. memberId: {}, {}", id, e.getMessage());
+                }
+            }
+        });
         return false;
     }
 
+    /**
+     * 회원가입
+     *
+     * BCrypt 해싱(PasswordHashingService, 최대 수 초) 동안 JDBC 커넥션을 잡지 않도록 트랜잭션 없이 수행한다.
+     * 해싱을 먼저 끝낸 뒤 중복 조회는 Repository 의 readOnly 트랜잭션, 저장은 save 의 짧은 트랜잭션으로 수행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DailyfeedServerResponse<MemberDto.Member> signup(AuthenticationDto.SignupRequest signupRequest) {
+        String encodedPassword = passwordHashingService.encode(signupRequest.getPassword());
+
         if (MemberExistsPredicate.EXISTS.equals(checkIfMemberAlreadyExists(signupRequest))) {
             throw new MemberAlreadyExistsException();
         }
 
-        Member newMember = authenticationMapper.newMember(signupRequest, passwordEncoder, "MEMBER");
+        Member newMember = authenticationMapper.newMember(signupRequest, encodedPassword, "MEMBER");
         Member saved = memberRepository.save(newMember);
 
         return DailyfeedServerResponse.<MemberDto.Member>builder()
@@ -122,11 +171,18 @@ public class AuthenticationService {
                 .build();
     }
 
+    // 로그아웃은 Redis 에만 기록하므로 트랜잭션(커넥션) 을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DailyfeedServerResponse<Boolean> logout(HttpServletRequest request, HttpServletResponse response) {
         try {
             String authHeader = request.getHeader("Authorization");
+            Optional<JwtDto.VerifiedToken> verifiedToken = VerifiedTokenContext.find(request);
 
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            if (verifiedToken.isPresent()) {
+                // 로그아웃 처리 (필터에서 검증된 토큰 재사용)
+                tokenService.logout(verifiedToken.get());
+            }
+            else if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String accessToken = authHeader.substring(7);
                 Long memberId = jwtKeyHelper.extractMemberId(accessToken);
 
@@ -156,6 +212,8 @@ public class AuthenticationService {
         }
     }
 
+    // Redis 선점/회전 대기 동안 커넥션을 잡지 않도록 트랜잭션 없이 TokenService.refreshTokens 호출
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DailyfeedServerResponse<AuthenticationDto.TokenRefreshResponse> refreshToken(
             HttpServletRequest request,
             HttpServletResponse response) {
@@ -185,6 +243,9 @@ public class AuthenticationService {
                     .data(refeshResponse)
                     .build();
 
+        } catch (TokenRefreshRateLimitedException e) {
+            // 재로그인이 아니라 Retry-After 후 재시도하도록 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("Token refresh error: {}", e.getMessage());
             throw new InvalidTokenException("Token refresh failed");
@@ -252,7 +313,7 @@ public class AuthenticationService {
         return request.getHeader("User-Agent");
     }
 
-    protected String extractIpAddress(HttpServletRequest request) {
+    public String extractIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
             return xForwardedFor.split(",")[0].trim();
@@ -268,11 +329,32 @@ public class AuthenticationService {
     }
 
     public void checkIfPasswordMatchesOrThrow(String requestPassword, String encryptedPassword) {
-        if (!passwordEncoder.matches(requestPassword, encryptedPassword)) {
+        if (!passwordHashingService.matches(requestPassword, encryptedPassword)) {
             throw new MemberPasswordInvalidException();
         }
     }
 
+    /**
+     * 로그인 성공 시 저장된 해시의 BCrypt cost 가 설정값(security.password.bcrypt.strength) 과 다르면 새 cost 로 재해싱
+     * (cost 변경 시 별도 마이그레이션 없이 로그인하는 회원부터 점진적으로 반영)
+     * 해싱은 트랜잭션 밖에서 수행하고, 조회 이후 비밀번호가 바뀌지 않은 경우에만 UPDATE 한다.
+     */
+    public void rehashPasswordIfNeeded(Member member, String requestPassword) {
+        if (!passwordHashingService.needsRehash(member.getPassword())) {
+            return;
+        }
+
+        try {
+            String rehashed = passwordHashingService.encode(requestPassword);
+            if (memberRepository.updatePasswordIfUnchanged(member.getId(), member.getPassword(), rehashed) > 0) {
+                log.debug("Password rehashed with configured cost. memberId: {}", member.getId());
+            }
+        } catch (PasswordHashingRejectedException e) {
+            // 재해싱은 다음 로그인에서 다시 시도
+            log.debug("Skipping password rehash, hashing pool is busy. memberId: {}", member.getId());
+        }
+    }
+
     @Transactional(readOnly = true)
     public MemberExistsPredicate checkIfMemberAlreadyExists(AuthenticationDto.SignupRequest signupRequest) {
         if (memberRepository.findFirstByEmailFetchJoin(signupRequest.getEmail()).isPresent()) {
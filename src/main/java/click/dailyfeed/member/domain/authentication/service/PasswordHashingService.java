@@ -0,0 +1,144 @@
+package click.dailyfeed.member.domain.authentication.service;
+
+import click.dailyfeed.member.domain.authentication.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱/검증 전용 제한 pool
+ *
+ * BCrypt 는 의도적으로 느린 CPU 연산이므로 Tomcat 요청 스레드에서 실행하면 로그인 폭주 시 모든 worker 가 점유되어
+ * 가벼운 조회 요청까지 대기하게 된다. 해싱은 크기가 고정된 pool 에서만 실행하고,
+ * 대기열이 가득 차거나 대기 시간이 초과되면 즉시 PasswordHashingRejectedException (503) 으로 거절한다.
+ *
+ * - pool : security.password.hashing.threads (기본값 CPU 수), 대기열 security.password.hashing.queue-capacity
+ * - 메트릭 : password.hashing.queue.size, password.hashing.active, password.hashing.rejected, password.hashing.duration
+ * - 재해싱 : 저장된 BCrypt cost 가 security.password.bcrypt.strength 와 다르면 needsRehash() == true
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+    private final Timer hashingTimer;
+
+    @Value("${security.password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // 대기열에서 기다린 시간을 포함한 최대 대기 시간
+    @Value("${security.password.hashing.timeout.millis:3000}")
+    private long timeoutMillis;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        this.passwordEncoder = passwordEncoder;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        this.hashingTimer = Timer.builder("password.hashing.duration").register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+
+        log.info("Password hashing pool - threads: {}, queue capacity: {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 비밀번호 검증 (hashing pool 에서 실행)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submitAndWait(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 해싱 (hashing pool 에서 실행)
+     */
+    public String encode(String rawPassword) {
+        return submitAndWait(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시의 BCrypt cost 가 설정값과 다르면 true (로그인 성공 시 재해싱 대상)
+     * 형식 : $2a$10$... / $2b$12$... (BCrypt 가 아닌 해시는 대상 아님)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != bcryptStrength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submitAndWait(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashingTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -24,58 +24,46 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     List<Follow> findFollowingByMember(Member member);
 
     // 팔로잉 조회 (내가 팔로우하는 사람들)
+    // member 테이블과 조인하지 않고 FOLLOWING_ID 만 조회 (탈퇴 회원의 팔로우는 Member 삭제 시 함께 삭제되고,
+    // 이어지는 프로필 조회(findWithImagesByMemberIdsIn) 는 존재하는 회원만 반환)
     @Query("SELECT f.following.id " +
             "FROM Follow f " +
-            "INNER JOIN f.following following " +
-            "INNER JOIN Member followingMember ON followingMember.id = following.id " +
             "WHERE f.follower = :member")
     Page<Follow> findFollowingsByMember(@Param("member") Member member, Pageable pageable);
 
     // 팔로잉 조회 (내가 팔로우하는 사람들)
     @Query("SELECT f.following.id " +
             "FROM Follow f " +
-            "INNER JOIN f.following following " +
-            "INNER JOIN Member followingMember ON followingMember.id = following.id " +
             "WHERE f.follower = :member")
     Slice<Long> findFollowingsIdByMember(@Param("member") Member member, Pageable pageable);
 
     // id 기반 조회 (아직 결정을 못함)
     @Query("SELECT f.following.id " +
             "FROM Follow f " +
-            "INNER JOIN f.following following " +
-            "INNER JOIN Member followingMember ON followingMember.id = following.id " +
             "WHERE f.follower.id = :memberId")
     Slice<Long> findFollowingsIdByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
     // 팔로잉 조회 (내가 팔로우하는 사람들) - 피드 조회 용도
     @Query("SELECT f.following.id " +
             "FROM Follow f " +
-            "INNER JOIN f.following following " +
-            "INNER JOIN Member followingMember ON followingMember.id = following.id " +
             "WHERE f.follower = :member")
     List<Long> findFollowingsIdByMember(@Param("member") Member member);
 
     // 팔로잉 조회 (내가 팔로우하는 사람들) - 피드 조회 용도
     @Query("SELECT f.following.id " +
             "FROM Follow f " +
-            "INNER JOIN f.following following " +
-            "INNER JOIN Member followingMember ON followingMember.id = following.id " +
             "WHERE f.follower.id = :memberId")
     List<Long> findFollowingsIdByMemberId(@Param("memberId") Long memberId);
 
     // memberId 가 someone 을 following 중인지
     @Query("SELECT COUNT(f.following.id) " +
             "FROM Follow f " +
-            "INNER JOIN f.following following " +
-            "INNER JOIN Member m ON m.id = following.id " + // member 테이블에 존재하는지 체크
             "WHERE f.follower.id = :memberId ")
     Long countMemberFollowing(@Param("memberId") Long memberId);
 
     // memberId 가 someone 을 following 중인지
     @Query("SELECT f.following.id " +
             "FROM Follow f " +
-            "INNER JOIN f.following following " +
-            "INNER JOIN Member m ON m.id = following.id " + // member 테이블에 존재하는지 체크
             "WHERE f.follower.id = :memberId " +
             "AND f.following.id = :someoneId")
     Optional<Follow> findMemberFollowingSomeone(@Param("memberId") Long memberId, @Param("someoneId") Long someoneId);
@@ -83,14 +71,12 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 팔로워 조회 (나를 팔로우하는 사람들)
     @Query("SELECT f " +
             "FROM Follow f " +
-            "INNER JOIN f.follower follower " +
             "WHERE f.following = :member")
     Page<Follow> findFollowersByMember(@Param("member") Member member, Pageable pageable);
 
 
     @Query("SELECT f.follower.id " +
             "FROM Follow f " +
-            "INNER JOIN f.follower follower " +
             "WHERE f.following = :member")
     Slice<Long> findFollowersIdByMember(@Param("member") Member member, Pageable pageable);
 
@@ -98,7 +84,6 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 팔로워 조회 (나를 팔로우하는 사람들)
     @Query("SELECT f.follower.id " +
             "FROM Follow f " +
-            "INNER JOIN f.follower follower " +
             "WHERE f.following.id = :memberId")
     Slice<Long> findFollowersIdByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
@@ -0,0 +1,44 @@
+package click.dailyfeed.member.domain.jwt.api;
+
+import click.dailyfeed.member.domain.jwt.service.JwtKeyRotationService;
+import click.dailyfeed.member.domain.jwt.verifier.Jwks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 공개키(JWKS) 공개
+ *
+ * 다른 서비스는 이 문서로 LocalJwtVerifier 를 구성해 member 서비스 호출 없이 Access Token 을 검증한다.
+ * Grace Period 중인 키와 사전 공개된 다음 Primary Key 가 모두 포함되므로, max-age 를 사전 공개 시간
+ * (jwt.key.rotation.pre-publish.minutes) 보다 짧게 유지하면 교체 직후의 토큰도 재조회 없이 검증된다.
+ * HS256 키는 비밀키이므로 포함하지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRotationService jwtKeyRotationService;
+
+    @Value("${jwt.jwks.max-age.seconds:300}")
+    private long maxAgeSeconds;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        List<Map<String, Object>> keys = jwtKeyRotationService.getPublishableKeyEntries()
+                .stream()
+                .map(entry -> Jwks.toJwk(entry.getKeyId(), (PublicKey) entry.getVerificationKey()))
+                .toList();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+}
@@ -37,7 +37,7 @@ public class TokenController {
         String deviceInfo = extractDeviceInfo(request);
         String ipAddress = extractIpAddress(request);
 
-        // 3. TokenService를 통해 새로운 토큰 쌍 생성 (Refresh Token Rotation)
+        // 3. TokenService를 통해 새로운 토큰 쌍 생성 (Refresh Token Rotation, 초당 갱신 허용량 초과 시 429 + Retry-After)
         TokenService.TokenPair tokenPair = tokenService.refreshTokens(
                 refreshToken,
                 deviceInfo,
@@ -7,9 +7,11 @@ import click.dailyfeed.code.domain.member.token.exception.TokenRefreshNeededExce
 import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.response.DailyfeedErrorResponse;
+import click.dailyfeed.member.domain.jwt.exception.TokenRefreshRateLimitedException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -66,6 +68,18 @@ public class TokenControllerAdvice {
         );
     }
 
+    @ExceptionHandler(TokenRefreshRateLimitedException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public DailyfeedErrorResponse handleTokenRefreshRateLimitedException(TokenRefreshRateLimitedException e, HttpServletRequest request, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return DailyfeedErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
     @ExceptionHandler(RuntimeException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public DailyfeedErrorResponse handleRuntimeException(RuntimeException e, HttpServletRequest request) {
@@ -0,0 +1,45 @@
+package click.dailyfeed.member.domain.jwt.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID 문자열(36자) ↔ BINARY(16)
+ * MySQL 의 UUID_TO_BIN(uuid) / BIN_TO_UUID(bin) (swap_flag = 0) 과 같은 바이트 순서
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+    private static final int UUID_STRING_LENGTH = 36;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String uuid) {
+        return uuid != null ? toBytes(uuid) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        return bytes != null ? toUuidString(bytes) : null;
+    }
+
+    /**
+     * @throws IllegalArgumentException 표준 형식(8-4-4-4-12) 의 UUID 가 아닌 경우
+     */
+    public static byte[] toBytes(String uuid) {
+        if (uuid.length() != UUID_STRING_LENGTH) {
+            throw new IllegalArgumentException("Invalid UUID string: " + uuid);
+        }
+        UUID value = UUID.fromString(uuid);
+        return ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String toUuidString(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -2,6 +2,7 @@ package click.dailyfeed.member.domain.jwt.dto;
 
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.Date;
 
 public class JwtDto {
@@ -13,6 +14,66 @@ public class JwtDto {
     public static class UserDetails{
         private Long id;
         private Date expiration;
+        private ProfileClaims profile;  // null 이면 프로필 claims 없이 발급
+    }
+
+    /**
+     * Access Token 에 담는 요청 회원의 프로필 (다른 서비스가 본인 프로필 조회 없이 화면을 그릴 수 있도록)
+     * claim 이름 : hdl(handle), dn(표시 이름), av(아바타 URL, 기본 이미지면 생략), pv(프로필 버전)
+     * 토큰 발급 이후 프로필이 바뀌었는지는 pv 와 member_profiles.profile_version 을 비교해 판단한다.
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ProfileClaims {
+        public static final String HANDLE = "hdl";
+        public static final String DISPLAY_NAME = "dn";
+        public static final String AVATAR_URL = "av";
+        public static final String VERSION = "pv";
+
+        private String handle;
+        private String displayName;
+        private String avatarUrl;
+        private Integer version;
+    }
+
+    /**
+     * 요청 단위로 한번만 검증된 Access Token 정보
+     * (JwtAuthenticationFilter 에서 생성 → ArgumentResolver, Controller 에서 재사용)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class VerifiedToken {
+        private String keyId;
+        private String jti;
+        private Long memberId;
+        private Date expiration;
+        private Date issuedAt;  // iat 도입 이전에 발급된 토큰은 null
+    }
+
+    /**
+     * Redis 에 보관되는 Refresh Token 세션 (jwt_refresh_tokens 의 hot copy)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class RefreshSession {
+        private String tokenId;
+        private Long memberId;
+        private String sessionId;  // base64url(SHA-256(tokenValue)), 원문은 보관하지 않음
+        private String accessTokenId;
+        private LocalDateTime expiresAt;
+        private boolean revoked;
+        private String deviceInfo;
+        private String ipAddress;
+
+        public boolean isValidAt(LocalDateTime now) {
+            return !revoked && now.isBefore(expiresAt);
+        }
     }
 
     @Getter
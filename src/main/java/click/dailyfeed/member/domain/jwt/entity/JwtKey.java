@@ -1,6 +1,7 @@
 package click.dailyfeed.member.domain.jwt.entity;
 
 import click.dailyfeed.member.domain.base.BaseTimeEntity;
+import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -23,9 +24,18 @@ public class JwtKey extends BaseTimeEntity {
     @Column(name = "key_id", unique = true, nullable = false)
     private String keyId;
 
+    // HS256 : Base64 HMAC 키, ES256 : Base64 PKCS#8 개인키
     @Column(name = "secret_key", nullable = false, length = 512)
     private String secretKey;
 
+    // ES256 : Base64 X.509 공개키 (JWKS 로 공개), HS256 : null
+    @Column(name = "public_key", length = 512)
+    private String publicKey;
+
+    // 서명 알고리즘 (null 이면 HS256, 알고리즘 컬럼 추가 이전에 생성된 키)
+    @Column(name = "algorithm", length = 16)
+    private String algorithm;
+
     @Column(name = "is_active", nullable = false)
     private Boolean isActive;
 
@@ -35,25 +45,59 @@ public class JwtKey extends BaseTimeEntity {
     @Column(name = "is_primary", nullable = false, columnDefinition = "TINYINT(1)")
     private Boolean isPrimary; // 새로운 토큰 생성에 사용되는 키
 
+    // Primary 가 된 시각 (다음 교체 시각의 기준, 컬럼 추가 이전에 생성된 키는 null)
+    @Column(name = "promoted_at")
+    private LocalDateTime promotedAt;
+
     @Builder(builderMethodName = "newKeyBuilder")
-    public JwtKey(String keyId, String secretKey, Boolean isActive, LocalDateTime expiresAt, Boolean isPrimary) {
+    public JwtKey(String keyId, String secretKey, String publicKey, String algorithm, Boolean isActive, LocalDateTime expiresAt, Boolean isPrimary, LocalDateTime promotedAt) {
         this.keyId = keyId;
         this.secretKey = secretKey;
+        this.publicKey = publicKey;
+        this.algorithm = algorithm;
         this.isActive = isActive;
         this.expiresAt = expiresAt;
         this.isPrimary = isPrimary;
+        this.promotedAt = promotedAt;
     }
 
-    public static JwtKey newKey(String encodedKey, Integer keyRotationHours, Integer gracePeriodHours) {
+    public static JwtKey newKey(SignatureAlgorithm algorithm, String encodedKey, String encodedPublicKey, Integer keyRotationHours, Integer gracePeriodHours) {
+        LocalDateTime now = LocalDateTime.now();
         return JwtKey.newKeyBuilder()
                 .keyId(UUID.randomUUID().toString())
                 .secretKey(encodedKey)
+                .publicKey(encodedPublicKey)
+                .algorithm(algorithm.getValue())
                 .isActive(true)
                 .isPrimary(true)
-                .expiresAt(LocalDateTime.now().plusHours(keyRotationHours + gracePeriodHours))
+                .promotedAt(now)
+                .expiresAt(now.plusHours(keyRotationHours + gracePeriodHours))
+                .build();
+    }
+
+    /**
+     * 다음 Primary Key 로 사전 공개되는 키 (검증 가능, 아직 토큰 생성에는 사용하지 않음)
+     * 모든 Pod 의 Key Ring 에 미리 적재된 후 promoteToPrimary() 로 교체된다.
+     */
+    public static JwtKey newNextKey(SignatureAlgorithm algorithm, String encodedKey, String encodedPublicKey, Integer prePublishMinutes, Integer keyRotationHours, Integer gracePeriodHours) {
+        return JwtKey.newKeyBuilder()
+                .keyId(UUID.randomUUID().toString())
+                .secretKey(encodedKey)
+                .publicKey(encodedPublicKey)
+                .algorithm(algorithm.getValue())
+                .isActive(true)
+                .isPrimary(false)
+                .expiresAt(LocalDateTime.now().plusMinutes(prePublishMinutes).plusHours(keyRotationHours + gracePeriodHours))
                 .build();
     }
 
+    /**
+     * 서명 알고리즘 (알고리즘 컬럼 추가 이전에 생성된 키는 HS256)
+     */
+    public SignatureAlgorithm getSignatureAlgorithm() {
+        return algorithm == null ? SignatureAlgorithm.HS256 : SignatureAlgorithm.forName(algorithm);
+    }
+
     public void activate() {
         this.isActive = true;
     }
@@ -69,4 +113,16 @@ public class JwtKey extends BaseTimeEntity {
     public void disablePrimaryKey() {
         this.isPrimary = false;
     }
+
+    public void promoteToPrimary() {
+        this.isPrimary = true;
+        this.promotedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Primary 로 사용된 시작 시각 (promoted_at 컬럼 추가 이전에 생성된 키는 createdAt)
+     */
+    public LocalDateTime getPrimarySince() {
+        return promotedAt != null ? promotedAt : getCreatedAt();
+    }
 }
@@ -1,18 +1,23 @@
 package click.dailyfeed.member.domain.jwt.entity;
 
 import click.dailyfeed.member.domain.base.BaseTimeEntity;
+import click.dailyfeed.member.domain.jwt.converter.UuidBinaryConverter;
+import click.dailyfeed.member.domain.jwt.util.Sha256;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * Refresh Token 원문은 저장하지 않고 SHA-256 digest(BINARY(32)) 로만 저장/조회한다. (db/token/jwt_tokens_binary_identifier.sql)
+ * token_id / access_token_id 는 UUID 를 BINARY(16) 으로 저장한다.
+ */
 @Table(name = "jwt_refresh_tokens",
 //    schema = "dailyfeed",
     indexes = {
         @Index(name = "idx_member_id", columnList = "member_id"),
         @Index(name = "idx_access_token_id", columnList = "access_token_id"),
-        @Index(name = "idx_expires_at", columnList = "expires_at"),
-        @Index(name = "idx_token_value", columnList = "token_value")
+        @Index(name = "idx_expires_at", columnList = "expires_at")
     }
 )
 @Entity
@@ -22,22 +27,23 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 public class RefreshToken extends BaseTimeEntity {
-
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @EqualsAndHashCode.Include
     private Long id;
 
-    @Column(name = "token_id", unique = true, nullable = false)
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "token_id", unique = true, nullable = false, columnDefinition = "BINARY(16)")
     private String tokenId;
 
     @Column(name = "member_id", nullable = false)
     private Long memberId;
 
-    @Column(name = "token_value", nullable = false, length = 512, unique = true)
-    private String tokenValue;
+    @Column(name = "token_digest", nullable = false, unique = true, columnDefinition = "BINARY(32)")
+    private byte[] tokenDigest;  // SHA-256(tokenValue)
 
-    @Column(name = "access_token_id", nullable = false)
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "access_token_id", nullable = false, columnDefinition = "BINARY(16)")
     private String accessTokenId;  // JTI of associated access token
 
     @Column(name = "expires_at", nullable = false)
@@ -64,10 +70,25 @@ public class RefreshToken extends BaseTimeEntity {
             String deviceInfo,
             String ipAddress) {
 
+        return create(tokenId, memberId, digestOf(tokenValue), accessTokenId, expiresAt, deviceInfo, ipAddress);
+    }
+
+    /**
+     * 팩토리 메서드 - 원문 대신 digest 로 생성 (Redis 세션의 DB 반영용)
+     */
+    public static RefreshToken create(
+            String tokenId,
+            Long memberId,
+            byte[] tokenDigest,
+            String accessTokenId,
+            LocalDateTime expiresAt,
+            String deviceInfo,
+            String ipAddress) {
+
         return RefreshToken.builder()
                 .tokenId(tokenId)
                 .memberId(memberId)
-                .tokenValue(tokenValue)
+                .tokenDigest(tokenDigest)
                 .accessTokenId(accessTokenId)
                 .expiresAt(expiresAt)
                 .isRevoked(false)
@@ -76,6 +97,13 @@ public class RefreshToken extends BaseTimeEntity {
                 .build();
     }
 
+    /**
+     * Refresh Token 값의 저장/조회 키 (SHA-256, 32바이트)
+     */
+    public static byte[] digestOf(String tokenValue) {
+        return Sha256.digest(tokenValue);
+    }
+
     /**
      * 토큰 무효화 - JPA 관리 상태에서만 호출
      */
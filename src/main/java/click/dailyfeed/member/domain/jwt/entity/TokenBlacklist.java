@@ -1,6 +1,7 @@
 package click.dailyfeed.member.domain.jwt.entity;
 
 import click.dailyfeed.member.domain.base.BaseTimeEntity;
+import click.dailyfeed.member.domain.jwt.converter.UuidBinaryConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,7 +10,6 @@ import java.time.LocalDateTime;
 @Table(name = "jwt_blacklist",
 //    schema = "dailyfeed",
     indexes = {
-        @Index(name = "idx_token_jti", columnList = "jti"),
         @Index(name = "idx_expires_at", columnList = "expires_at"),
         @Index(name = "idx_member_id", columnList = "member_id")
     }
@@ -27,8 +27,9 @@ public class TokenBlacklist extends BaseTimeEntity {
     @EqualsAndHashCode.Include
     private Long id;
 
-    @Column(name = "jti", unique = true, nullable = false)
-    private String jti;  // JWT ID from access token
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "jti", unique = true, nullable = false, columnDefinition = "BINARY(16)")
+    private String jti;  // JWT ID from access token (UUID, BINARY(16))
 
     @Column(name = "member_id", nullable = false)
     private Long memberId;
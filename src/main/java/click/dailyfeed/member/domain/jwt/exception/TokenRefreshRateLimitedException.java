@@ -0,0 +1,16 @@
+package click.dailyfeed.member.domain.jwt.exception;
+
+import lombok.Getter;
+
+/**
+ * 토큰 갱신(/api/token/refresh, /api/authentication/refresh) 허용량 초과 (429, retryAfterSeconds 후 재시도)
+ */
+@Getter
+public class TokenRefreshRateLimitedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TokenRefreshRateLimitedException(long retryAfterSeconds) {
+        super("Too many token refresh requests, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
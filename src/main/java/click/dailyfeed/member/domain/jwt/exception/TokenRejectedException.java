@@ -0,0 +1,48 @@
+package click.dailyfeed.member.domain.jwt.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증 filter 의 Access Token 거부 (JwtAuthenticationFilter 가 잡아서 401 을 직접 응답)
+ *
+ * 스캐너 트래픽이나 잘못된 클라이언트는 요청마다 검증에 실패하므로, 실패 자체가 가볍도록
+ * - stack trace 를 만들지 않고 (writableStackTrace=false), suppressed 도 기록하지 않으며
+ * - 사유별로 미리 만든 인스턴스를 재사용한다. (of)
+ *
+ * Controller 에서 발생하는 토큰 오류는 기존처럼 InvalidTokenException 등으로 ControllerAdvice 가 처리한다.
+ */
+@Getter
+public class TokenRejectedException extends RuntimeException {
+    private static final TokenRejectedException[] INSTANCES = new TokenRejectedException[Reason.values().length];
+
+    static {
+        for (Reason reason : Reason.values()) {
+            INSTANCES[reason.ordinal()] = new TokenRejectedException(reason);
+        }
+    }
+
+    private final Reason reason;
+
+    private TokenRejectedException(Reason reason) {
+        super(reason.getMessage(), null, false, false);
+        this.reason = reason;
+    }
+
+    public static TokenRejectedException of(Reason reason) {
+        return INSTANCES[reason.ordinal()];
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Reason {
+        BEARER_TOKEN_MISSING("Bearer token is missing"),
+        MALFORMED_TOKEN("Invalid JWT Token format"),
+        UNKNOWN_KEY("JWT key not found or expired"),
+        INVALID_TOKEN("Invalid JWT Token"),
+        MISSING_CLAIMS("Token has no member id or expiration"),
+        EXPIRED("Token has expired");
+
+        private final String message;
+    }
+}
@@ -1,19 +1,64 @@
 package click.dailyfeed.member.domain.jwt.mapper;
 
 import click.dailyfeed.member.domain.jwt.entity.JwtKey;
+import click.dailyfeed.member.domain.jwt.service.JwtKeyRing;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
 
 @Component
 public class JwtKeyPlainMapper {
     /**
-     * 키를 Java Key 객체로 변환합니다.
+     * 키를 Java Key 객체로 변환합니다. (HS256)
      */
-    public Key convertToKey(JwtKey jwtKey) {
+    public SecretKey convertToKey(JwtKey jwtKey) {
         byte[] decodedKey = Base64.getDecoder().decode(jwtKey.getSecretKey());
         return Keys.hmacShaKeyFor(decodedKey);
     }
+
+    /**
+     * 비대칭 키의 개인키(PKCS#8) 를 PrivateKey 로 변환합니다. (ES256)
+     */
+    public PrivateKey convertToPrivateKey(JwtKey jwtKey) {
+        try {
+            return keyFactoryOf(jwtKey)
+                    .generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(jwtKey.getSecretKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid private key: " + jwtKey.getKeyId(), e);
+        }
+    }
+
+    /**
+     * 비대칭 키의 공개키(X.509) 를 PublicKey 로 변환합니다. (ES256)
+     */
+    public PublicKey convertToPublicKey(JwtKey jwtKey) {
+        try {
+            return keyFactoryOf(jwtKey)
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(jwtKey.getPublicKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid public key: " + jwtKey.getKeyId(), e);
+        }
+    }
+
+    /**
+     * 키를 Key Ring 항목(디코딩된 키 + 파서)으로 변환합니다.
+     */
+    public JwtKeyRing.KeyEntry convertToKeyEntry(JwtKey jwtKey) {
+        if (jwtKey.getSignatureAlgorithm().isHmac()) {
+            return JwtKeyRing.KeyEntry.of(jwtKey, convertToKey(jwtKey));
+        }
+        return JwtKeyRing.KeyEntry.of(jwtKey, convertToPrivateKey(jwtKey), convertToPublicKey(jwtKey));
+    }
+
+    private KeyFactory keyFactoryOf(JwtKey jwtKey) throws GeneralSecurityException {
+        return KeyFactory.getInstance(jwtKey.getSignatureAlgorithm().isEllipticCurve() ? "EC" : "RSA");
+    }
 }
@@ -1,14 +1,101 @@
 package click.dailyfeed.member.domain.jwt.mapper;
 
+import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import click.dailyfeed.member.domain.jwt.redis.RefreshSessionRedisService;
+import click.dailyfeed.member.domain.member.entity.MemberProfile;
 
 import java.util.Date;
 
 public class JwtMapper {
+    // 이보다 긴 아바타 URL 은 토큰에 담지 않음 (토큰은 매 요청 헤더로 전송되므로)
+    private static final int MAX_AVATAR_URL_LENGTH = 512;
+
     public static JwtDto.UserDetails ofUserDetails(Long id, Date expiration){
         return JwtDto.UserDetails.builder()
                 .id(id)
                 .expiration(expiration)
                 .build();
     }
+
+    public static JwtDto.UserDetails ofUserDetails(Long id, Date expiration, MemberProfile memberProfile){
+        return JwtDto.UserDetails.builder()
+                .id(id)
+                .expiration(expiration)
+                .profile(ofProfileClaims(memberProfile))
+                .build();
+    }
+
+    /**
+     * Access Token 의 프로필 claims
+     * 표시 이름은 displayName, 없으면 memberName. 기본 이미지이거나 너무 긴 아바타 URL 은 생략한다.
+     */
+    public static JwtDto.ProfileClaims ofProfileClaims(MemberProfile memberProfile){
+        String avatarUrl = memberProfile.getAvatarUrl();
+        if (MemberProfile.DEFAULT_AVATAR_URL.equals(avatarUrl) || avatarUrl.length() > MAX_AVATAR_URL_LENGTH) {
+            avatarUrl = null;
+        }
+        return JwtDto.ProfileClaims.builder()
+                .handle(memberProfile.getHandle())
+                .displayName(memberProfile.getDisplayName() != null ? memberProfile.getDisplayName() : memberProfile.getMemberName())
+                .avatarUrl(avatarUrl)
+                .version(memberProfile.getProfileVersion())
+                .build();
+    }
+
+    public static JwtDto.UserDetails ofUserDetails(JwtDto.VerifiedToken verifiedToken){
+        return ofUserDetails(verifiedToken.getMemberId(), verifiedToken.getExpiration());
+    }
+
+    public static JwtDto.VerifiedToken ofVerifiedToken(String keyId, String jti, Long memberId, Date expiration, Date issuedAt){
+        return JwtDto.VerifiedToken.builder()
+                .keyId(keyId)
+                .jti(jti)
+                .memberId(memberId)
+                .expiration(expiration)
+                .issuedAt(issuedAt)
+                .build();
+    }
+
+    /**
+     * 검증된 토큰의 claims 로 만든 요청 회원 (회원 존재 여부는 DeactivatedMemberIndex 로 확인)
+     */
+    public static MemberDto.Member ofMember(JwtDto.VerifiedToken verifiedToken){
+        return MemberDto.Member.builder()
+                .id(verifiedToken.getMemberId())
+                .build();
+    }
+
+    /**
+     * jwt_refresh_tokens 에는 토큰 값의 digest 만 저장되므로 토큰 값은 따로 전달받는다.
+     */
+    public static JwtDto.RefreshSession ofRefreshSession(RefreshToken refreshToken){
+        return JwtDto.RefreshSession.builder()
+                .tokenId(refreshToken.getTokenId())
+                .memberId(refreshToken.getMemberId())
+                .sessionId(RefreshSessionRedisService.sessionIdOf(refreshToken.getTokenDigest()))
+                .accessTokenId(refreshToken.getAccessTokenId())
+                .expiresAt(refreshToken.getExpiresAt())
+                .revoked(Boolean.TRUE.equals(refreshToken.getIsRevoked()))
+                .deviceInfo(refreshToken.getDeviceInfo())
+                .ipAddress(refreshToken.getIpAddress())
+                .build();
+    }
+
+    public static RefreshToken toRefreshToken(JwtDto.RefreshSession refreshSession){
+        RefreshToken refreshToken = RefreshToken.create(
+                refreshSession.getTokenId(),
+                refreshSession.getMemberId(),
+                RefreshSessionRedisService.tokenDigestOf(refreshSession.getSessionId()),
+                refreshSession.getAccessTokenId(),
+                refreshSession.getExpiresAt(),
+                refreshSession.getDeviceInfo(),
+                refreshSession.getIpAddress()
+        );
+        if (refreshSession.isRevoked()) {
+            refreshToken.revoke();
+        }
+        return refreshToken;
+    }
 }
@@ -0,0 +1,429 @@
+package click.dailyfeed.member.domain.jwt.redis;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import click.dailyfeed.member.domain.jwt.util.Sha256;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Refresh Token 세션 저장소 (Redis 가 기준 저장소, jwt_refresh_tokens 는 RefreshTokenWriteBehind 가 비동기로 반영)
+ *
+ * Refresh Token 원문은 key/value 어디에도 저장하지 않고, jwt_refresh_tokens.token_digest 와 같은 digest 로 만든 sessionId 를 사용한다.
+ * (sessionId = base64url(RefreshToken.digestOf(tokenValue)), 43자)
+ *
+ * - member:authentication:refresh_session:{sessionId}        : 세션 hash (만료시각까지 유지, revoke 후에도 재사용 탐지를 위해 유지)
+ * - member:authentication:refresh_session:jti:{jti}          : Access Token jti → sessionId (로그아웃 시 연관 Refresh 세션 조회)
+ * - member:authentication:refresh_session:member_device:{memberId} : 회원의 세션 slot → sessionId (hash)
+ * - member:authentication:refresh_session:member_lru:{memberId}    : 회원의 세션 slot → 마지막 발급/회전 시각 (sorted set)
+ * - member:authentication:refresh_session:rotated:{sessionId} : 회전 결과 (짧은 시간 동안 같은 토큰의 중복 갱신 요청에 같은 토큰 쌍 반환)
+ *
+ * 회원당 세션 수 제한 (save 의 Lua 스크립트 한번으로 처리)
+ * - slot 은 deviceInfo 의 digest 로 정하고, 같은 deviceInfo 로 새 세션이 저장되면 이전 세션을 무효화한다. (deviceInfo 가 없으면 세션마다 별도 slot)
+ * - slot 수가 maxSessions 를 넘으면 마지막 발급/회전 시각이 가장 오래된 slot 의 세션부터 무효화한다. (LRU)
+ * - 무효화된 세션의 sessionId 를 반환하고, 호출자(TokenService) 가 DB 반영(RefreshTokenWriteBehind) 을 맡는다.
+ *
+ * Redis 오류는 호출자에게 전파하고, 호출자(TokenService) 는 기존 DB 경로로 처리한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RefreshSessionRedisService {
+    public static final String SESSION_KEY_PREFIX = "member:authentication:refresh_session:";
+    static final String JTI_KEY_PREFIX = SESSION_KEY_PREFIX + "jti:";
+    private static final String MEMBER_DEVICE_KEY_PREFIX = SESSION_KEY_PREFIX + "member_device:";
+    private static final String MEMBER_LRU_KEY_PREFIX = SESSION_KEY_PREFIX + "member_lru:";
+    private static final String ROTATED_KEY_PREFIX = SESSION_KEY_PREFIX + "rotated:";
+    private static final String ROTATION_PENDING = "PENDING";
+    private static final String ROTATION_SEPARATOR = "|";
+    public static final int SESSION_ID_LENGTH = 43;
+
+    /**
+     * Refresh Token 단일 사용 선점 (조회 → 검사 → 무효화를 원자적으로 수행)
+     * KEYS[1] = 세션 hash, KEYS[2] = 회전 결과 key
+     * ARGV[1] = 현재시각(ms), ARGV[2] = 회전 결과 대기(PENDING) TTL(ms)
+     */
+    private static final RedisScript<List> CLAIM_ROTATION_SCRIPT = new DefaultRedisScript<>(
+            "local session = redis.call('HMGET', KEYS[1], 'revoked', 'expiresAt', 'memberId') " +
+            "if not session[2] then return {'MISSING'} end " +
+            "if session[1] == '1' then " +
+            "  local rotated = redis.call('GET', KEYS[2]) " +
+            "  if not rotated then return {'REVOKED'} end " +
+            "  if rotated == 'PENDING' then return {'PENDING'} end " +
+            "  return {'ROTATED', rotated} " +
+            "end " +
+            "if tonumber(session[2]) <= tonumber(ARGV[1]) then return {'EXPIRED'} end " +
+            "redis.call('HSET', KEYS[1], 'revoked', '1') " +
+            "redis.call('SET', KEYS[2], 'PENDING', 'PX', ARGV[2]) " +
+            "return {'CLAIMED', session[3], session[2]}",
+            List.class
+    );
+
+    /**
+     * 세션 저장 + 같은 deviceInfo 의 이전 세션 무효화 + 회원당 세션 수 초과분(LRU) 무효화
+     * KEYS[1] = 세션 hash, KEYS[2] = jti 인덱스, KEYS[3] = 회원 slot hash, KEYS[4] = 회원 LRU sorted set
+     * ARGV[1] = 세션 TTL(ms), ARGV[2] = sessionId, ARGV[3] = slot, ARGV[4] = 현재시각(ms), ARGV[5] = 회원당 최대 세션 수,
+     * ARGV[6] = 회원 인덱스 TTL(ms, Refresh Token 수명), ARGV[7] = 세션 key prefix, ARGV[8..] = 세션 hash field/value
+     * @return 무효화된 sessionId 목록 (이미 무효화되었거나 만료된 세션은 제외)
+     */
+    private static final RedisScript<List> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 8)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[1]) " +
+            "local evicted = {} " +
+            "local function revoke(sessionId) " +
+            "  if sessionId and sessionId ~= ARGV[2] then " +
+            "    local sessionKey = ARGV[7] .. sessionId " +
+            "    if redis.call('HGET', sessionKey, 'revoked') == '0' then " +
+            "      redis.call('HSET', sessionKey, 'revoked', '1') " +
+            "      evicted[#evicted + 1] = sessionId " +
+            "    end " +
+            "  end " +
+            "end " +
+            "revoke(redis.call('HGET', KEYS[3], ARGV[3])) " +
+            "redis.call('HSET', KEYS[3], ARGV[3], ARGV[2]) " +
+            "redis.call('ZADD', KEYS[4], ARGV[4], ARGV[3]) " +
+            "local stale = redis.call('ZRANGEBYSCORE', KEYS[4], '-inf', '(' .. (tonumber(ARGV[4]) - tonumber(ARGV[6]))) " +
+            "for _, slot in ipairs(stale) do redis.call('HDEL', KEYS[3], slot) redis.call('ZREM', KEYS[4], slot) end " +
+            "local overflow = redis.call('ZCARD', KEYS[4]) - tonumber(ARGV[5]) " +
+            "if overflow > 0 then " +
+            "  for _, slot in ipairs(redis.call('ZRANGE', KEYS[4], 0, overflow - 1)) do " +
+            "    revoke(redis.call('HGET', KEYS[3], slot)) " +
+            "    redis.call('HDEL', KEYS[3], slot) " +
+            "  end " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[4], 0, overflow - 1) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[3], ARGV[6]) " +
+            "redis.call('PEXPIRE', KEYS[4], ARGV[6]) " +
+            "return evicted",
+            List.class
+    );
+
+    private static final int DEVICE_SLOT_BYTES = 12;
+
+    private static final String TOKEN_ID = "tokenId";
+    private static final String MEMBER_ID = "memberId";
+    private static final String ACCESS_TOKEN_ID = "accessTokenId";
+    private static final String EXPIRES_AT = "expiresAt";
+    private static final String REVOKED = "revoked";
+    private static final String DEVICE_INFO = "deviceInfo";
+    private static final String IP_ADDRESS = "ipAddress";
+
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    @Value("${jwt.refresh.expiration.days:30}")
+    private Integer refreshTokenExpirationDays;
+
+    // 같은 Refresh Token 의 중복 갱신 요청에 같은 토큰 쌍을 돌려주는 시간
+    @Value("${jwt.refresh.idempotency.seconds:10}")
+    private long idempotencySeconds;
+
+    // 선점 후 새 토큰 쌍을 저장할 때까지 기다려주는 시간 (선점한 요청이 실패하면 이후 PENDING 이 만료됨)
+    @Value("${jwt.refresh.idempotency.pending.millis:5000}")
+    private long pendingMillis;
+
+    /**
+     * 세션 저장 (hash + jti 인덱스 + 회원 인덱스, 회원당 세션 수 제한을 Redis 왕복 1회로 처리)
+     * @param maxSessions 회원당 최대 세션(slot) 수
+     * @return 이번 저장으로 무효화된 다른 세션의 sessionId 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> save(JwtDto.RefreshSession session, int maxSessions) {
+        Duration ttl = ttlOf(session.getExpiresAt());
+        if (ttl.isZero()) {
+            return List.of();
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(session.getSessionId());
+        args.add(slotOf(session.getDeviceInfo(), session.getSessionId()));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(Math.max(maxSessions, 1)));
+        args.add(String.valueOf(Duration.ofDays(refreshTokenExpirationDays).toMillis()));
+        args.add(SESSION_KEY_PREFIX);
+        toHash(session).forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        List<String> evicted = stringRedisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(
+                        SESSION_KEY_PREFIX + session.getSessionId(),
+                        JTI_KEY_PREFIX + session.getAccessTokenId(),
+                        MEMBER_DEVICE_KEY_PREFIX + session.getMemberId(),
+                        MEMBER_LRU_KEY_PREFIX + session.getMemberId()
+                ),
+                args.toArray()
+        );
+        return evicted == null ? List.of() : evicted;
+    }
+
+    public Optional<JwtDto.RefreshSession> find(String tokenValue) {
+        return findBySessionId(sessionIdOf(tokenValue));
+    }
+
+    public Optional<JwtDto.RefreshSession> findBySessionId(String sessionId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(SESSION_KEY_PREFIX + sessionId);
+        if (fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(fromHash(sessionId, fields));
+    }
+
+    /**
+     * 여러 세션을 한번의 pipeline(HGETALL) 으로 조회 (write-behind batch 반영용)
+     * @return sessionId → 세션 (이미 만료되어 사라진 세션은 제외)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, JwtDto.RefreshSession> findAllBySessionIds(List<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                sessionIds.forEach(sessionId -> operations.opsForHash().entries(SESSION_KEY_PREFIX + sessionId));
+                return null;
+            }
+        });
+
+        Map<String, JwtDto.RefreshSession> sessions = new HashMap<>();
+        for (int i = 0; i < sessionIds.size(); i++) {
+            Object fields = results.get(i);
+            if (fields instanceof Map<?, ?> hash && !hash.isEmpty()) {
+                sessions.put(sessionIds.get(i), fromHash(sessionIds.get(i), (Map<Object, Object>) hash));
+            }
+        }
+        return sessions;
+    }
+
+    /**
+     * tokenValue 를 그대로 key 로 쓰던 이전 형식의 세션 조회
+     * (형식 변경 배포 전에 write-behind 대기열에 적재된 항목 반영용, Refresh Token 수명이 지나면 사용되지 않음)
+     */
+    public Optional<JwtDto.RefreshSession> findLegacy(String tokenValue) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(SESSION_KEY_PREFIX + tokenValue);
+        if (fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(fromHash(sessionIdOf(tokenValue), fields));
+    }
+
+    /**
+     * sessionId 형식(43자) 인지 확인 (이전 형식의 tokenValue 원문은 UUID 36자)
+     */
+    public static boolean isSessionId(String value) {
+        return value.length() == SESSION_ID_LENGTH;
+    }
+
+    public Set<String> findSessionIdsByMemberId(Long memberId) {
+        List<Object> sessionIds = stringRedisTemplate.opsForHash().values(MEMBER_DEVICE_KEY_PREFIX + memberId);
+        return sessionIds == null ? Set.of() : sessionIds.stream().map(String::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * Refresh Token 회전을 위한 단일 사용 선점
+     */
+    public RotationClaim claimRotation(String tokenValue, long nowMillis) {
+        String sessionId = sessionIdOf(tokenValue);
+        List<?> result = stringRedisTemplate.execute(
+                CLAIM_ROTATION_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + sessionId, ROTATED_KEY_PREFIX + sessionId),
+                String.valueOf(nowMillis),
+                String.valueOf(pendingMillis)
+        );
+        if (result == null || result.isEmpty()) {
+            return RotationClaim.of(ClaimStatus.MISSING);
+        }
+
+        ClaimStatus status = ClaimStatus.valueOf(String.valueOf(result.get(0)));
+        return switch (status) {
+            case CLAIMED -> RotationClaim.claimed(
+                    Long.valueOf(String.valueOf(result.get(1))),
+                    Long.parseLong(String.valueOf(result.get(2)))
+            );
+            case ROTATED -> RotationClaim.rotated(decodeTokenPair(String.valueOf(result.get(1))));
+            default -> RotationClaim.of(status);
+        };
+    }
+
+    /**
+     * 회전 결과 저장 (중복 요청이 같은 토큰 쌍을 받아갈 수 있도록 idempotencySeconds 동안 유지)
+     */
+    public void saveRotationResult(String tokenValue, JwtDto.TokenPair tokenPair) {
+        stringRedisTemplate.opsForValue().set(rotatedKey(tokenValue), encodeTokenPair(tokenPair), Duration.ofSeconds(idempotencySeconds));
+    }
+
+    /**
+     * 회전 결과 조회 (아직 저장 전이면 empty)
+     */
+    public Optional<JwtDto.TokenPair> findRotationResult(String tokenValue) {
+        String rotated = stringRedisTemplate.opsForValue().get(rotatedKey(tokenValue));
+        if (rotated == null || ROTATION_PENDING.equals(rotated)) {
+            return Optional.empty();
+        }
+        return Optional.of(decodeTokenPair(rotated));
+    }
+
+    /**
+     * 회전 실패 시 대기 중인 중복 요청이 더 기다리지 않도록 PENDING 제거
+     */
+    public void clearRotationResult(String tokenValue) {
+        stringRedisTemplate.delete(rotatedKey(tokenValue));
+    }
+
+    /**
+     * Refresh Token 의 Redis 세션 id (jwt_refresh_tokens.token_digest 의 base64url)
+     */
+    public static String sessionIdOf(String tokenValue) {
+        return sessionIdOf(RefreshToken.digestOf(tokenValue));
+    }
+
+    public static String sessionIdOf(byte[] tokenDigest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenDigest);
+    }
+
+    /**
+     * sessionId → jwt_refresh_tokens.token_digest
+     */
+    public static byte[] tokenDigestOf(String sessionId) {
+        return Base64.getUrlDecoder().decode(sessionId);
+    }
+
+    /**
+     * 세션 slot : deviceInfo 가 있으면 deviceInfo 의 digest(base64url 16자), 없으면 세션마다 별도 slot
+     */
+    static String slotOf(String deviceInfo, String sessionId) {
+        if (deviceInfo == null || deviceInfo.isBlank()) {
+            return "t:" + sessionId;
+        }
+        byte[] digest = Sha256.digest(deviceInfo);
+        return "d:" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, DEVICE_SLOT_BYTES));
+    }
+
+    private String rotatedKey(String tokenValue) {
+        return ROTATED_KEY_PREFIX + sessionIdOf(tokenValue);
+    }
+
+    private String encodeTokenPair(JwtDto.TokenPair tokenPair) {
+        return String.join(ROTATION_SEPARATOR,
+                tokenPair.getAccessToken(),
+                tokenPair.getRefreshToken(),
+                String.valueOf(tokenPair.getAccessTokenExpiresIn()),
+                String.valueOf(tokenPair.getRefreshTokenExpiresIn()));
+    }
+
+    private JwtDto.TokenPair decodeTokenPair(String encoded) {
+        String[] values = encoded.split("\\" + ROTATION_SEPARATOR);
+        return JwtDto.TokenPair.builder()
+                .accessToken(values[0])
+                .refreshToken(values[1])
+                .accessTokenExpiresIn(Long.valueOf(values[2]))
+                .refreshTokenExpiresIn(Long.valueOf(values[3]))
+                .build();
+    }
+
+    private Duration ttlOf(LocalDateTime expiresAt) {
+        long ttlMillis = toEpochMillis(expiresAt) - System.currentTimeMillis();
+        return ttlMillis > 0 ? Duration.ofMillis(ttlMillis) : Duration.ZERO;
+    }
+
+    private Map<String, String> toHash(JwtDto.RefreshSession session) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(TOKEN_ID, session.getTokenId());
+        fields.put(MEMBER_ID, String.valueOf(session.getMemberId()));
+        fields.put(ACCESS_TOKEN_ID, session.getAccessTokenId());
+        fields.put(EXPIRES_AT, String.valueOf(toEpochMillis(session.getExpiresAt())));
+        fields.put(REVOKED, session.isRevoked() ? "1" : "0");
+        if (session.getDeviceInfo() != null) {
+            fields.put(DEVICE_INFO, session.getDeviceInfo());
+        }
+        if (session.getIpAddress() != null) {
+            fields.put(IP_ADDRESS, session.getIpAddress());
+        }
+        return fields;
+    }
+
+    private JwtDto.RefreshSession fromHash(String sessionId, Map<Object, Object> fields) {
+        return JwtDto.RefreshSession.builder()
+                .tokenId((String) fields.get(TOKEN_ID))
+                .memberId(Long.valueOf((String) fields.get(MEMBER_ID)))
+                .sessionId(sessionId)
+                .accessTokenId((String) fields.get(ACCESS_TOKEN_ID))
+                .expiresAt(LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(Long.parseLong((String) fields.get(EXPIRES_AT))),
+                        ZoneId.systemDefault()))
+                .revoked("1".equals(fields.get(REVOKED)))
+                .deviceInfo((String) fields.get(DEVICE_INFO))
+                .ipAddress((String) fields.get(IP_ADDRESS))
+                .build();
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public enum ClaimStatus {
+        CLAIMED,    // 이번 요청이 선점함 → 새 토큰 쌍 발급
+        ROTATED,    // 직전에 회전됨 → 같은 토큰 쌍 반환
+        PENDING,    // 다른 요청이 회전 중 → 결과 대기
+        REVOKED,    // 이미 무효화됨 (로그아웃 또는 idempotency 시간 이후의 재사용)
+        EXPIRED,
+        MISSING     // Redis 에 세션 없음 → DB 경로
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RotationClaim {
+        private final ClaimStatus status;
+        private final Long memberId;
+        private final long expiresAtMillis;
+        private final JwtDto.TokenPair rotated;
+
+        static RotationClaim of(ClaimStatus status) {
+            return new RotationClaim(status, null, 0L, null);
+        }
+
+        public static RotationClaim missing() {
+            return of(ClaimStatus.MISSING);
+        }
+
+        static RotationClaim claimed(Long memberId, long expiresAtMillis) {
+            return new RotationClaim(ClaimStatus.CLAIMED, memberId, expiresAtMillis, null);
+        }
+
+        static RotationClaim rotated(JwtDto.TokenPair tokenPair) {
+            return new RotationClaim(ClaimStatus.ROTATED, null, 0L, tokenPair);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package click.dailyfeed.member.domain.jwt.redis;
+
+import click.dailyfeed.code.global.cache.RedisKeyPrefix;
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용된(무효화된) Refresh Token 표시 저장소
+ *
+ * 기존에는 토큰마다 member:authentication:revoked_refresh:{tokenValue} = "true" 를 30일 TTL 로 저장했다.
+ * key 하나당 dictEntry/redisObject/expires 항목 오버헤드가 붙어 로그인 수 만큼 긴 문자열 key 가 쌓이므로,
+ * 시간 구간 + digest 로 나눈 hash bucket 에 짧은 field 로 저장한다.
+ *
+ * - member:authentication:revoked_refresh_bucket:{window}:{bucket} (hash) : field = SHA-256(tokenValue) 앞 9바이트(base64url 12자)
+ * - window = 무효화 시각 / jwt.refresh.revoked-marker.window.days, bucket = digest 의 다른 2바이트 % jwt.refresh.revoked-marker.buckets (최대 65536)
+ * - bucket hash 의 TTL 은 window 종료 시각 + Refresh Token 수명 (bucket 단위로 한번에 만료)
+ * - bucket 하나의 field 수가 hash-max-listpack-entries(기본 128) 이하이면 listpack 으로 인코딩되어 field 당 수십 바이트로 유지된다.
+ *   (window 당 무효화 수 / buckets 가 128 을 넘지 않도록 buckets 를 설정)
+ *
+ * 조회는 Refresh Token 수명이 걸치는 window 들의 bucket 과 기존 형식 key 를 Lua 스크립트 한번으로 확인한다.
+ * 기존 형식 key 는 RevokedRefreshMarkerMigrator 가 새 형식으로 옮기며, 옮기기 전에도 조회 결과는 같다.
+ *
+ * Redis 오류는 호출자에게 전파하고, 호출자(TokenService) 는 DB(is_revoked) 로 판정한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RevokedRefreshMarkerRedisService {
+    public static final String BUCKET_KEY_PREFIX = "member:authentication:revoked_refresh_bucket:";
+    private static final String LEGACY_KEY_PREFIX = String.valueOf(RedisKeyPrefix.MEMBER_AUTHENTICATION_REVOKED_REFRESH);
+    // 기존 형식 key 의 TTL (변경 전 코드의 Duration.ofDays(30))
+    private static final long LEGACY_TTL_MILLIS = 30L * 86400000L;
+    private static final int FIELD_BYTES = 9;
+
+    /**
+     * 무효화 표시 여부 확인
+     * KEYS[1..n-1] = 조회할 window 의 bucket (최신 → 과거), KEYS[n] = 기존 형식 key
+     * ARGV[1] = field
+     */
+    private static final RedisScript<Long> IS_REVOKED_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS - 1 do " +
+            "  if redis.call('HEXISTS', KEYS[i], ARGV[1]) == 1 then return 1 end " +
+            "end " +
+            "return redis.call('EXISTS', KEYS[#KEYS])",
+            Long.class
+    );
+
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    @Value("${jwt.refresh.expiration.days:30}")
+    private Integer refreshTokenExpirationDays;
+
+    @Value("${jwt.refresh.revoked-marker.window.days:7}")
+    private int windowDays;
+
+    @Value("${jwt.refresh.revoked-marker.buckets:4096}")
+    private int buckets;
+
+    /**
+     * 무효화 표시 (HSET + PEXPIREAT 를 한번의 pipeline 으로)
+     */
+    public void mark(String tokenValue, long revokedAtMillis) {
+        mark(RefreshToken.digestOf(tokenValue), revokedAtMillis);
+    }
+
+    /**
+     * 무효화 표시 (원문 없이 Refresh 세션의 digest 로, RefreshToken.digestOf 와 같은 값)
+     */
+    public void mark(byte[] tokenDigest, long revokedAtMillis) {
+        MarkerSlot slot = slotOfDigest(tokenDigest, buckets);
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                putMarker(operations, slot, revokedAtMillis);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 무효화 표시가 있는지 (Refresh Token 수명 안의 모든 window + 기존 형식 key)
+     */
+    public boolean isRevoked(String tokenValue, long nowMillis) {
+        MarkerSlot slot = slotOf(tokenValue, buckets);
+        long newestWindow = nowMillis / windowMillis();
+        long oldestWindow = Math.max(nowMillis - retentionMillis(), 0) / windowMillis();
+
+        List<String> keys = new ArrayList<>((int) (newestWindow - oldestWindow) + 2);
+        for (long window = newestWindow; window >= oldestWindow; window--) {
+            keys.add(bucketKey(window, slot.bucket()));
+        }
+        keys.add(legacyKey(tokenValue));
+
+        Long result = stringRedisTemplate.execute(IS_REVOKED_SCRIPT, keys, slot.field());
+        return result != null && result > 0;
+    }
+
+    /**
+     * 기존 형식 key 를 최대 maxKeys 개 새 형식으로 옮긴다 (남은 TTL 로 원래 무효화 시각을 역산)
+     * @return 옮긴 key 수 (0 이면 남은 기존 형식 key 없음)
+     */
+    public int migrateLegacyMarkers(int maxKeys) {
+        List<String> legacyKeys = scanLegacyKeys(maxKeys);
+        if (legacyKeys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> ttls = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                legacyKeys.forEach(key -> operations.getExpire(key, TimeUnit.MILLISECONDS));
+                return null;
+            }
+        });
+
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (int i = 0; i < legacyKeys.size(); i++) {
+                    String legacyKey = legacyKeys.get(i);
+                    Object ttl = ttls.get(i);
+                    long ttlMillis = ttl instanceof Long ? (Long) ttl : -1L;
+                    // TTL 이 없는(-1) key 는 기존 코드가 만들지 않으므로 지금 무효화된 것으로 간주
+                    long revokedAtMillis = ttlMillis > 0 ? now + ttlMillis - LEGACY_TTL_MILLIS : now;
+                    if (ttlMillis != -2L) {
+                        putMarker(operations, slotOf(legacyKey.substring(LEGACY_KEY_PREFIX.length()), buckets), revokedAtMillis);
+                    }
+                    operations.delete(legacyKey);
+                }
+                return null;
+            }
+        });
+        return legacyKeys.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void putMarker(RedisOperations operations, MarkerSlot slot, long revokedAtMillis) {
+        long window = revokedAtMillis / windowMillis();
+        String bucketKey = bucketKey(window, slot.bucket());
+        operations.opsForHash().put(bucketKey, slot.field(), "1");
+        operations.expireAt(bucketKey, new Date((window + 1) * windowMillis() + retentionMillis()));
+    }
+
+    static String bucketKey(long window, int bucket) {
+        return BUCKET_KEY_PREFIX + window + ":" + bucket;
+    }
+
+    static String legacyKey(String tokenValue) {
+        return LEGACY_KEY_PREFIX + tokenValue;
+    }
+
+    static MarkerSlot slotOf(String tokenValue, int buckets) {
+        return slotOfDigest(RefreshToken.digestOf(tokenValue), buckets);
+    }
+
+    static MarkerSlot slotOfDigest(byte[] digest, int buckets) {
+        int bucket = (((digest[FIELD_BYTES] & 0xff) << 8) | (digest[FIELD_BYTES + 1] & 0xff)) % buckets;
+        String field = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, FIELD_BYTES));
+        return new MarkerSlot(bucket, field);
+    }
+
+    private List<String> scanLegacyKeys(int maxKeys) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(LEGACY_KEY_PREFIX + "*")
+                .count(1000)
+                .build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext() && keys.size() < maxKeys) {
+                keys.add(cursor.next());
+            }
+        }
+        return keys;
+    }
+
+    private long windowMillis() {
+        return windowDays * 86400000L;
+    }
+
+    private long retentionMillis() {
+        return refreshTokenExpirationDays * 86400000L;
+    }
+
+    record MarkerSlot(int bucket, String field) {
+    }
+}
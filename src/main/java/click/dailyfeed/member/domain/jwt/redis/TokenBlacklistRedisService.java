@@ -0,0 +1,90 @@
+package click.dailyfeed.member.domain.jwt.redis;
+
+import click.dailyfeed.code.global.cache.RedisKeyPrefix;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로그아웃(Access Token 블랙리스트) 의 Redis 기준 저장 + jwt_blacklist 반영 대기열
+ *
+ * 로그아웃은 Lua 스크립트 한번(Redis 왕복 1회) 으로 아래를 모두 수행하고, DB 반영은 TokenBlacklistWriteBehind 가 batch 로 처리한다.
+ * - member:authentication:blacklist:{jti} = memberId (TTL = Access Token 남은 수명)
+ * - 연관 Refresh Token 세션(refresh_session:jti:{jti} 로 조회) 을 revoked 로 표시
+ * - 대기열(QUEUE_KEY) 에 "{jti}|{memberId}|{expiresAtMillis}|{reason}" 적재
+ * - 다른 Pod 의 JtiBlacklistIndex 로 전파 (channelName 으로 publish)
+ *
+ * Redis 오류는 호출자에게 전파하고, 호출자(TokenService) 는 DB 에 직접 저장한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TokenBlacklistRedisService {
+    public static final String QUEUE_KEY = "member:authentication:blacklist:write_queue";
+    private static final String ENTRY_SEPARATOR = "|";
+
+    /**
+     * 로그아웃
+     * KEYS[1] = 블랙리스트 key, KEYS[2] = jti → Refresh 세션 id 인덱스, KEYS[3] = 대기열
+     * ARGV[1] = memberId, ARGV[2] = 블랙리스트 TTL(ms), ARGV[3] = 대기열 항목,
+     * ARGV[4] = Refresh 세션 key prefix, ARGV[5] = 전파 channel, ARGV[6] = 전파 message
+     * @return 무효화된 Refresh 세션 id (연관 세션이 없으면 nil)
+     */
+    private static final RedisScript<String> LOGOUT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "local sessionId = redis.call('GET', KEYS[2]) " +
+            "if sessionId then " +
+            "  local sessionKey = ARGV[4] .. sessionId " +
+            "  if redis.call('EXISTS', sessionKey) == 1 then redis.call('HSET', sessionKey, 'revoked', '1') end " +
+            "end " +
+            "redis.call('RPUSH', KEYS[3], ARGV[3]) " +
+            "redis.call('PUBLISH', ARGV[5], ARGV[6]) " +
+            "return sessionId",
+            String.class
+    );
+
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    /**
+     * 블랙리스트 저장 + 연관 Refresh 세션 무효화 + DB 반영 대기열 적재 + 전파 (Redis 왕복 1회)
+     * @return 무효화된 Refresh 세션 id (RefreshSessionRedisService.sessionIdOf)
+     */
+    public Optional<String> logout(String jti, Long memberId, long expiresAtMillis, String reason,
+                                   String channelName, String channelMessage) {
+        long ttlMillis = Math.max(expiresAtMillis - System.currentTimeMillis(), 1L);
+        String sessionId = stringRedisTemplate.execute(
+                LOGOUT_SCRIPT,
+                List.of(
+                        RedisKeyPrefix.MEMBER_AUTHENTICATION_BLACKLIST + jti,
+                        RefreshSessionRedisService.JTI_KEY_PREFIX + jti,
+                        QUEUE_KEY
+                ),
+                String.valueOf(memberId),
+                String.valueOf(ttlMillis),
+                toEntry(jti, memberId, expiresAtMillis, reason),
+                RefreshSessionRedisService.SESSION_KEY_PREFIX,
+                channelName,
+                channelMessage
+        );
+        return Optional.ofNullable(sessionId);
+    }
+
+    public static String toEntry(String jti, Long memberId, long expiresAtMillis, String reason) {
+        return String.join(ENTRY_SEPARATOR, jti, String.valueOf(memberId), String.valueOf(expiresAtMillis), reason);
+    }
+
+    /**
+     * @return [jti, memberId, expiresAtMillis, reason]
+     */
+    public static String[] parseEntry(String entry) {
+        return entry.split("\\" + ENTRY_SEPARATOR, 4);
+    }
+}
@@ -0,0 +1,64 @@
+package click.dailyfeed.member.domain.jwt.repository.jdbc;
+
+import click.dailyfeed.member.domain.jwt.converter.UuidBinaryConverter;
+import click.dailyfeed.member.domain.jwt.entity.TokenBlacklist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 로그아웃 write-behind 용 JDBC batch 쓰기 (TokenBlacklistWriteBehind)
+ *
+ * JPA saveAll 은 IDENTITY 키 때문에 행마다 INSERT 를 실행하므로 JdbcTemplate.batchUpdate 로 묶는다.
+ * (MySQL 에서 실제 multi-row 로 전송되려면 JDBC URL 에 rewriteBatchedStatements=true 필요)
+ * 같은 batch 가 재시도되어도 결과가 같도록 INSERT IGNORE / 조건부 UPDATE 만 사용한다.
+ * jti / access_token_id 는 BINARY(16) 컬럼이므로 엔티티의 UuidBinaryConverter 와 같은 방식으로 변환해 바인딩한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenBlacklistJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * jwt_blacklist batch INSERT (이미 있는 jti 는 무시)
+     */
+    public void insertIgnoreAll(List<TokenBlacklist> blacklists) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO jwt_blacklist (jti, member_id, expires_at, reason, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                blacklists,
+                blacklists.size(),
+                (ps, blacklist) -> {
+                    ps.setBytes(1, UuidBinaryConverter.toBytes(blacklist.getJti()));
+                    ps.setLong(2, blacklist.getMemberId());
+                    ps.setTimestamp(3, Timestamp.valueOf(blacklist.getExpiresAt()));
+                    ps.setString(4, blacklist.getReason());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                }
+        );
+    }
+
+    /**
+     * Access Token(jti) 에 연관된 Refresh Token batch 무효화
+     */
+    public void revokeAllByAccessTokenIdIn(Collection<String> accessTokenIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "UPDATE jwt_refresh_tokens SET is_revoked = true, updated_at = ? " +
+                        "WHERE access_token_id = ? AND is_revoked = false",
+                accessTokenIds,
+                accessTokenIds.size(),
+                (ps, accessTokenId) -> {
+                    ps.setTimestamp(1, now);
+                    ps.setBytes(2, UuidBinaryConverter.toBytes(accessTokenId));
+                }
+        );
+    }
+}
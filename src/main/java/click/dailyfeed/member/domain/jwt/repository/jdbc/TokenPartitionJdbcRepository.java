@@ -0,0 +1,92 @@
+package click.dailyfeed.member.domain.jwt.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * expires_at 기준 월 단위 RANGE 파티션 관리 (MySQL)
+ *
+ * 파티션 구성은 src/main/resources/db/partition/jwt_tokens_month_partition.sql 참고
+ * - p{yyyyMM} : 해당 월에 만료되는 행 (VALUES LESS THAN 다음달 1일)
+ * - p_future  : 그 이후 (MAXVALUE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenPartitionJdbcRepository {
+    public static final String REFRESH_TOKEN_TABLE = "jwt_refresh_tokens";
+    public static final String BLACKLIST_TABLE = "jwt_blacklist";
+
+    private static final Set<String> PARTITIONED_TABLES = Set.of(REFRESH_TOKEN_TABLE, BLACKLIST_TABLE);
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 월 파티션 이름 목록 (p_future 제외, 오래된 순)
+     */
+    public List<String> findMonthPartitionNames(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? " +
+                        "AND PARTITION_NAME IS NOT NULL AND PARTITION_NAME <> ? " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class,
+                checkTable(table),
+                FUTURE_PARTITION
+        );
+    }
+
+    /**
+     * p_future 를 분할하여 month 파티션 추가
+     */
+    public void addMonthPartition(String table, YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE %s REORGANIZE PARTITION %s INTO (" +
+                        "PARTITION %s VALUES LESS THAN ('%s 00:00:00'), " +
+                        "PARTITION %s VALUES LESS THAN (MAXVALUE))",
+                checkTable(table),
+                FUTURE_PARTITION,
+                partitionName(month),
+                month.plusMonths(1).atDay(1),
+                FUTURE_PARTITION
+        ));
+    }
+
+    /**
+     * month 파티션 삭제 (파티션 내 모든 행 삭제, 행 단위 lock 없음)
+     */
+    public void dropMonthPartition(String table, YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE %s DROP PARTITION %s",
+                checkTable(table),
+                partitionName(month)
+        ));
+    }
+
+    public static String partitionName(YearMonth month) {
+        return month.format(PARTITION_NAME_FORMAT);
+    }
+
+    public static Optional<YearMonth> parsePartitionName(String partitionName) {
+        try {
+            return Optional.of(YearMonth.parse(partitionName, PARTITION_NAME_FORMAT));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private String checkTable(String table) {
+        if (!PARTITIONED_TABLES.contains(table)) {
+            throw new IllegalArgumentException("Not a partitioned token table: " + table);
+        }
+        return table;
+    }
+}
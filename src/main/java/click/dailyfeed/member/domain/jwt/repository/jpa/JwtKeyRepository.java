@@ -25,12 +25,20 @@ public interface JwtKeyRepository extends JpaRepository<JwtKey, Long> {
 
     // 모든 검증 가능한 키들 조회 (Grace Period 체크 포함)
     @Query("SELECT k FROM JwtKey k WHERE k.isActive = true AND k.expiresAt > :now")
-    List<JwtKey> findAllActiveKeys();
+    List<JwtKey> findAllActiveKeys(LocalDateTime now);
 
     // Grace Period 만료된 키들 조회 (isActive를 false로 변경할 대상)
     @Query("SELECT j FROM JwtKey j WHERE j.expiresAt < :now")
     List<JwtKey> findExpiredKeys(LocalDateTime now);
 
+    // Grace Period 만료되었지만 아직 활성 상태인 키들 조회 (키 정리 대상)
+    @Query("SELECT j FROM JwtKey j WHERE j.isActive = true AND j.expiresAt < :now")
+    List<JwtKey> findExpiredActiveKeys(LocalDateTime now);
+
+    // 사전 공개된 다음 Primary 후보 키 조회 (isActive=true, isPrimary=false, 현재 Primary 이후 생성)
+    @Query("SELECT k FROM JwtKey k WHERE k.isActive = true AND k.isPrimary = false AND k.createdAt > :primaryCreatedAt ORDER BY k.createdAt DESC LIMIT 1")
+    Optional<JwtKey> findNextKey(LocalDateTime primaryCreatedAt);
+
 //    Optional<JwtKey> findByKeyIdAndIsActiveTrue(String keyId);
 //
 //    @Query("SELECT j FROM JwtKey j WHERE j.isActive = true ORDER BY j.createdDate DESC LIMIT 1")
@@ -1,13 +1,16 @@
 package click.dailyfeed.member.domain.jwt.repository.jpa;
 
 import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +18,16 @@ import java.util.Optional;
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     /**
-     * 유효한 리프레시 토큰 조회
+     * 유효한 리프레시 토큰 조회 (tokenDigest = RefreshToken.digestOf(tokenValue))
      */
-    Optional<RefreshToken> findByTokenValueAndIsRevokedFalse(String tokenValue);
+    Optional<RefreshToken> findByTokenDigestAndIsRevokedFalse(byte[] tokenDigest);
+
+    /**
+     * 유효한 리프레시 토큰 조회 (토큰 값의 digest 로 조회)
+     */
+    default Optional<RefreshToken> findActiveByTokenValue(String tokenValue) {
+        return findByTokenDigestAndIsRevokedFalse(RefreshToken.digestOf(tokenValue));
+    }
 
     /**
      * 액세스 토큰 ID로 연관된 리프레시 토큰 조회
@@ -37,11 +47,52 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     /**
      * 사용자의 모든 리프레시 토큰 무효화
      */
+    @Transactional
     @Modifying
     @Query("UPDATE RefreshToken rt SET rt.isRevoked = true " +
             "WHERE rt.memberId = :memberId AND rt.isRevoked = false")
     int revokeAllByMemberId(@Param("memberId") Long memberId);
 
+    /**
+     * 만료시각이 expiresAtUntil 이하인(= 그만큼 먼저 발급된) 사용자의 리프레시 토큰 무효화 (전체 디바이스 로그아웃 반영용)
+     * expires_at 은 초 단위로 반올림되어 저장되므로 expiresAtUntil 은 초 단위로 올림한 값을 넘긴다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true " +
+            "WHERE rt.memberId = :memberId AND rt.isRevoked = false AND rt.expiresAt <= :expiresAtUntil")
+    int revokeAllByMemberIdExpiringUntil(
+            @Param("memberId") Long memberId,
+            @Param("expiresAtUntil") LocalDateTime expiresAtUntil
+    );
+
+    /**
+     * 유효한(무효화되지 않았고 만료되지 않은) 리프레시 토큰만 무효화 (단일 사용 보장, 0 이면 이미 사용됨)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true " +
+            "WHERE rt.tokenDigest = :tokenDigest AND rt.isRevoked = false AND rt.expiresAt > :now")
+    int revokeIfActiveByDigest(@Param("tokenDigest") byte[] tokenDigest, @Param("now") LocalDateTime now);
+
+    default int revokeIfActive(String tokenValue, LocalDateTime now) {
+        return revokeIfActiveByDigest(RefreshToken.digestOf(tokenValue), now);
+    }
+
+    /**
+     * tokenDigest 목록으로 무효화 (Write-behind 배치 반영용)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true " +
+            "WHERE rt.tokenDigest IN :tokenDigests AND rt.isRevoked = false")
+    int revokeAllByTokenDigestIn(@Param("tokenDigests") Collection<byte[]> tokenDigests);
+
+    /**
+     * 이미 저장된 tokenDigest 조회 (Write-behind 중복 INSERT 방지)
+     */
+    @Query("SELECT rt.tokenDigest FROM RefreshToken rt WHERE rt.tokenDigest IN :tokenDigests")
+    List<byte[]> findExistingTokenDigests(@Param("tokenDigests") Collection<byte[]> tokenDigests);
+
     /**
      * 만료된 토큰 삭제
      */
@@ -57,6 +108,60 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
             "WHERE rt.isRevoked = true AND rt.updatedAt < :cutoffTime")
     int deleteRevokedTokensOlderThan(@Param("cutoffTime") LocalDateTime cutoffTime);
 
+    /**
+     * id 범위 내에서 만료되었거나, 무효화되고 일정 시간이 지난 토큰 삭제 (chunk 단위 정리용)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt " +
+            "WHERE rt.id >= :fromId AND rt.id < :toId " +
+            "AND (rt.expiresAt < :now OR (rt.isRevoked = true AND rt.updatedAt < :revokedCutoffTime))")
+    int deletePurgeableTokensInRange(
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId,
+            @Param("now") LocalDateTime now,
+            @Param("revokedCutoffTime") LocalDateTime revokedCutoffTime
+    );
+
+    @Query("SELECT MIN(rt.id) FROM RefreshToken rt")
+    Optional<Long> findMinId();
+
+    @Query("SELECT MAX(rt.id) FROM RefreshToken rt")
+    Optional<Long> findMaxId();
+
+    /**
+     * 가장 오래된 만료시각 (정리 지연(lag) 측정용)
+     */
+    @Query("SELECT MIN(rt.expiresAt) FROM RefreshToken rt")
+    Optional<LocalDateTime> findMinExpiresAt();
+
+    /**
+     * 회원의 유효한 리프레시 토큰 id (최근 발급 순, 세션 수 제한의 DB 경로용)
+     */
+    @Query("SELECT rt.id FROM RefreshToken rt " +
+            "WHERE rt.memberId = :memberId AND rt.isRevoked = false ORDER BY rt.id DESC")
+    List<Long> findActiveIdsByMemberIdOrderByIdDesc(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 같은 디바이스의 다른 유효한 리프레시 토큰 무효화 (새 세션 excludeId 제외)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true " +
+            "WHERE rt.memberId = :memberId AND rt.deviceInfo = :deviceInfo AND rt.isRevoked = false AND rt.id <> :excludeId")
+    int revokeActiveByMemberIdAndDeviceInfoExcept(
+            @Param("memberId") Long memberId,
+            @Param("deviceInfo") String deviceInfo,
+            @Param("excludeId") Long excludeId
+    );
+
+    /**
+     * keepIds 를 제외한 회원의 유효한 리프레시 토큰 무효화 (세션 수 초과분)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true " +
+            "WHERE rt.memberId = :memberId AND rt.isRevoked = false AND rt.id NOT IN :keepIds")
+    int revokeActiveByMemberIdExcept(@Param("memberId") Long memberId, @Param("keepIds") Collection<Long> keepIds);
+
     /**
      * 특정 디바이스의 토큰 조회
      */
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +25,11 @@ public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist,
      */
     Optional<TokenBlacklist> findByJti(String jti);
 
+    /**
+     * 아직 만료되지 않은 블랙리스트 항목 조회 (로컬 블랙리스트 인덱스 적재용)
+     */
+    List<TokenBlacklist> findAllByExpiresAtAfter(LocalDateTime now);
+
     /**
      * 사용자의 블랙리스트 항목 조회
      */
@@ -43,4 +49,29 @@ public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist,
     @Query("DELETE FROM TokenBlacklist tb " +
             "WHERE tb.expiresAt < :cutoffTime")
     int deleteTokensExpiredBefore(@Param("cutoffTime") LocalDateTime cutoffTime);
-}
\ No newline at end of file
+
+    /**
+     * id 범위 내에서 만료 후 일정 시간이 지난 항목 삭제 (chunk 단위 정리용)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenBlacklist tb " +
+            "WHERE tb.id >= :fromId AND tb.id < :toId AND tb.expiresAt < :cutoffTime")
+    int deleteTokensExpiredBeforeInRange(
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId,
+            @Param("cutoffTime") LocalDateTime cutoffTime
+    );
+
+    @Query("SELECT MIN(tb.id) FROM TokenBlacklist tb")
+    Optional<Long> findMinId();
+
+    @Query("SELECT MAX(tb.id) FROM TokenBlacklist tb")
+    Optional<Long> findMaxId();
+
+    /**
+     * 가장 오래된 만료시각 (정리 지연(lag) 측정용)
+     */
+    @Query("SELECT MIN(tb.expiresAt) FROM TokenBlacklist tb")
+    Optional<LocalDateTime> findMinExpiresAt();
+}
@@ -0,0 +1,213 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.code.domain.member.member.predicate.BlackListedPredicate;
+import click.dailyfeed.code.global.cache.RedisKeyPrefix;
+import click.dailyfeed.member.config.redis.RedisCircuitBreaker;
+import click.dailyfeed.member.domain.jwt.entity.TokenBlacklist;
+import click.dailyfeed.member.domain.jwt.repository.jpa.TokenBlacklistRepository;
+import click.dailyfeed.member.domain.jwt.util.JtiBloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 JTI 블랙리스트 인덱스
+ *
+ * 블랙리스트 토큰은 드물기 때문에, 거의 모든 요청이 "블랙리스트 아님" 을 확인하기 위해 Redis/DB 를 조회하던 것을
+ * Bloom Filter + 정확한 revoke 집합으로 대체한다.
+ *
+ * - 적재 : 기동 시 MySQL(jwt_blacklist) + Redis(member:authentication:blacklist:*) 에서 seed
+ * - 전파 : 로그아웃 시 Redis pub/sub(BLACKLIST_CHANNEL) 으로 모든 Pod 에 즉시 전파
+ * - 보정 : pub/sub 유실에 대비해 주기적으로 재적재 (전파 지연의 상한 = jwt.blacklist.index.resync.millis)
+ *
+ * 조회 결과
+ * - Bloom Filter 에 없음 → NOT_BLACKLISTED (I/O 없음)
+ * - 정확한 집합에 있음 → BLACKLISTED (I/O 없음)
+ * - 그 외(오탐 또는 준비 전) → Optional.empty() : 호출자가 Redis/DB 로 확인
+ * - Redis 와 DB fallback 을 모두 쓸 수 없으면 호출자가 isRevokedLocally 로 판정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JtiBlacklistIndex implements MessageListener {
+    public static final String BLACKLIST_CHANNEL = "member:authentication:blacklist:events";
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    @Value("${jwt.blacklist.index.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${jwt.blacklist.index.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${jwt.access.expiration.hours:1}")
+    private Integer accessTokenExpirationHours;
+
+    // jti → 만료 시각(epoch ms)
+    private final Map<String, Long> revokedJtis = new ConcurrentHashMap<>();
+    private volatile JtiBloomFilter bloomFilter;
+    private volatile boolean ready = false;
+
+    /**
+     * 블랙리스트 여부 조회 (I/O 없음)
+     * @return 판정 불가(준비 전 또는 Bloom Filter 오탐) 시 Optional.empty()
+     */
+    public Optional<BlackListedPredicate> lookup(String jti) {
+        JtiBloomFilter currentFilter = bloomFilter;
+        if (!ready || currentFilter == null || jti == null) {
+            return Optional.empty();
+        }
+
+        if (!currentFilter.mightContain(jti)) {
+            return Optional.of(BlackListedPredicate.NOT_BLACKLISTED);
+        }
+
+        if (revokedJtis.containsKey(jti)) {
+            return Optional.of(BlackListedPredicate.BLACKLISTED);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 정확한 revoke 집합에 있는지 (Bloom Filter 와 준비 여부와 무관, I/O 없음)
+     * Redis/DB 를 모두 사용할 수 없을 때의 마지막 판정 근거
+     */
+    public boolean isRevokedLocally(String jti) {
+        return jti != null && revokedJtis.containsKey(jti);
+    }
+
+    /**
+     * 로컬 인덱스에 추가 (정확한 집합 → Bloom Filter 순서로 추가해야 재구성 중에도 유실되지 않음)
+     */
+    public void add(String jti, long expiresAtMillis) {
+        revokedJtis.merge(jti, expiresAtMillis, Math::max);
+        JtiBloomFilter currentFilter = bloomFilter;
+        if (currentFilter != null) {
+            currentFilter.put(jti);
+        }
+    }
+
+    /**
+     * 로컬 인덱스에 추가하고 다른 Pod 으로 전파
+     */
+    public void publishRevocation(String jti, long expiresAtMillis) {
+        add(jti, expiresAtMillis);
+        try {
+            stringRedisTemplate.convertAndSend(BLACKLIST_CHANNEL, jti + "," + expiresAtMillis);
+        } catch (Exception e) {
+            // 다른 Pod 은 주기적 재적재로 보정됨
+            log.warn("Failed to publish blacklist event. JTI: {}, {}", jti, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 Pod 에서 전파된 블랙리스트 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(',');
+        try {
+            if (separator < 0) {
+                add(body, System.currentTimeMillis() + accessTokenExpirationHours * 3600000L);
+            } else {
+                add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid blacklist event: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        resync();
+    }
+
+    /**
+     * MySQL + Redis 에서 재적재 후 Bloom Filter 재구성 (만료 항목 정리 포함)
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.index.resync.millis:60000}",
+            fixedDelayString = "${jwt.blacklist.index.resync.millis:60000}"
+    )
+    public void resync() {
+        try {
+            long now = System.currentTimeMillis();
+            seedFromDatabase();
+            // Redis 장애 중에도 MySQL 기준 재구성은 진행 (Redis 를 쓸 수 없는 동안 블랙리스트 판정의 근거)
+            if (!redisCircuitBreaker.run(() -> seedFromRedis(now))) {
+                log.warn("Skipped Redis seed of JTI blacklist index, Redis unavailable");
+            }
+
+            revokedJtis.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+            rebuildBloomFilter();
+            ready = true;
+
+            log.debug("JTI blacklist index resynced - size: {}", revokedJtis.size());
+        } catch (Exception e) {
+            // 이전 상태 유지 (준비 전이라면 호출자는 Redis/DB 로 확인)
+            log.warn("Failed to resync JTI blacklist index: {}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        return revokedJtis.size();
+    }
+
+    private void seedFromDatabase() {
+        for (TokenBlacklist blacklist : tokenBlacklistRepository.findAllByExpiresAtAfter(LocalDateTime.now())) {
+            long expiresAtMillis = blacklist.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            revokedJtis.merge(blacklist.getJti(), expiresAtMillis, Math::max);
+        }
+    }
+
+    private void seedFromRedis(long now) {
+        String prefix = String.valueOf(RedisKeyPrefix.MEMBER_AUTHENTICATION_BLACKLIST);
+        // Redis 에만 있는 항목은 만료시각을 알 수 없으므로 Access Token 최대 수명으로 보수적으로 설정
+        long expiresAtMillis = now + accessTokenExpirationHours * 3600000L;
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(prefix + "*")
+                .count(1000)
+                .build();
+
+        try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                String jti = cursor.next().substring(prefix.length());
+                revokedJtis.putIfAbsent(jti, expiresAtMillis);
+            }
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        JtiBloomFilter newFilter = JtiBloomFilter.create(
+                Math.max(expectedInsertions, revokedJtis.size() * 2),
+                falsePositiveRate
+        );
+        revokedJtis.keySet().forEach(newFilter::put);
+        bloomFilter = newFilter;
+
+        // 재구성 중 add() 된 항목 반영
+        revokedJtis.keySet().forEach(newFilter::put);
+    }
+}
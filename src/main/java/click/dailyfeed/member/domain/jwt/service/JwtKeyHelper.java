@@ -1,40 +1,39 @@
 package click.dailyfeed.member.domain.jwt.service;
 
-import click.dailyfeed.code.domain.member.member.code.MemberHeaderCode;
 import click.dailyfeed.code.global.jwt.predicate.JwtExpiredPredicate;
 import click.dailyfeed.member.domain.jwt.dto.JwtDto;
-import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
-import click.dailyfeed.member.domain.jwt.repository.jpa.RefreshTokenRepository;
+import click.dailyfeed.member.domain.jwt.util.JwtAccessTokenSigner;
 import click.dailyfeed.member.domain.jwt.util.JwtProcessor;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.security.Key;
-import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.Date;
-import java.util.Optional;
 
+/**
+ * 토큰 생성/파싱 helper
+ * DB 를 직접 사용하지 않으므로 트랜잭션 없이 동작 (요청 경로의 검증은 TokenVerifier)
+ */
 @Slf4j
-@Transactional
 @RequiredArgsConstructor
 @Component
 public class JwtKeyHelper {
     private final JwtKeyRotationService jwtKeyRotationService;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenVerifier tokenVerifier;
 
     @Value("${jwt.access.expiration.hours:1}")
     private Integer accessTokenExpirationHours;
 
+    @Value("${jwt.access.profile-claims.enabled:true}")
+    private boolean profileClaimsEnabled;
+
     /**
      * 액세스 토큰 만료 시간 생성
      */
@@ -51,34 +50,75 @@ public class JwtKeyHelper {
 
     /**
      * JTI를 포함한 토큰 생성 (만료 시간 자동 생성)
+     * iat(발급시각) 은 회원 단위 무효화(MemberRevocationEpoch) 판정에 사용
+     * Primary 키가 지원하는 알고리즘이면 JwtAccessTokenSigner 로, 아니면 Jwts.builder() 로 생성 (두 경로의 결과는 같은 형식)
+     * userDetails 에 프로필이 있고 jwt.access.profile-claims.enabled 이면 프로필 claims(hdl, dn, av, pv) 를 함께 담는다.
      */
     public String generateTokenWithJti(JwtDto.UserDetails userDetails, String jti) {
-        Key primaryKey = jwtKeyRotationService.getPrimaryKey();
-        String primaryKeyId = jwtKeyRotationService.getPrimaryKeyId();
-        Date expirationDate = generateAccessTokenExpiration();
+        JwtKeyRing.KeyEntry primaryKey = jwtKeyRotationService.getPrimaryKeyEntry();
+        Date issuedAt = new Date();
+        Date expirationDate = new Date(issuedAt.getTime() + (accessTokenExpirationHours * 3600000L));
+        JwtDto.ProfileClaims profile = profileClaimsEnabled ? userDetails.getProfile() : null;
+
+        if (primaryKey.getEncodedHeader() != null && userDetails.getId() != null
+                && JwtAccessTokenSigner.isPlainJsonString(jti) && JwtAccessTokenSigner.isPlainProfile(profile)) {
+            return JwtAccessTokenSigner.sign(
+                    primaryKey.getEncodedHeader(),
+                    primaryKey.getSigningKey(),
+                    primaryKey.getAlgorithm(),
+                    jti,
+                    userDetails.getId(),
+                    issuedAt.getTime(),
+                    expirationDate.getTime(),
+                    profile
+            );
+        }
 
-        return Jwts.builder()
-                .setHeaderParam("kid", primaryKeyId)
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam("kid", primaryKey.getKeyId())
                 .setId(jti)  // JTI 설정
                 .setSubject(String.valueOf(userDetails.getId()))
+                .setIssuedAt(issuedAt)
                 .setExpiration(expirationDate)
-                .claim("id", userDetails.getId())
-                .signWith(primaryKey, SignatureAlgorithm.HS256)
+                .claim("id", userDetails.getId());
+
+        // 값이 null 인 claim 은 jjwt 가 생략 (JwtAccessTokenSigner 와 같음)
+        if (profile != null) {
+            builder.claim(JwtDto.ProfileClaims.HANDLE, profile.getHandle())
+                    .claim(JwtDto.ProfileClaims.DISPLAY_NAME, profile.getDisplayName())
+                    .claim(JwtDto.ProfileClaims.AVATAR_URL, profile.getAvatarUrl())
+                    .claim(JwtDto.ProfileClaims.VERSION, profile.getVersion());
+        }
+
+        return builder
+                .signWith(primaryKey.getSigningKey(), primaryKey.getAlgorithm())
                 .compact();
     }
 
+    /**
+     * Access Token 에 프로필 claims 를 담는지 (false 면 발급 시 프로필 조회를 생략할 수 있음)
+     */
+    public boolean isProfileClaimsEnabled() {
+        return profileClaimsEnabled;
+    }
+
     public Claims readClaim(String keyId, String token) {
-        Key key = jwtKeyRotationService.getKeyByKeyId(keyId);
+        JwtParser jwtParser = jwtKeyRotationService.getParserByKeyId(keyId);
 
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        Claims claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
 
         return claims;
     }
 
+    /**
+     * 토큰 검증 (요청당 1회, TokenVerifier 에 위임)
+     */
+    public JwtDto.VerifiedToken verifyToken(String token) {
+        return tokenVerifier.verifyToken(token);
+    }
+
     /**
      * 토큰에서 JTI 추출
      */
@@ -106,82 +146,45 @@ public class JwtKeyHelper {
      * 새로운 JWT 토큰 생성 (항상 Primary Key 사용)
      */
     public String generateToken(JwtDto.UserDetails userDetails) {
-        Key primaryKey = jwtKeyRotationService.getPrimaryKey();
-        String primaryKeyId = jwtKeyRotationService.getPrimaryKeyId();
+        JwtKeyRing.KeyEntry primaryKey = jwtKeyRotationService.getPrimaryKeyEntry();
 
-        return JwtProcessor.generateToken(primaryKey, primaryKeyId, userDetails);
+        return JwtProcessor.generateToken(primaryKey.getSigningKey(), primaryKey.getAlgorithm(), primaryKey.getKeyId(), userDetails);
     }
 
     /**
      * JWT 토큰 검증 및 사용자 정보 추출
      */
     public JwtDto.UserDetails readUserDetailsFromToken(String keyId, String token) {
-        // Key ID로 해당 Key 조회
-        Key key = jwtKeyRotationService.getKeyByKeyId(keyId);
+        // Key ID로 해당 Key 의 Parser 조회 (Key Ring)
+        JwtParser jwtParser = jwtKeyRotationService.getParserByKeyId(keyId);
 
         // 토큰 검증 및 파싱
-        return JwtProcessor.degenerateToken(key, token);
+        return JwtProcessor.degenerateToken(jwtParser, token);
     }
 
     /**
      * 갱신 필요 여부 체크 및 헤더 추가
+     * 신호 시점을 jti 로 분산하므로 검증(캐시 hit 시 파싱 생략) 결과로 판정
      */
     public void checkAndRefreshHeader(String token, HttpServletResponse response) {
-        String currentKeyId = JwtProcessor.extractKeyIdOrThrow(token);
-        String primaryKeyId = jwtKeyRotationService.getPrimaryKeyId();
+        tokenVerifier.checkAndRefreshHeader(tokenVerifier.verifyToken(token), response);
+    }
 
-        if (!currentKeyId.equals(primaryKeyId)) {
-            String headerKey = MemberHeaderCode.X_TOKEN_REFRESH_NEEDED.getHeaderKey();
-            response.addHeader(headerKey, "true");
-            log.info("Token refresh needed - Current: {}, Primary: {}", currentKeyId, primaryKeyId);
-        }
+    /**
+     * 갱신 필요 여부 체크 및 헤더 추가 (이미 검증된 토큰)
+     */
+    public void checkAndRefreshHeader(JwtDto.VerifiedToken verifiedToken, HttpServletResponse response) {
+        tokenVerifier.checkAndRefreshHeader(verifiedToken, response);
     }
 
+    /**
+     * Refresh Token 만료 여부 (TokenVerifier 에 위임)
+     */
     public JwtExpiredPredicate checkRefreshTokenExpiration(HttpServletRequest request) {
-        try {
-            // 1. 쿠키에서 Refresh Token 추출
-            String refreshTokenValue = extractRefreshTokenFromCookie(request);
-            if (refreshTokenValue == null) {
-                log.debug("No refresh token found in cookie");
-                return JwtExpiredPredicate.EXPIRED;
-            }
-
-            // 2. DB에서 Refresh Token 조회
-            Optional<RefreshToken> refreshTokenOpt = refreshTokenRepository
-                    .findByTokenValueAndIsRevokedFalse(refreshTokenValue);
-
-            if (refreshTokenOpt.isEmpty()) { // 악의적인 접근(무효화된 토큰으로 접근)시 EXPIRED 처리 후 상위 호출에서 처리
-                log.debug("Refresh token not found in DB or already revoked");
-                return JwtExpiredPredicate.EXPIRED;
-            }
-
-            RefreshToken refreshToken = refreshTokenOpt.get();
-
-            // 3. 만료 여부 확인
-            LocalDateTime now = LocalDateTime.now();
-            boolean isExpired = refreshToken.isExpiredAt(now) || !refreshToken.isValidAt(now);
-
-            if (isExpired) {
-                log.debug("Refresh token expired at: {}", refreshToken.getExpiresAt());
-                return JwtExpiredPredicate.EXPIRED;
-            }
-
-            return JwtExpiredPredicate.NOT_EXPIRED;
-
-        } catch (Exception e) {
-            log.error("Error checking refresh token expiration: {}", e.getMessage());
-            return JwtExpiredPredicate.EXPIRED; // 에러 발생 시 만료로 간주
-        }
+        return tokenVerifier.checkRefreshTokenExpiration(request);
     }
 
     public String extractRefreshTokenFromCookie(HttpServletRequest request) {
-        if (request.getCookies() != null) {
-            return Arrays.stream(request.getCookies())
-                    .filter(cookie -> "refresh_token".equals(cookie.getName()))
-                    .map(Cookie::getValue)
-                    .findFirst()
-                    .orElse(null);
-        }
-        return null;
+        return tokenVerifier.extractRefreshTokenFromCookie(request);
     }
 }
@@ -0,0 +1,207 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.domain.jwt.entity.JwtKey;
+import click.dailyfeed.member.domain.jwt.util.JwtAccessTokenSigner;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 로컬 JWT Key Ring
+ *
+ * keyId → (디코딩된 서명/검증 키, 재사용 가능한 JwtParser) 를 메모리에 보관한다.
+ * 토큰 검증 시 DB 조회, Base64 디코딩, parserBuilder() 생성을 모두 생략하기 위한 용도.
+ *
+ * - 적재/갱신 : JwtKeyRotationService 가 DB 에서 읽어온 키 목록으로 replaceAll() 호출
+ * - 만료 처리 : 조회 시점에 expiresAt 을 지난 키는 제거 후 miss 로 처리
+ * - 스레드 안전성 : JwtParser(DefaultJwtParser) 는 불변 객체이므로 요청 간 공유 가능
+ * - Primary 변경 시각 : 이 Pod 에서 Primary 의 kid 가 바뀐 것을 처음 본 시각 (TokenRefreshSignal 의 분산 기준, 기동 시에는 첫 적재 시각)
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+    private final Map<String, KeyEntry> entries = new ConcurrentHashMap<>();
+    private volatile KeyEntry primary;
+    private volatile long loadedAtMillis;
+    private volatile long primaryChangedAtMillis;
+
+    /**
+     * DB 에서 조회한 활성 키 목록으로 Key Ring 전체를 교체
+     * isPrimary=true 인 키가 여러개일 경우 가장 최신 키를 Primary 로 간주
+     */
+    public void replaceAll(List<KeyEntry> activeEntries) {
+        activeEntries.forEach(entry -> entries.put(entry.getKeyId(), entry));
+        entries.keySet().removeIf(keyId -> activeEntries.stream().noneMatch(entry -> entry.getKeyId().equals(keyId)));
+
+        updatePrimary(activeEntries.stream()
+                .filter(KeyEntry::isPrimary)
+                .max(Comparator.comparing(KeyEntry::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .orElse(null));
+        loadedAtMillis = System.currentTimeMillis();
+
+        log.info("🔑 JWT key ring loaded - keys: {}, primary: {}",
+                entries.size(), primary == null ? null : primary.getKeyId());
+    }
+
+    /**
+     * 단일 키 추가 (또는 교체)
+     */
+    public void put(KeyEntry entry) {
+        entries.put(entry.getKeyId(), entry);
+        if (entry.isPrimary()) {
+            updatePrimary(entry);
+        }
+    }
+
+    /**
+     * 키 제거 (비활성화된 키)
+     */
+    public void evict(String keyId) {
+        entries.remove(keyId);
+        KeyEntry currentPrimary = primary;
+        if (currentPrimary != null && currentPrimary.getKeyId().equals(keyId)) {
+            primary = null;
+        }
+    }
+
+    /**
+     * keyId 로 검증용 키 조회 (만료된 키는 제거 후 empty 반환)
+     */
+    public Optional<KeyEntry> find(String keyId) {
+        if (keyId == null) {
+            return Optional.empty();
+        }
+
+        KeyEntry entry = entries.get(keyId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (entry.isExpiredAt(System.currentTimeMillis())) {
+            log.debug("JWT key expired in key ring, evicting: keyId={}", keyId);
+            evict(keyId);
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * 토큰 생성용 Primary 키 조회
+     */
+    public Optional<KeyEntry> findPrimary() {
+        KeyEntry currentPrimary = primary;
+        if (currentPrimary == null || currentPrimary.isExpiredAt(System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        return Optional.of(currentPrimary);
+    }
+
+    /**
+     * Primary 의 kid 가 마지막으로 바뀐 시각 (epoch ms, 아직 적재 전이면 0)
+     */
+    public long getPrimaryChangedAtMillis() {
+        return primaryChangedAtMillis;
+    }
+
+    /**
+     * 마지막 전체 적재 이후 경과 시간 (ms)
+     */
+    public long millisSinceLoaded() {
+        return System.currentTimeMillis() - loadedAtMillis;
+    }
+
+    /**
+     * 만료되지 않은 전체 키 (JWKS 공개용)
+     */
+    public List<KeyEntry> findAllActive() {
+        long now = System.currentTimeMillis();
+        return entries.values().stream()
+                .filter(entry -> !entry.isExpiredAt(now))
+                .toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void updatePrimary(KeyEntry newPrimary) {
+        KeyEntry previous = primary;
+        if (newPrimary != null && (previous == null || !previous.getKeyId().equals(newPrimary.getKeyId()))) {
+            primaryChangedAtMillis = System.currentTimeMillis();
+        }
+        primary = newPrimary;
+    }
+
+    @Getter
+    public static class KeyEntry {
+        private final String keyId;
+        private final SignatureAlgorithm algorithm;
+        private final Key signingKey;       // HS256 : SecretKey, ES256 : PrivateKey
+        private final Key verificationKey;  // HS256 : SecretKey, ES256 : PublicKey
+        private final JwtParser parser;
+        private final String encodedHeader;  // Access Token header (base64url), JwtAccessTokenSigner 미지원이면 null
+        private final boolean primary;
+        private final long expiresAtMillis;
+        private final LocalDateTime createdAt;
+
+        private KeyEntry(String keyId, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey,
+                         boolean primary, long expiresAtMillis, LocalDateTime createdAt) {
+            this.keyId = keyId;
+            this.algorithm = algorithm;
+            this.signingKey = signingKey;
+            this.verificationKey = verificationKey;
+            this.parser = Jwts.parserBuilder()
+                    .setSigningKey(verificationKey)
+                    .build();
+            this.encodedHeader = JwtAccessTokenSigner.encodeHeaderOrNull(keyId, algorithm);
+            this.primary = primary;
+            this.expiresAtMillis = expiresAtMillis;
+            this.createdAt = createdAt;
+        }
+
+        public static KeyEntry of(JwtKey jwtKey, SecretKey secretKey) {
+            return of(jwtKey, secretKey, secretKey);
+        }
+
+        public static KeyEntry of(JwtKey jwtKey, Key signingKey, Key verificationKey) {
+            long expiresAtMillis = jwtKey.getExpiresAt() == null
+                    ? Long.MAX_VALUE
+                    : jwtKey.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+            return new KeyEntry(
+                    jwtKey.getKeyId(),
+                    jwtKey.getSignatureAlgorithm(),
+                    signingKey,
+                    verificationKey,
+                    Boolean.TRUE.equals(jwtKey.getIsPrimary()),
+                    expiresAtMillis,
+                    jwtKey.getCreatedAt()
+            );
+        }
+
+        /**
+         * 공개 가능한(비대칭) 키인지 여부 (JWKS 공개 대상)
+         */
+        public boolean isAsymmetric() {
+            return verificationKey instanceof PublicKey;
+        }
+
+        public boolean isExpiredAt(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
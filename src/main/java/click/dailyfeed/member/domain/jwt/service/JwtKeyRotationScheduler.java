@@ -0,0 +1,80 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * JWT 키 교체 스케줄러
+ *
+ * - 모든 Pod : 주기마다 Key Ring 재적재 (사전 공개된 다음 키를 교체 전에 미리 적재)
+ * - leader Pod : Redis lock(ROTATION_LOCK_KEY) 을 획득한 Pod 만 JwtKeyRotationService.rotateIfDue() 실행
+ *   → 여러 Pod 이 동시에 키를 교체하지 않음
+ * - 키 변경이 있으면 KEY_EVENT_CHANNEL 로 알려서 다른 Pod 도 즉시 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRotationScheduler implements MessageListener {
+    public static final String KEY_EVENT_CHANNEL = "member:authentication:jwt_key:events";
+    private static final String ROTATION_LOCK_KEY = "member:authentication:jwt_key:rotation_lock";
+
+    private final JwtKeyRotationService jwtKeyRotationService;
+    private final RedisLeaderLock redisLeaderLock;
+
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    @Value("${jwt.key.rotation.lock.seconds:50}")
+    private long rotationLockSeconds;
+
+    @Scheduled(
+            initialDelayString = "${jwt.key.rotation.check.millis:60000}",
+            fixedDelayString = "${jwt.key.rotation.check.millis:60000}"
+    )
+    public void rotate() {
+        // 1. 모든 Pod : Key Ring 재적재
+        reloadKeyRing();
+
+        // 2. leader Pod : 키 교체
+        if (!redisLeaderLock.tryAcquire(ROTATION_LOCK_KEY, Duration.ofSeconds(rotationLockSeconds))) {
+            return;
+        }
+
+        try {
+            if (jwtKeyRotationService.rotateIfDue()) {
+                stringRedisTemplate.convertAndSend(KEY_EVENT_CHANNEL, redisLeaderLock.getInstanceId());
+            }
+        } catch (Exception e) {
+            log.error("❌ Scheduled JWT key rotation failed: {}", e.getMessage(), e);
+        } finally {
+            redisLeaderLock.release(ROTATION_LOCK_KEY);
+        }
+    }
+
+    /**
+     * 다른 Pod 에서 키가 변경되었을 때 Key Ring 재적재
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reloadKeyRing();
+    }
+
+    private void reloadKeyRing() {
+        try {
+            jwtKeyRotationService.reloadKeyRing();
+        } catch (Exception e) {
+            // 기존 Key Ring 유지
+            log.warn("Failed to reload JWT key ring: {}", e.getMessage());
+        }
+    }
+}
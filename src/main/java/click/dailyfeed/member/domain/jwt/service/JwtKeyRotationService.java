@@ -6,19 +6,26 @@ import click.dailyfeed.code.domain.member.key.exception.PrimaryKeyNotExistExcept
 import click.dailyfeed.member.domain.jwt.entity.JwtKey;
 import click.dailyfeed.member.domain.jwt.mapper.JwtKeyPlainMapper;
 import click.dailyfeed.member.domain.jwt.repository.jpa.JwtKeyRepository;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.crypto.SecretKey;
 import java.security.Key;
+import java.security.KeyPair;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /*
 키 상태별 용도:
@@ -32,6 +39,11 @@ import java.util.Optional;
 - 토큰 생성: findPrimaryKey() 사용
 - 토큰 검증: findActiveKeyByKeyId() 사용
 - 키 정리: findExpiredKeys() 사용
+- 예정된 키 교체: rotateIfDue() (JwtKeyRotationScheduler 의 leader Pod 에서만 실행)
+
+요청 경로의 키 조회는 JwtKeyRing(프로세스 로컬) 에서 처리하고,
+DB 는 기동 시 적재 / 키 교체 / Key Ring miss 시에만 조회한다.
+키 조회 메서드는 트랜잭션을 시작하지 않으므로(SUPPORTS) Key Ring hit 시 커넥션을 사용하지 않는다.
 */
 
 @Slf4j
@@ -41,6 +53,12 @@ import java.util.Optional;
 public class JwtKeyRotationService {
     private final JwtKeyRepository jwtKeyRepository;
     private final JwtKeyPlainMapper jwtKeyPlainMapper;
+    private final JwtKeyRing jwtKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 새로 생성하는 키의 서명 알고리즘 (HS256, ES256). 변경해도 기존 키는 Grace Period 동안 그대로 검증에 사용됨
+    @Value("${jwt.key.algorithm:HS256}")
+    private String signatureAlgorithm;
 
     @Value("${jwt.key.rotation.hours:24}")
     private int keyRotationHours;
@@ -48,6 +66,46 @@ public class JwtKeyRotationService {
     @Value("${jwt.key.grace.period.hours:48}")
     private int gracePeriodHours;
 
+    // 다음 Primary Key 를 교체 시각보다 얼마나 먼저 공개할지 (모든 Pod 의 Key Ring 적재 주기보다 길어야 함)
+    @Value("${jwt.key.rotation.pre-publish.minutes:10}")
+    private int prePublishMinutes;
+
+    // Key Ring 전체 재적재 주기 (다른 Pod 에서 교체된 Primary Key 반영용)
+    @Value("${jwt.key.ring.refresh.seconds:60}")
+    private long keyRingRefreshSeconds;
+
+    // 알 수 없는 kid 로 인한 재적재의 최소 간격 (위조 kid 로 DB 를 두드리는 것 방지)
+    @Value("${jwt.key.ring.miss-reload.millis:5000}")
+    private long keyRingMissReloadMillis;
+
+    // 요청 경로의 재적재는 한 스레드만 수행 (나머지는 현재 Key Ring 사용)
+    private final AtomicBoolean keyRingReloading = new AtomicBoolean(false);
+
+    /**
+     * 애플리케이션 기동 시 Primary Key 확인(없으면 생성) 후 Key Ring 적재
+     * 재시도 로직이 각 단계를 독립적으로 수행할 수 있도록 트랜잭션 없이 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initializeKeyRing() {
+        initializeKeyIfNeededWithRetry();
+        fixDuplicatePrimaryKeys();
+        reloadKeyRing();
+    }
+
+    /**
+     * DB 의 활성 키 전체로 Key Ring 을 재구성
+     */
+    @Transactional(readOnly = true)
+    public void reloadKeyRing() {
+        List<JwtKeyRing.KeyEntry> activeEntries = jwtKeyRepository.findAllActiveKeys(LocalDateTime.now())
+                .stream()
+                .map(jwtKeyPlainMapper::convertToKeyEntry)
+                .toList();
+
+        jwtKeyRing.replaceAll(activeEntries);
+    }
+
     /**
      * 재시도 로직을 포함한 키 초기화
      * DB 연결 지연 등의 이슈를 대비하여 최대 3회 재시도
@@ -166,35 +224,66 @@ public class JwtKeyRotationService {
     /**
      * 새로운 토큰 생성을 위한 Primary Key 조회
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Key getPrimaryKey() {
-        Optional<JwtKey> primaryKey = jwtKeyRepository.findPrimaryKey();
+        return getPrimaryKeyEntry().getSigningKey();
+    }
+
+    /**
+     * 새로운 토큰 생성을 위한 Primary Key 항목 조회 (kid, 서명 키, 알고리즘을 한번에 조회)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public JwtKeyRing.KeyEntry getPrimaryKeyEntry() {
+        Optional<JwtKeyRing.KeyEntry> primaryKey = findPrimaryKeyEntry();
         if (primaryKey.isEmpty()) {
             log.error("❌ No primary key available for token generation");
             throw new PrimaryKeyMissingException();
         }
-        return jwtKeyPlainMapper.convertToKey(primaryKey.get());
+        return primaryKey.get();
     }
 
     /**
      * Key ID로 특정 키 조회 (토큰 검증용)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Key getKeyByKeyId(String keyId) {
-        log.debug("Looking up JWT key with keyId: {}", keyId);
-        Optional<JwtKey> jwtKey = jwtKeyRepository.findActiveKeyByKeyId(keyId);
-        if (jwtKey.isEmpty()) {
-            log.warn("❌ JWT key not found or expired: keyId={}", keyId);
-            throw new JwtKeyExpiredException("Key not found or expired: " + keyId);
-        }
-        log.debug("✅ Found JWT key: keyId={}, isActive={}, isPrimary={}",
-            jwtKey.get().getKeyId(), jwtKey.get().getIsActive(), jwtKey.get().getIsPrimary());
-        return jwtKeyPlainMapper.convertToKey(jwtKey.get());
+        return getKeyEntryByKeyId(keyId).getVerificationKey();
+    }
+
+    /**
+     * JWKS 로 공개할 비대칭 키 목록 (Grace Period 중인 키, 사전 공개된 다음 키 포함)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JwtKeyRing.KeyEntry> getPublishableKeyEntries() {
+        reloadKeyRingIfOlderThan(keyRingRefreshSeconds * 1000L);
+        return jwtKeyRing.findAllActive()
+                .stream()
+                .filter(JwtKeyRing.KeyEntry::isAsymmetric)
+                .toList();
+    }
+
+    /**
+     * Key ID로 미리 생성된 JwtParser 조회 (토큰 검증용)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public JwtParser getParserByKeyId(String keyId) {
+        return getKeyEntryByKeyId(keyId).getParser();
+    }
+
+    /**
+     * Key ID로 JwtParser 조회 (인증 filter 용, 없는 kid 에 예외를 만들지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<JwtParser> findParserByKeyId(String keyId) {
+        return findKeyEntryByKeyId(keyId).map(JwtKeyRing.KeyEntry::getParser);
     }
 
     /**
      * 현재 Primary Key의 Key ID 반환
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String getPrimaryKeyId() {
-        Optional<JwtKey> primaryKey = jwtKeyRepository.findPrimaryKey();
+        Optional<JwtKeyRing.KeyEntry> primaryKey = findPrimaryKeyEntry();
         if (primaryKey.isEmpty()) {
             log.error("❌ No primary key exists");
             throw new PrimaryKeyNotExistException();
@@ -202,6 +291,157 @@ public class JwtKeyRotationService {
         return primaryKey.get().getKeyId();
     }
 
+    /**
+     * Key Ring 에서 검증용 키 조회 (없으면 JwtKeyExpiredException)
+     */
+    private JwtKeyRing.KeyEntry getKeyEntryByKeyId(String keyId) {
+        Optional<JwtKeyRing.KeyEntry> entry = findKeyEntryByKeyId(keyId);
+        if (entry.isEmpty()) {
+            log.warn("❌ JWT key not found or expired: keyId={}", keyId);
+            throw new JwtKeyExpiredException("Key not found or expired: " + keyId);
+        }
+        return entry.get();
+    }
+
+    /**
+     * Key Ring 에서 검증용 키 조회
+     * Key Ring 에 없는 kid 는 다른 Pod 에서 새로 생성된 키일 수 있으므로,
+     * 최소 간격(keyRingMissReloadMillis) 이 지났을 때만 한번 재적재 후 다시 조회
+     */
+    private Optional<JwtKeyRing.KeyEntry> findKeyEntryByKeyId(String keyId) {
+        Optional<JwtKeyRing.KeyEntry> entry = jwtKeyRing.find(keyId);
+
+        if (entry.isEmpty() && reloadKeyRingIfOlderThan(keyRingMissReloadMillis)) {
+            log.debug("JWT key ring miss, reloaded: keyId={}", keyId);
+            entry = jwtKeyRing.find(keyId);
+        }
+        return entry;
+    }
+
+    /**
+     * Key Ring 에서 Primary Key 조회
+     * 주기적인 재적재는 JwtKeyRotationScheduler(주기 + 키 변경 이벤트) 가 담당하므로 요청 경로에서는 DB 를 조회하지 않는다.
+     * 스케줄러가 멈춰 keyRingRefreshSeconds 의 2배가 지났거나 Primary 가 없을 때만 한 스레드가 재적재
+     */
+    private Optional<JwtKeyRing.KeyEntry> findPrimaryKeyEntry() {
+        Optional<JwtKeyRing.KeyEntry> primaryKey = jwtKeyRing.findPrimary();
+
+        long maxAgeMillis = primaryKey.isEmpty() ? keyRingMissReloadMillis : keyRingRefreshSeconds * 2000L;
+        if (reloadKeyRingIfOlderThan(maxAgeMillis)) {
+            primaryKey = jwtKeyRing.findPrimary();
+        }
+        return primaryKey;
+    }
+
+    /**
+     * Key Ring 이 maxAgeMillis 이상 지났으면 재적재 (single-flight)
+     * 다른 스레드가 재적재 중이면 기다리지 않고 현재 Key Ring 을 사용한다.
+     * @return 이 호출에서 재적재했으면 true
+     */
+    private boolean reloadKeyRingIfOlderThan(long maxAgeMillis) {
+        if (jwtKeyRing.millisSinceLoaded() < maxAgeMillis || !keyRingReloading.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            // lock 획득 사이에 다른 스레드가 재적재했을 수 있음
+            if (jwtKeyRing.millisSinceLoaded() < maxAgeMillis) {
+                return false;
+            }
+            reloadKeyRing();
+            return true;
+        } finally {
+            keyRingReloading.set(false);
+        }
+    }
+
+    /**
+     * 예정된 키 교체 1회 수행 (JwtKeyRotationScheduler 에서 Redis lock 을 획득한 Pod 만 호출)
+     *
+     * 1. Primary 교체 시각(Primary 가 된 시각 + keyRotationHours) 이 prePublishMinutes 이내로 다가오면 다음 키를 사전 공개 (isActive=true, isPrimary=false)
+     * 2. 교체 시각이 지났고 다음 키가 prePublishMinutes 이상 공개되어 있었으면 Primary 교체
+     *    → 그 사이 모든 Pod 의 Key Ring 에 다음 키가 적재되므로, 교체 직후 새 키로 서명된 토큰도 DB miss 없이 검증됨
+     * 3. Grace Period 가 지난 키 비활성화
+     *
+     * @return Key Ring 에 영향을 주는 변경이 있었으면 true (다른 Pod 에 재적재 이벤트 발행)
+     */
+    public boolean rotateIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Primary 가 없거나 이미 만료된 경우 (교체가 오래 멈춰있었던 경우) 즉시 생성
+        Optional<JwtKey> primaryKey = jwtKeyRepository.findPrimaryKey();
+        if (primaryKey.isEmpty() || primaryKey.get().isExpired()) {
+            log.warn("⚠️ No usable primary key during scheduled rotation, generating new one");
+            generateNewPrimaryKey();
+            retireExpiredKeys(now);
+            return true;
+        }
+
+        JwtKey primary = primaryKey.get();
+        // 사전 공개된 키는 createdAt 보다 prePublishMinutes 이상 늦게 Primary 가 되므로, Primary 가 된 시각을 기준으로 한다
+        LocalDateTime rotateAt = primary.getPrimarySince().plusHours(keyRotationHours);
+        Optional<JwtKey> nextKey = jwtKeyRepository.findNextKey(primary.getCreatedAt());
+
+        boolean changed = false;
+        if (nextKey.isEmpty()) {
+            if (!now.isBefore(rotateAt.minusMinutes(prePublishMinutes))) {
+                publishNextKey();
+                changed = true;
+            }
+        } else if (!now.isBefore(rotateAt) && !now.isBefore(nextKey.get().getCreatedAt().plusMinutes(prePublishMinutes))) {
+            promoteNextKey(primary, nextKey.get());
+            changed = true;
+        }
+
+        return retireExpiredKeys(now) || changed;
+    }
+
+    /**
+     * 다음 Primary Key 사전 공개 (검증에만 사용 가능)
+     */
+    private void publishNextKey() {
+        JwtKey nextKey = generateKey(false);
+        jwtKeyRepository.save(nextKey);
+        jwtKeyRing.put(jwtKeyPlainMapper.convertToKeyEntry(nextKey));
+
+        log.info("🔑 Next primary key published: {} (promotion in about {} minutes)", nextKey.getKeyId(), prePublishMinutes);
+    }
+
+    /**
+     * 사전 공개된 키를 Primary 로 교체 (기존 Primary 는 Grace Period 동안 검증용으로 유지)
+     */
+    private void promoteNextKey(JwtKey primary, JwtKey nextKey) {
+        primary.disablePrimaryKey();
+        jwtKeyRepository.save(primary);
+
+        nextKey.promoteToPrimary();
+        jwtKeyRepository.save(nextKey);
+
+        jwtKeyRing.put(jwtKeyPlainMapper.convertToKeyEntry(primary));
+        jwtKeyRing.put(jwtKeyPlainMapper.convertToKeyEntry(nextKey));
+
+        log.info("✅ Primary key rotated: {} -> {}", primary.getKeyId(), nextKey.getKeyId());
+    }
+
+    /**
+     * Grace Period 가 지난 키 비활성화 (Primary 는 제외)
+     * @return 비활성화된 키가 있으면 true
+     */
+    private boolean retireExpiredKeys(LocalDateTime now) {
+        List<JwtKey> expiredKeys = jwtKeyRepository.findExpiredActiveKeys(now)
+                .stream()
+                .filter(key -> !Boolean.TRUE.equals(key.getIsPrimary()))
+                .toList();
+
+        expiredKeys.forEach(key -> {
+            key.deactivate();
+            jwtKeyRepository.save(key);
+            jwtKeyRing.evict(key.getKeyId());
+            verifiedTokenCache.invalidateByKeyId(key.getKeyId());
+            log.info("Retired expired key: {} (expired at: {})", key.getKeyId(), key.getExpiresAt());
+        });
+        return !expiredKeys.isEmpty();
+    }
+
     /**
      * 새로운 Primary Key 생성
      *
@@ -226,15 +466,39 @@ public class JwtKeyRotationService {
             }
         }
 
-        // 랜덤 Key 생성
-        SecretKey secretKey = Keys.secretKeyFor(io.jsonwebtoken.SignatureAlgorithm.HS256);
-        String encodedKey = Base64.getEncoder().encodeToString(secretKey.getEncoded());
-
-        // 2. 새로운 Primary Key 생성 (isPrimary=true)
-        JwtKey newKey = JwtKey.newKey(encodedKey, keyRotationHours, gracePeriodHours);
+        // 2. 랜덤 Key 로 새로운 Primary Key 생성 (isPrimary=true)
+        JwtKey newKey = generateKey(true);
         jwtKeyRepository.save(newKey);
 
+        // 3. Key Ring 반영 (기존 Primary 들은 검증용으로 유지)
+        existingPrimaryKeys.forEach(existing -> jwtKeyRing.put(jwtKeyPlainMapper.convertToKeyEntry(existing)));
+        jwtKeyRing.put(jwtKeyPlainMapper.convertToKeyEntry(newKey));
+
         log.info("✅ New primary key generated with ID: {} (will expire at: {})",
                  newKey.getKeyId(), newKey.getExpiresAt());
     }
+
+    /**
+     * jwt.key.algorithm 에 따라 새 키 생성
+     * - HS256 : HMAC 비밀키 (이 서비스에서만 검증 가능)
+     * - ES256 : P-256 키 쌍 (공개키는 JWKS 로 공개되어 다른 서비스에서 직접 검증 가능)
+     */
+    private JwtKey generateKey(boolean primary) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(signatureAlgorithm);
+
+        String encodedKey;
+        String encodedPublicKey = null;
+        if (algorithm.isHmac()) {
+            SecretKey secretKey = Keys.secretKeyFor(algorithm);
+            encodedKey = Base64.getEncoder().encodeToString(secretKey.getEncoded());
+        } else {
+            KeyPair keyPair = Keys.keyPairFor(algorithm);
+            encodedKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+            encodedPublicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+        }
+
+        return primary
+                ? JwtKey.newKey(algorithm, encodedKey, encodedPublicKey, keyRotationHours, gracePeriodHours)
+                : JwtKey.newNextKey(algorithm, encodedKey, encodedPublicKey, prePublishMinutes, keyRotationHours, gracePeriodHours);
+    }
 }
@@ -0,0 +1,147 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 단위 토큰 무효화 시각 (revocation epoch)
+ *
+ * "이 시각 이전에 발급된 토큰은 모두 무효" 를 회원당 Redis key 하나로 표현한다.
+ * 전체 디바이스 로그아웃은 세션 수와 관계없이 key 하나를 쓰는 것으로 끝나고, 이미 발급된 Access Token 도 즉시 차단된다.
+ *
+ * - Redis : member:authentication:revoked_before:{memberId} = epoch(ms), TTL = Refresh Token 수명
+ * - 조회 : 노드 로컬 캐시 (jwt.revocation.epoch.cache.millis 동안 재사용, 없는 회원도 캐시)
+ * - 전파 : 변경 시 EPOCH_CHANNEL 로 다른 Pod 의 로컬 캐시 갱신
+ *
+ * epoch 는 ms 단위 그대로 기록한다.
+ * - ms 단위 발급시각(Redis 세션의 만료시각으로 계산한 Refresh Token) : isRevoked 로 issuedAt < epoch 비교
+ * - 초 단위 발급시각(JWT iat, DB timestamp 의 만료시각으로 계산한 값) : isRevokedIssuedAtSecond 로 epoch 를 초 단위 올림해서 비교
+ *   (로그아웃과 같은 초에 먼저 발급된 토큰을 놓치지 않도록, 같은 초에 로그아웃 이후 발급된 토큰도 무효로 간주)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberRevocationEpoch implements MessageListener {
+    public static final String EPOCH_CHANNEL = "member:authentication:revoked_before:events";
+    private static final String EPOCH_KEY_PREFIX = "member:authentication:revoked_before:";
+    private static final long NONE = 0L;
+
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Value("${jwt.refresh.expiration.days:30}")
+    private Integer refreshTokenExpirationDays;
+
+    @Value("${jwt.revocation.epoch.cache.millis:5000}")
+    private long cacheMillis;
+
+    @Value("${jwt.revocation.epoch.cache.max-entries:100000}")
+    private int maxCacheEntries;
+
+    private final Map<Long, CachedEpoch> cache = new ConcurrentHashMap<>();
+
+    /**
+     * memberId 의 토큰 중 epochMillis 이전에 발급된 것을 모두 무효화
+     * Redis 에 기록하지 못하면 예외를 그대로 던진다. (로컬 캐시와 다른 Pod 에는 반영하지 않음)
+     */
+    public void revokeAllIssuedBefore(Long memberId, long epochMillis) {
+        stringRedisTemplate.opsForValue().set(
+                EPOCH_KEY_PREFIX + memberId,
+                String.valueOf(epochMillis),
+                Duration.ofDays(refreshTokenExpirationDays)
+        );
+        cache.put(memberId, new CachedEpoch(epochMillis, System.currentTimeMillis()));
+
+        try {
+            stringRedisTemplate.convertAndSend(EPOCH_CHANNEL, memberId + "," + epochMillis);
+        } catch (Exception e) {
+            // 다른 Pod 은 로컬 캐시 만료(cacheMillis) 후 반영
+            log.warn("Failed to publish revocation epoch. memberId: {}, {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * issuedAtMillis(ms 단위) 에 발급된 memberId 의 토큰이 무효화되었는지 확인
+     */
+    public boolean isRevoked(Long memberId, long issuedAtMillis) {
+        long epochMillis = findEpochMillis(memberId);
+        return epochMillis != NONE && issuedAtMillis < epochMillis;
+    }
+
+    /**
+     * 초 단위로 절삭(JWT iat) 또는 반올림(DB timestamp)된 발급시각 issuedAtMillis 의 토큰이 무효화되었는지 확인
+     */
+    public boolean isRevokedIssuedAtSecond(Long memberId, long issuedAtMillis) {
+        long epochMillis = findEpochMillis(memberId);
+        return epochMillis != NONE && issuedAtMillis <= ceilToSecond(epochMillis);
+    }
+
+    /**
+     * epoch 이전에 발급된 토큰의 초 단위 발급시각 상한 (epoch 를 초 단위로 올림)
+     */
+    public static long ceilToSecond(long epochMillis) {
+        return (epochMillis + 999) / 1000 * 1000;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(',');
+        try {
+            Long memberId = Long.valueOf(body.substring(0, separator));
+            long epochMillis = Long.parseLong(body.substring(separator + 1));
+            cache.put(memberId, new CachedEpoch(epochMillis, System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.warn("Invalid revocation epoch event: {}", body);
+        }
+    }
+
+    private long findEpochMillis(Long memberId) {
+        long now = System.currentTimeMillis();
+        CachedEpoch cached = cache.get(memberId);
+        if (cached != null && now - cached.loadedAtMillis() < cacheMillis) {
+            return cached.epochMillis();
+        }
+
+        // Redis 장애(circuit breaker OPEN 포함) 시 null → 마지막으로 알던 값 사용
+        Optional<String> value = redisCircuitBreaker.execute(
+                () -> Optional.ofNullable(stringRedisTemplate.opsForValue().get(EPOCH_KEY_PREFIX + memberId)),
+                () -> null
+        );
+        if (value == null) {
+            log.debug("Revocation epoch unavailable from Redis, using cached value. memberId: {}", memberId);
+            return cached == null ? NONE : cached.epochMillis();
+        }
+
+        long epochMillis;
+        try {
+            epochMillis = value.map(Long::parseLong).orElse(NONE);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid revocation epoch. memberId: {}, {}", memberId, value.get());
+            epochMillis = NONE;
+        }
+
+        if (cache.size() >= maxCacheEntries) {
+            cache.clear();
+        }
+        cache.put(memberId, new CachedEpoch(epochMillis, now));
+        return epochMillis;
+    }
+
+    private record CachedEpoch(long epochMillis, long loadedAtMillis) {
+    }
+}
@@ -0,0 +1,176 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisLeaderLock;
+import click.dailyfeed.member.config.redis.RedisWriteBehindQueue;
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import click.dailyfeed.member.domain.jwt.mapper.JwtMapper;
+import click.dailyfeed.member.domain.jwt.redis.RefreshSessionRedisService;
+import click.dailyfeed.member.domain.jwt.repository.jpa.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 의 Refresh Token 세션을 jwt_refresh_tokens 로 비동기 배치 반영 (write-behind)
+ *
+ * 로그인/토큰 갱신 경로에서는 Redis 세션 저장 후 작업 큐(Redis List) 에 sessionId(RefreshSessionRedisService.sessionIdOf) 만 적재하고,
+ * 주기적으로 lock 을 획득한 Pod 하나가 큐를 batch 단위로 꺼내 INSERT / UPDATE 를 모아서 수행한다.
+ *
+ * - 큐 항목 : "C:{sessionId}" (생성), "R:{sessionId}" (무효화), "M:{memberId}:{epochMillis}" (회원의 epoch 이전 발급 토큰 전체 무효화)
+ * - 형식 변경 배포 전에 적재된 tokenValue 원문 항목은 sessionId 로 변환해서 반영
+ * - 생성은 꺼내는 시점의 Redis 세션 상태(revoked 포함)로 INSERT 하므로, 무효화가 먼저 반영되어도 최종 상태가 같음
+ * - 한 Pod 만 순서대로 처리하므로 같은 토큰의 생성 → 무효화 순서가 유지됨
+ * - 처리 중 목록, 실패 재시도, dead letter 는 RedisWriteBehindQueue 가 맡는다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenWriteBehind {
+    private static final String QUEUE_KEY = "member:authentication:refresh_session:write_queue";
+    private static final String FLUSH_LOCK_KEY = "member:authentication:refresh_session:write_lock";
+    private static final String CREATE = "C:";
+    private static final String REVOKE = "R:";
+    private static final String REVOKE_MEMBER = "M:";
+
+    private final RefreshSessionRedisService refreshSessionRedisService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RedisWriteBehindQueue writeQueue;
+
+    @Value("${jwt.refresh.expiration.days:30}")
+    private Integer refreshTokenExpirationDays;
+
+    @Value("${jwt.refresh.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${jwt.refresh.write-behind.max-batches:20}")
+    private int maxBatchesPerFlush;
+
+    @Value("${jwt.refresh.write-behind.max-attempts:10}")
+    private int maxAttempts;
+
+    public RefreshTokenWriteBehind(
+            RefreshSessionRedisService refreshSessionRedisService,
+            RefreshTokenRepository refreshTokenRepository,
+            RedisLeaderLock redisLeaderLock,
+            @Qualifier("stringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshSessionRedisService = refreshSessionRedisService;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.writeQueue = new RedisWriteBehindQueue("refresh_session", QUEUE_KEY, FLUSH_LOCK_KEY, stringRedisTemplate, redisLeaderLock, meterRegistry);
+    }
+
+    public void enqueueCreate(String sessionId) {
+        writeQueue.push(CREATE + sessionId);
+    }
+
+    public void enqueueRevoke(String sessionId) {
+        writeQueue.push(REVOKE + sessionId);
+    }
+
+    public void enqueueRevokeAll(Long memberId, long epochMillis) {
+        writeQueue.push(REVOKE_MEMBER + memberId + ":" + epochMillis);
+    }
+
+    @Scheduled(
+            initialDelayString = "${jwt.refresh.write-behind.flush.millis:500}",
+            fixedDelayString = "${jwt.refresh.write-behind.flush.millis:500}"
+    )
+    public void flush() {
+        writeQueue.flush(batchSize, maxBatchesPerFlush, maxAttempts, this::persist);
+    }
+
+    /**
+     * 생성 → 무효화 순서로 반영 (같은 batch 안의 무효화가 아직 INSERT 되지 않은 행을 놓치지 않도록)
+     * 회원 전체 무효화는 epoch 이전에 발급된 행만 대상으로 하므로 이후 생성된 행과 순서가 바뀌어도 결과가 같음
+     */
+    private void persist(List<String> operations) {
+        Set<String> created = new LinkedHashSet<>();
+        Set<String> revoked = new LinkedHashSet<>();
+        Map<Long, Long> revokedMemberEpochs = new LinkedHashMap<>();
+        for (String operation : operations) {
+            if (operation.startsWith(CREATE)) {
+                created.add(operation.substring(CREATE.length()));
+            } else if (operation.startsWith(REVOKE)) {
+                revoked.add(operation.substring(REVOKE.length()));
+            } else if (operation.startsWith(REVOKE_MEMBER)) {
+                String[] values = operation.substring(REVOKE_MEMBER.length()).split(":");
+                revokedMemberEpochs.merge(Long.valueOf(values[0]), Long.valueOf(values[1]), Math::max);
+            }
+        }
+
+        if (!created.isEmpty()) {
+            // byte[] 는 내용으로 비교되지 않으므로 ByteBuffer 로 감싸서 비교
+            Map<ByteBuffer, String> digests = new LinkedHashMap<>();
+            created.forEach(value -> digests.put(ByteBuffer.wrap(tokenDigestOf(value)), value));
+            Set<ByteBuffer> existing = new HashSet<>();
+            refreshTokenRepository.findExistingTokenDigests(digests.keySet().stream().map(ByteBuffer::array).toList())
+                    .forEach(digest -> existing.add(ByteBuffer.wrap(digest)));
+
+            List<String> sessionIds = new ArrayList<>();
+            List<String> legacyTokenValues = new ArrayList<>();
+            for (Map.Entry<ByteBuffer, String> entry : digests.entrySet()) {
+                if (existing.contains(entry.getKey())) {
+                    continue;
+                }
+                if (RefreshSessionRedisService.isSessionId(entry.getValue())) {
+                    sessionIds.add(entry.getValue());
+                } else {
+                    legacyTokenValues.add(entry.getValue());
+                }
+            }
+
+            // 세션 조회는 batch 전체를 pipeline 한번으로, 세션이 이미 만료되어 사라진 경우 저장하지 않음
+            List<RefreshToken> newTokens = new ArrayList<>();
+            refreshSessionRedisService.findAllBySessionIds(sessionIds).values().stream()
+                    .map(JwtMapper::toRefreshToken)
+                    .forEach(newTokens::add);
+            legacyTokenValues.forEach(tokenValue -> refreshSessionRedisService.findLegacy(tokenValue)
+                    .map(JwtMapper::toRefreshToken)
+                    .ifPresent(newTokens::add));
+            refreshTokenRepository.saveAll(newTokens);
+        }
+
+        if (!revoked.isEmpty()) {
+            refreshTokenRepository.revokeAllByTokenDigestIn(revoked.stream().map(this::tokenDigestOf).toList());
+        }
+
+        revokedMemberEpochs.forEach((memberId, epochMillis) ->
+                refreshTokenRepository.revokeAllByMemberIdExpiringUntil(memberId, expiresAtOfIssuedAt(epochMillis)));
+
+        log.debug("Refresh sessions persisted - created: {}, revoked: {}, revoked members: {}",
+                created.size(), revoked.size(), revokedMemberEpochs.size());
+    }
+
+    /**
+     * 큐 항목의 값(sessionId, 이전 형식은 tokenValue 원문) → jwt_refresh_tokens.token_digest
+     */
+    private byte[] tokenDigestOf(String value) {
+        return RefreshSessionRedisService.isSessionId(value)
+                ? RefreshSessionRedisService.tokenDigestOf(value)
+                : RefreshToken.digestOf(value);
+    }
+
+    /**
+     * epochMillis 이전에 발급된 Refresh Token 의 만료시각 상한 (expires_at 이 초 단위로 반올림되어 저장되므로 초 단위 올림)
+     */
+    private LocalDateTime expiresAtOfIssuedAt(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(MemberRevocationEpoch.ceilToSecond(epochMillis)), ZoneId.systemDefault())
+                .plusDays(refreshTokenExpirationDays);
+    }
+}
@@ -0,0 +1,63 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisLeaderLock;
+import click.dailyfeed.member.domain.jwt.redis.RevokedRefreshMarkerRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 기존 형식(member:authentication:revoked_refresh:{tokenValue}) 무효화 표시를 hash bucket 형식으로 이전
+ *
+ * - leader Pod 하나만 실행하고, 1회 실행마다 jwt.refresh.revoked-marker.migration.batch-size 개씩 옮긴다.
+ * - 남은 기존 형식 key 가 없으면 해당 Pod 에서는 더 이상 실행하지 않는다.
+ * - 이전 중에도 RevokedRefreshMarkerRedisService.isRevoked 가 기존 형식 key 를 함께 확인하므로 판정은 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedRefreshMarkerMigrator {
+    private static final String MIGRATION_LOCK_KEY = "member:authentication:revoked_refresh_bucket:migration_lock";
+
+    private final RevokedRefreshMarkerRedisService revokedRefreshMarkerRedisService;
+    private final RedisLeaderLock redisLeaderLock;
+
+    @Value("${jwt.refresh.revoked-marker.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.refresh.revoked-marker.migration.batch-size:5000}")
+    private int batchSize;
+
+    private volatile boolean completed = false;
+
+    @Scheduled(
+            initialDelayString = "${jwt.refresh.revoked-marker.migration.interval.millis:60000}",
+            fixedDelayString = "${jwt.refresh.revoked-marker.migration.interval.millis:60000}"
+    )
+    public void migrate() {
+        if (!enabled || completed) {
+            return;
+        }
+        if (!redisLeaderLock.tryAcquire(MIGRATION_LOCK_KEY, Duration.ofMinutes(5))) {
+            return;
+        }
+
+        try {
+            int migrated = revokedRefreshMarkerRedisService.migrateLegacyMarkers(batchSize);
+            if (migrated == 0) {
+                completed = true;
+                log.info("Revoked refresh marker migration completed");
+            } else {
+                log.info("Migrated {} legacy revoked refresh markers", migrated);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to migrate legacy revoked refresh markers: {}", e.getMessage());
+        } finally {
+            redisLeaderLock.release(MIGRATION_LOCK_KEY);
+        }
+    }
+}
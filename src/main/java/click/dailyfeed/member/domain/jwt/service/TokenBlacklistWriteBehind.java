@@ -0,0 +1,95 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisLeaderLock;
+import click.dailyfeed.member.config.redis.RedisWriteBehindQueue;
+import click.dailyfeed.member.domain.jwt.entity.TokenBlacklist;
+import click.dailyfeed.member.domain.jwt.redis.TokenBlacklistRedisService;
+import click.dailyfeed.member.domain.jwt.repository.jdbc.TokenBlacklistJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그아웃 블랙리스트를 jwt_blacklist 로 비동기 batch 반영 (write-behind)
+ *
+ * 로그아웃 요청은 TokenBlacklistRedisService.logout (Redis 왕복 1회) 으로 끝나고,
+ * 주기적으로 lock 을 획득한 Pod 하나가 대기열을 batch 단위로 꺼내 JDBC batch 로 반영한다.
+ *
+ * - jwt_blacklist INSERT IGNORE + 연관 jwt_refresh_tokens UPDATE(access_token_id 기준)
+ * - 처리 중 목록, 실패 재시도, dead letter 는 RedisWriteBehindQueue 가 맡는다. (같은 batch 를 다시 반영해도 결과가 같음)
+ * - 연관 Refresh Token 행이 아직 INSERT 전(RefreshTokenWriteBehind 대기 중) 이어도,
+ *   Redis 세션이 이미 revoked 로 표시되어 있으므로 나중에 INSERT 될 때 무효화된 상태로 저장됨
+ */
+@Slf4j
+@Component
+public class TokenBlacklistWriteBehind {
+    private static final String FLUSH_LOCK_KEY = "member:authentication:blacklist:write_lock";
+
+    private final TokenBlacklistJdbcRepository tokenBlacklistJdbcRepository;
+    private final RedisWriteBehindQueue writeQueue;
+
+    @Value("${jwt.blacklist.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${jwt.blacklist.write-behind.max-batches:20}")
+    private int maxBatchesPerFlush;
+
+    @Value("${jwt.blacklist.write-behind.max-attempts:10}")
+    private int maxAttempts;
+
+    public TokenBlacklistWriteBehind(
+            TokenBlacklistJdbcRepository tokenBlacklistJdbcRepository,
+            RedisLeaderLock redisLeaderLock,
+            @Qualifier("stringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.tokenBlacklistJdbcRepository = tokenBlacklistJdbcRepository;
+        // 대기열 적재는 TokenBlacklistRedisService.logout 의 Lua 스크립트가 수행
+        this.writeQueue = new RedisWriteBehindQueue("blacklist", TokenBlacklistRedisService.QUEUE_KEY, FLUSH_LOCK_KEY, stringRedisTemplate, redisLeaderLock, meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.write-behind.flush.millis:500}",
+            fixedDelayString = "${jwt.blacklist.write-behind.flush.millis:500}"
+    )
+    public void flush() {
+        writeQueue.flush(batchSize, maxBatchesPerFlush, maxAttempts, this::persist);
+    }
+
+    private void persist(List<String> entries) {
+        Map<String, TokenBlacklist> blacklists = new LinkedHashMap<>();
+        for (String entry : entries) {
+            String[] values = TokenBlacklistRedisService.parseEntry(entry);
+            if (values.length < 4) {
+                log.warn("Invalid blacklist write-behind entry: {}", entry);
+                continue;
+            }
+            blacklists.putIfAbsent(values[0], TokenBlacklist.create(
+                    values[0],
+                    Long.valueOf(values[1]),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(values[2])), ZoneId.systemDefault()),
+                    values[3]
+            ));
+        }
+        if (blacklists.isEmpty()) {
+            return;
+        }
+
+        tokenBlacklistJdbcRepository.insertIgnoreAll(new ArrayList<>(blacklists.values()));
+        tokenBlacklistJdbcRepository.revokeAllByAccessTokenIdIn(blacklists.keySet());
+
+        log.debug("Blacklist entries persisted: {}", blacklists.size());
+    }
+}
@@ -0,0 +1,79 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Redis 를 사용할 수 없을 때(장애, circuit breaker OPEN) 토큰 검증 경로가 MySQL 로 넘어가는 호출의 상한
+ *
+ * Redis 장애 중 모든 요청이 MySQL 로 넘어가면 Hikari pool 이 고갈되어 로그인/회원 API 까지 함께 멈춘다.
+ * 동시 실행 수(jwt.db-fallback.max-concurrent) 와 초당 호출 수(jwt.db-fallback.permits-per-second) 를 넘는 호출은
+ * 기다리지 않고 바로 거절하고, 호출자는 로컬 상태(JtiBlacklistIndex 등) 로 판정한다.
+ *
+ * 메트릭 : authentication.db_fallback.calls{result=permitted|rejected}
+ */
+@Component
+public class TokenDatabaseFallbackLimiter {
+    private final Semaphore concurrency;
+    private final Counter permittedCounter;
+    private final Counter rejectedCounter;
+
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger callsInCurrentSecond = new AtomicInteger();
+
+    @Value("${jwt.db-fallback.permits-per-second:50}")
+    private int permitsPerSecond;
+
+    public TokenDatabaseFallbackLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.db-fallback.max-concurrent:4}") int maxConcurrent
+    ) {
+        this.concurrency = new Semaphore(maxConcurrent);
+        this.permittedCounter = callCounter(meterRegistry, "permitted");
+        this.rejectedCounter = callCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 허용되면 dbCall 결과, 상한을 넘으면 Optional.empty() (dbCall 은 null 을 반환하지 않아야 함)
+     */
+    public <T> Optional<T> tryCall(Supplier<T> dbCall) {
+        if (!tryAcquireRate()) {
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+        if (!concurrency.tryAcquire()) {
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+
+        try {
+            permittedCounter.increment();
+            return Optional.of(dbCall.get());
+        } finally {
+            concurrency.release();
+        }
+    }
+
+    private boolean tryAcquireRate() {
+        long second = System.currentTimeMillis() / 1000;
+        long previous = currentSecond.get();
+        if (second != previous && currentSecond.compareAndSet(previous, second)) {
+            callsInCurrentSecond.set(0);
+        }
+        return callsInCurrentSecond.incrementAndGet() <= permitsPerSecond;
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("authentication.db_fallback.calls")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,295 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisLeaderLock;
+import click.dailyfeed.member.domain.jwt.repository.jdbc.TokenPartitionJdbcRepository;
+import click.dailyfeed.member.domain.jwt.repository.jpa.RefreshTokenRepository;
+import click.dailyfeed.member.domain.jwt.repository.jpa.TokenBlacklistRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 만료된 Refresh Token / Blacklist 행 정리
+ *
+ * 한번의 DELETE 로 지우면 긴 lock 과 undo 가 발생하므로 id 범위(chunk) 단위의 짧은 트랜잭션으로 나누어 삭제하고,
+ * chunk 사이에 throttle 을 두어 쓰기 트래픽과 경합하지 않도록 한다.
+ *
+ * - 실행 : Redis lock 을 획득한 Pod 하나만 실행, 1회 실행 시간은 jwt.purge.max-run.millis 로 제한
+ * - 이어하기 : 실행 시간을 넘겨 중단한 위치(id) 를 Redis(PURGE_CURSOR_KEY_PREFIX + 테이블) 에 저장하고 다음 주기에 그 위치부터 maxId 까지,
+ *   이어서 minId 부터 시작 위치 전까지 처리 (앞쪽의 아직 유효한 행을 매 주기 다시 훑지 않도록)
+ * - 파티션 : jwt.purge.partitioned=true 이면 정리 대상이 된 월 파티션을 DROP 하고 앞으로의 월 파티션을 미리 생성
+ * - 메트릭 : jwt.purge.rows (삭제된 행 수), jwt.purge.lag.seconds (가장 오래된 정리 대상 행이 정리 기준을 넘긴 시간)
+ */
+@Slf4j
+@Service
+public class TokenPurgeService {
+    private static final String PURGE_LOCK_KEY = "member:authentication:token_purge:lock";
+    private static final String PURGE_CURSOR_KEY_PREFIX = "member:authentication:token_purge:cursor:";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenPartitionJdbcRepository tokenPartitionJdbcRepository;
+    private final RedisLeaderLock redisLeaderLock;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    private final Counter refreshTokenPurgedCounter;
+    private final Counter blacklistPurgedCounter;
+    private final AtomicLong refreshTokenLagSeconds = new AtomicLong();
+    private final AtomicLong blacklistLagSeconds = new AtomicLong();
+
+    @Value("${jwt.purge.chunk-size:5000}")
+    private long chunkSize;
+
+    @Value("${jwt.purge.throttle.millis:50}")
+    private long throttleMillis;
+
+    @Value("${jwt.purge.max-run.millis:120000}")
+    private long maxRunMillis;
+
+    // 무효화된 Refresh Token 보관 기간
+    @Value("${jwt.purge.revoked-retention.hours:24}")
+    private long revokedRetentionHours;
+
+    // 만료된 Blacklist 보관 기간 (TokenBlacklist.canBeCleanedUp 기준과 동일)
+    @Value("${jwt.purge.blacklist-retention.hours:24}")
+    private long blacklistRetentionHours;
+
+    @Value("${jwt.purge.partitioned:false}")
+    private boolean partitioned;
+
+    @Value("${jwt.purge.partition.months-ahead:3}")
+    private int partitionMonthsAhead;
+
+    public TokenPurgeService(
+            RefreshTokenRepository refreshTokenRepository,
+            TokenBlacklistRepository tokenBlacklistRepository,
+            TokenPartitionJdbcRepository tokenPartitionJdbcRepository,
+            RedisLeaderLock redisLeaderLock,
+            @Qualifier("stringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.tokenPartitionJdbcRepository = tokenPartitionJdbcRepository;
+        this.redisLeaderLock = redisLeaderLock;
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.refreshTokenPurgedCounter = Counter.builder("jwt.purge.rows")
+                .tag("table", TokenPartitionJdbcRepository.REFRESH_TOKEN_TABLE)
+                .register(meterRegistry);
+        this.blacklistPurgedCounter = Counter.builder("jwt.purge.rows")
+                .tag("table", TokenPartitionJdbcRepository.BLACKLIST_TABLE)
+                .register(meterRegistry);
+        Gauge.builder("jwt.purge.lag.seconds", refreshTokenLagSeconds, AtomicLong::get)
+                .tag("table", TokenPartitionJdbcRepository.REFRESH_TOKEN_TABLE)
+                .register(meterRegistry);
+        Gauge.builder("jwt.purge.lag.seconds", blacklistLagSeconds, AtomicLong::get)
+                .tag("table", TokenPartitionJdbcRepository.BLACKLIST_TABLE)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${jwt.purge.interval.millis:600000}",
+            fixedDelayString = "${jwt.purge.interval.millis:600000}"
+    )
+    public void purge() {
+        if (!redisLeaderLock.tryAcquire(PURGE_LOCK_KEY, Duration.ofMillis(maxRunMillis * 2))) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long deadline = System.currentTimeMillis() + maxRunMillis;
+
+            if (partitioned) {
+                maintainPartitions(TokenPartitionJdbcRepository.REFRESH_TOKEN_TABLE, now);
+                maintainPartitions(TokenPartitionJdbcRepository.BLACKLIST_TABLE, now.minusHours(blacklistRetentionHours));
+            }
+
+            purgeRefreshTokens(now, deadline);
+            purgeBlacklist(now.minusHours(blacklistRetentionHours), deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("❌ Token purge failed: {}", e.getMessage(), e);
+        } finally {
+            redisLeaderLock.release(PURGE_LOCK_KEY);
+        }
+    }
+
+    /**
+     * 만료 또는 무효화 후 revokedRetentionHours 가 지난 Refresh Token 삭제
+     */
+    private void purgeRefreshTokens(LocalDateTime now, long deadline) throws InterruptedException {
+        LocalDateTime revokedCutoffTime = now.minusHours(revokedRetentionHours);
+
+        long purged = purgeInChunks(
+                TokenPartitionJdbcRepository.REFRESH_TOKEN_TABLE,
+                refreshTokenRepository.findMinId(),
+                refreshTokenRepository.findMaxId(),
+                (fromId, toId) -> refreshTokenRepository.deletePurgeableTokensInRange(fromId, toId, now, revokedCutoffTime),
+                deadline
+        );
+        refreshTokenPurgedCounter.increment(purged);
+        refreshTokenLagSeconds.set(lagSeconds(refreshTokenRepository::findMinExpiresAt, now));
+
+        log.info("Purged {} rows from {}", purged, TokenPartitionJdbcRepository.REFRESH_TOKEN_TABLE);
+    }
+
+    /**
+     * 만료 후 blacklistRetentionHours 가 지난 Blacklist 삭제
+     */
+    private void purgeBlacklist(LocalDateTime cutoffTime, long deadline) throws InterruptedException {
+        long purged = purgeInChunks(
+                TokenPartitionJdbcRepository.BLACKLIST_TABLE,
+                tokenBlacklistRepository.findMinId(),
+                tokenBlacklistRepository.findMaxId(),
+                (fromId, toId) -> tokenBlacklistRepository.deleteTokensExpiredBeforeInRange(fromId, toId, cutoffTime),
+                deadline
+        );
+        blacklistPurgedCounter.increment(purged);
+        blacklistLagSeconds.set(lagSeconds(tokenBlacklistRepository::findMinExpiresAt, cutoffTime));
+
+        log.info("Purged {} rows from {}", purged, TokenPartitionJdbcRepository.BLACKLIST_TABLE);
+    }
+
+    /**
+     * [minId, maxId] 를 chunkSize 크기의 id 범위로 나누어 범위마다 별도 트랜잭션으로 삭제
+     * 이전 주기에 중단한 위치가 있으면 그 위치부터 maxId 까지 처리한 뒤 minId 부터 시작 위치 전까지 이어서 처리
+     * 실행 시간이 deadline 을 넘으면 중단 위치를 저장 (남은 범위는 다음 주기에 처리)
+     */
+    long purgeInChunks(String table, Optional<Long> minId, Optional<Long> maxId, ChunkDeleter chunkDeleter, long deadline) throws InterruptedException {
+        if (minId.isEmpty() || maxId.isEmpty()) {
+            return 0;
+        }
+
+        long startId = loadCursor(table)
+                .filter(cursor -> cursor > minId.get() && cursor <= maxId.get())
+                .orElse(minId.get());
+
+        ChunkRun tail = purgeRange(startId, maxId.get(), chunkDeleter, deadline);
+        ChunkRun head = tail.stoppedAt() == null && startId > minId.get()
+                ? purgeRange(minId.get(), startId - 1, chunkDeleter, deadline)
+                : new ChunkRun(0, null);
+
+        Long stoppedAt = tail.stoppedAt() != null ? tail.stoppedAt() : head.stoppedAt();
+        if (stoppedAt != null) {
+            log.info("Token purge reached max run time, resuming next cycle from id {} - table: {}", stoppedAt, table);
+        }
+        saveCursor(table, stoppedAt);
+        return tail.purged() + head.purged();
+    }
+
+    /**
+     * [fromId, toId] 를 chunk 단위로 삭제
+     * @return 삭제한 행 수, deadline 으로 중단한 경우 다음에 처리할 id
+     */
+    private ChunkRun purgeRange(long fromId, long toId, ChunkDeleter chunkDeleter, long deadline) throws InterruptedException {
+        long purged = 0;
+        for (long chunkFromId = fromId; chunkFromId <= toId; chunkFromId += chunkSize) {
+            if (System.currentTimeMillis() >= deadline) {
+                return new ChunkRun(purged, chunkFromId);
+            }
+
+            int deleted = chunkDeleter.delete(chunkFromId, Math.min(chunkFromId + chunkSize, toId + 1));
+            purged += deleted;
+
+            if (deleted > 0 && throttleMillis > 0) {
+                Thread.sleep(throttleMillis);
+            }
+        }
+        return new ChunkRun(purged, null);
+    }
+
+    /**
+     * 이전 주기의 중단 위치 (Redis 를 쓸 수 없으면 처음부터)
+     */
+    private Optional<Long> loadCursor(String table) {
+        try {
+            String cursor = stringRedisTemplate.opsForValue().get(PURGE_CURSOR_KEY_PREFIX + table);
+            return cursor == null ? Optional.empty() : Optional.of(Long.parseLong(cursor));
+        } catch (Exception e) {
+            log.warn("Failed to load token purge cursor, starting from min id - table: {}, {}", table, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 중단 위치 저장 (끝까지 처리했으면 삭제), lock 보다 오래 남도록 TTL 은 하루
+     */
+    private void saveCursor(String table, Long stoppedAt) {
+        try {
+            if (stoppedAt == null) {
+                stringRedisTemplate.delete(PURGE_CURSOR_KEY_PREFIX + table);
+            } else {
+                stringRedisTemplate.opsForValue().set(PURGE_CURSOR_KEY_PREFIX + table, String.valueOf(stoppedAt), Duration.ofDays(1));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to save token purge cursor - table: {}, {}", table, e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 행이 cutoffTime 이전에 만료된 월 파티션은 DROP, 앞으로 partitionMonthsAhead 개월의 파티션은 미리 생성
+     */
+    private void maintainPartitions(String table, LocalDateTime cutoffTime) {
+        List<String> partitionNames = tokenPartitionJdbcRepository.findMonthPartitionNames(table);
+        if (partitionNames.isEmpty()) {
+            log.warn("jwt.purge.partitioned=true but {} is not partitioned", table);
+            return;
+        }
+
+        YearMonth latest = null;
+        for (String partitionName : partitionNames) {
+            Optional<YearMonth> month = TokenPartitionJdbcRepository.parsePartitionName(partitionName);
+            if (month.isEmpty()) {
+                continue;
+            }
+
+            // p{yyyyMM} 의 상한 = 다음달 1일
+            if (!month.get().plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoffTime)) {
+                tokenPartitionJdbcRepository.dropMonthPartition(table, month.get());
+                log.info("Dropped partition {} of {}", partitionName, table);
+            }
+            latest = month.get();
+        }
+
+        YearMonth target = YearMonth.from(cutoffTime).plusMonths(partitionMonthsAhead);
+        YearMonth next = latest == null ? YearMonth.from(cutoffTime) : latest.plusMonths(1);
+        for (; !next.isAfter(target); next = next.plusMonths(1)) {
+            tokenPartitionJdbcRepository.addMonthPartition(table, next);
+            log.info("Added partition {} to {}", TokenPartitionJdbcRepository.partitionName(next), table);
+        }
+    }
+
+    /**
+     * 가장 오래된 만료시각이 정리 기준(cutoffTime) 을 넘긴 시간 (초)
+     */
+    private long lagSeconds(Supplier<Optional<LocalDateTime>> minExpiresAt, LocalDateTime cutoffTime) {
+        return minExpiresAt.get()
+                .map(expiresAt -> Math.max(Duration.between(expiresAt, cutoffTime).getSeconds(), 0))
+                .orElse(0L);
+    }
+
+    @FunctionalInterface
+    interface ChunkDeleter {
+        int delete(Long fromId, Long toId);
+    }
+
+    private record ChunkRun(long purged, Long stoppedAt) {
+    }
+}
@@ -0,0 +1,67 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.domain.jwt.exception.TokenRefreshRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 갱신(Refresh Token Rotation) 의 초당 허용 수 (Pod 단위)
+ *
+ * 키 교체 직후나 클라이언트 재시도가 몰릴 때 Rotation 의 DB/Redis 쓰기가 한 순간에 몰리지 않도록,
+ * jwt.refresh.admission.permits-per-second 를 넘는 갱신 요청은 기다리지 않고 429 로 돌려보낸다.
+ * Retry-After 는 1 ~ jwt.refresh.admission.retry-after.max-seconds 초 사이에서 무작위로 정해 재시도도 한 순간에 몰리지 않게 한다.
+ *
+ * 메트릭 : authentication.token_refresh.admissions{result=admitted|rejected} (admitted 의 rate 가 초당 갱신 수)
+ */
+@Component
+public class TokenRefreshAdmission {
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger admissionsInCurrentSecond = new AtomicInteger();
+
+    @Value("${jwt.refresh.admission.permits-per-second:200}")
+    private int permitsPerSecond;
+
+    @Value("${jwt.refresh.admission.retry-after.max-seconds:5}")
+    private int maxRetryAfterSeconds;
+
+    public TokenRefreshAdmission(MeterRegistry meterRegistry) {
+        this.admittedCounter = admissionCounter(meterRegistry, "admitted");
+        this.rejectedCounter = admissionCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 갱신 허용 (상한을 넘으면 TokenRefreshRateLimitedException)
+     */
+    public void admitOrThrow() {
+        if (!tryAdmit()) {
+            rejectedCounter.increment();
+            throw new TokenRefreshRateLimitedException(
+                    ThreadLocalRandom.current().nextLong(1, Math.max(maxRetryAfterSeconds, 1) + 1L));
+        }
+        admittedCounter.increment();
+    }
+
+    private boolean tryAdmit() {
+        long second = System.currentTimeMillis() / 1000;
+        long previous = currentSecond.get();
+        if (second != previous && currentSecond.compareAndSet(previous, second)) {
+            admissionsInCurrentSecond.set(0);
+        }
+        return admissionsInCurrentSecond.incrementAndGet() <= permitsPerSecond;
+    }
+
+    private static Counter admissionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("authentication.token_refresh.admissions")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,102 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Primary 키 교체 후 X-Token-Refresh-Needed 신호를 보낼 시점 판정
+ *
+ * 기존에는 Primary 가 바뀌는 순간 이전 kid 로 서명된 모든 토큰의 다음 요청에 신호를 붙였고,
+ * 클라이언트가 한꺼번에 /api/token/refresh 를 호출해 Refresh Token Rotation(DB/Redis 쓰기) 이 몰렸다.
+ *
+ * 토큰마다 jti 에서 결정적으로 계산한 offset(0 ~ 분산 구간) 이 지난 뒤에만 신호를 보낸다.
+ * - 기준 시각 : 이 Pod 의 Key Ring 이 Primary 변경을 본 시각 (JwtKeyRing.getPrimaryChangedAtMillis)
+ * - 분산 구간 : jwt.key.refresh-signal.spread.minutes (0 이면 grace period 전체), 이전 키의 남은 수명을 넘지 않음
+ * - 같은 토큰은 어느 Pod 에서나 같은 offset 을 가지므로 신호가 요청마다 켜졌다 꺼졌다 하지 않음
+ * - offset 이 토큰 만료 이후인 토큰은 신호 없이 만료되어 일반 갱신 경로로 넘어감
+ *
+ * 메트릭
+ * - authentication.token_refresh.signals{result=signalled|deferred} : 이전 kid 토큰의 신호 전송/보류 수
+ * - authentication.token_refresh.old_kid_tokens : VerifiedTokenCache 에 남은 이전 kid 토큰 수 (Pod 단위)
+ */
+@Component
+public class TokenRefreshSignal {
+    private final JwtKeyRing jwtKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final long spreadMillis;
+
+    private final Counter signalledCounter;
+    private final Counter deferredCounter;
+
+    public TokenRefreshSignal(
+            JwtKeyRing jwtKeyRing,
+            VerifiedTokenCache verifiedTokenCache,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.key.refresh-signal.spread.minutes:0}") long spreadMinutes,
+            @Value("${jwt.key.grace.period.hours:48}") long gracePeriodHours
+    ) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.spreadMillis = spreadMinutes > 0 ? spreadMinutes * 60000L : gracePeriodHours * 3600000L;
+
+        this.signalledCounter = signalCounter(meterRegistry, "signalled");
+        this.deferredCounter = signalCounter(meterRegistry, "deferred");
+        Gauge.builder("authentication.token_refresh.old_kid_tokens", this, TokenRefreshSignal::oldKidTokenCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이 토큰에 지금 갱신 신호를 보낼지
+     * @return Primary 로 서명된 토큰이면 항상 false
+     */
+    public boolean shouldSignal(JwtDto.VerifiedToken verifiedToken, String primaryKeyId, long nowMillis) {
+        if (verifiedToken.getKeyId().equals(primaryKeyId)) {
+            return false;
+        }
+
+        long primaryChangedAt = jwtKeyRing.getPrimaryChangedAtMillis();
+        long window = spreadMillis;
+        Optional<JwtKeyRing.KeyEntry> signingKey = jwtKeyRing.find(verifiedToken.getKeyId());
+        if (signingKey.isPresent()) {
+            window = Math.min(window, Math.max(signingKey.get().getExpiresAtMillis() - primaryChangedAt, 0L));
+        }
+
+        if (nowMillis < primaryChangedAt + jitterMillis(verifiedToken.getJti(), window)) {
+            deferredCounter.increment();
+            return false;
+        }
+        signalledCounter.increment();
+        return true;
+    }
+
+    /**
+     * jti 에서 결정적으로 계산한 0 이상 windowMillis 미만의 offset (jti 가 없거나 window 가 0 이면 0)
+     */
+    static long jitterMillis(String jti, long windowMillis) {
+        if (jti == null || windowMillis <= 0) {
+            return 0L;
+        }
+        // String.hashCode 의 상위 비트 분포를 고르게 (UUID 외 형식의 jti 대비)
+        long hash = jti.hashCode() * 0x9E3779B97F4A7C15L;
+        hash ^= (hash >>> 32);
+        return Math.floorMod(hash, windowMillis);
+    }
+
+    private double oldKidTokenCount() {
+        return jwtKeyRing.findPrimary()
+                .map(primary -> (double) verifiedTokenCache.countNotSignedBy(primary.getKeyId()))
+                .orElse(0.0);
+    }
+
+    private static Counter signalCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("authentication.token_refresh.signals")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -4,28 +4,31 @@ import click.dailyfeed.code.domain.member.member.exception.MemberNotFoundExcepti
 import click.dailyfeed.code.domain.member.member.predicate.BlackListedPredicate;
 import click.dailyfeed.code.global.cache.RedisKeyPrefix;
 import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
+import click.dailyfeed.member.config.redis.RedisCircuitBreaker;
 import click.dailyfeed.member.domain.jwt.dto.JwtDto;
 import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
 import click.dailyfeed.member.domain.jwt.entity.TokenBlacklist;
 import click.dailyfeed.member.domain.jwt.mapper.JwtMapper;
+import click.dailyfeed.member.domain.jwt.redis.RefreshSessionRedisService;
+import click.dailyfeed.member.domain.jwt.redis.RevokedRefreshMarkerRedisService;
+import click.dailyfeed.member.domain.jwt.redis.TokenBlacklistRedisService;
 import click.dailyfeed.member.domain.jwt.repository.jpa.RefreshTokenRepository;
 import click.dailyfeed.member.domain.jwt.repository.jpa.TokenBlacklistRepository;
-import click.dailyfeed.member.domain.jwt.util.JwtProcessor;
 import click.dailyfeed.member.domain.member.entity.Member;
+import click.dailyfeed.member.domain.member.entity.MemberProfile;
+import click.dailyfeed.member.domain.member.repository.jpa.MemberProfileRepository;
 import click.dailyfeed.member.domain.member.repository.jpa.MemberRepository;
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -41,9 +44,18 @@ public class TokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final TokenBlacklistRepository tokenBlacklistRepository;
     private final MemberRepository memberRepository;
-
-    @Qualifier("stringRedisTemplate")
-    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final MemberProfileRepository memberProfileRepository;
+    private final JtiBlacklistIndex jtiBlacklistIndex;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshSessionRedisService refreshSessionRedisService;
+    private final RevokedRefreshMarkerRedisService revokedRefreshMarkerRedisService;
+    private final TokenBlacklistRedisService tokenBlacklistRedisService;
+    private final RefreshTokenWriteBehind refreshTokenWriteBehind;
+    private final MemberRevocationEpoch memberRevocationEpoch;
+    private final TokenVerifier tokenVerifier;
+    private final TokenRefreshAdmission tokenRefreshAdmission;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${jwt.refresh.expiration.days:30}")
     private Integer refreshTokenExpirationDays;
@@ -51,9 +63,22 @@ public class TokenService {
     @Value("${jwt.access.expiration.hours:1}")
     private Integer accessTokenExpirationHours;
 
+    // 회원당 유효한 Refresh Token 세션 수 (같은 deviceInfo 는 하나의 세션, 초과분은 오래 사용하지 않은 세션부터 무효화)
+    @Value("${jwt.refresh.max-sessions-per-member:10}")
+    private int maxSessionsPerMember;
+
+    // 다른 요청이 회전 중인 Refresh Token 의 결과를 기다리는 최대 시간
+    @Value("${jwt.refresh.idempotency.wait.millis:1000}")
+    private long rotationWaitMillis;
+
+    private static final long ROTATION_POLL_MILLIS = 50;
+    private static final String LOGOUT_REASON = "USER_LOGOUT";
+
     /**
      * 액세스 토큰과 리프레시 토큰 쌍 생성
+     * 세션은 Redis 에 저장하므로 트랜잭션을 열지 않고, Redis 를 사용할 수 없을 때의 DB 저장만 saveRefreshSession 에서 트랜잭션으로 수행
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TokenPair generateTokenPair(JwtDto.UserDetails userDetails, String deviceInfo, String ipAddress) {
         // ID 생성
         String tokenId = generateTokenId();
@@ -77,7 +102,7 @@ public class TokenService {
                 ipAddress
         );
 
-        refreshTokenRepository.save(refreshToken);
+        saveRefreshSession(refreshToken);
 
         return new TokenPair(
                 accessToken,
@@ -89,194 +114,405 @@ public class TokenService {
 
     /**
      * 리프레시 토큰으로 새로운 토큰 쌍 발급
+     *
+     * Refresh Token 은 한번만 사용할 수 있으며, 조회 → 검사 → 무효화를 Redis Lua 스크립트 한번으로 수행한다.
+     * 같은 Refresh Token 으로 동시에/연달아 들어온 중복 요청(여러 탭, 모바일 재시도)은
+     * jwt.refresh.idempotency.seconds 동안 먼저 선점한 요청이 발급한 토큰 쌍을 그대로 돌려받는다.
+     *
+     * Redis 선점과 다른 요청의 회전 결과 대기(PENDING) 는 DB 커넥션을 잡지 않도록 트랜잭션 없이 수행하고,
+     * Redis 에 세션이 없을 때의 DB 검증/무효화만 짧은 트랜잭션(transactionTemplate) 으로 수행한다.
+     * 회원/프로필 조회는 Repository 의 readOnly 트랜잭션을 사용한다.
+     *
+     * 갱신 API(/api/token/refresh, /api/authentication/refresh) 모두 이 메서드를 거치므로 초당 갱신 허용량도 여기서 확인한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenPair refreshTokens(String refreshTokenValue, String deviceInfo, String ipAddress) {
-        // Redis에서 무효화 여부 먼저 확인
-        String revokedRefreshKey = revokedRefreshTokenKey(refreshTokenValue);
-        // refreshKey 유효성 검증
-        checkIfRevokedOrThrow(revokedRefreshKey);
+        // 0. 초당 갱신 허용량 확인 (초과 시 TokenRefreshRateLimitedException → 429 + Retry-After)
+        tokenRefreshAdmission.admitOrThrow();
 
         LocalDateTime currentTime = getCurrentTime();
 
-        RefreshToken refreshToken = refreshTokenRepository
-                .findByTokenValueAndIsRevokedFalse(refreshTokenValue)
-                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
-
-        // 만료된 refreshToken 인지 체크
-        checkIfExpiredOrThrow(refreshToken, currentTime);
+        // 1. Redis 세션 단일 사용 선점
+        RefreshSessionRedisService.RotationClaim claim = claimRefreshRotation(refreshTokenValue, currentTime);
+        switch (claim.getStatus()) {
+            case ROTATED:
+                return toTokenPair(claim.getRotated());
+            case PENDING:
+                return awaitRotationResultOrThrow(refreshTokenValue);
+            case REVOKED:
+                throw new InvalidTokenException("Refresh token has been revoked");
+            case EXPIRED:
+                throw new InvalidTokenException("Refresh token expired or revoked");
+            default:
+                break;
+        }
 
-        // 기존 리프레시 토큰 무효화 (기존 토큰 철회)
-        revokeRefreshKeyOrThrow(refreshToken, revokedRefreshKey);
+        Long memberId;
+        long refreshTokenExpiresAtMillis;
+        boolean expiresAtInSeconds;
+        if (claim.getStatus() == RefreshSessionRedisService.ClaimStatus.CLAIMED) {
+            // Redis 세션 기준으로 처리 (DB 반영은 RefreshTokenWriteBehind 가 비동기로 수행)
+            markRotatedRefreshSession(RefreshSessionRedisService.sessionIdOf(refreshTokenValue));
+            memberId = claim.getMemberId();
+            refreshTokenExpiresAtMillis = claim.getExpiresAtMillis();
+            expiresAtInSeconds = false;
+        }
+        else {
+            // Redis 에 세션이 없는 경우 (Redis 장애, Redis 세션 도입 이전에 발급된 토큰) DB 기준으로 처리
+            Optional<JwtDto.TokenPair> rotated = findRotationResult(refreshTokenValue);
+            if (rotated.isPresent()) {
+                return toTokenPair(rotated.get());
+            }
 
-        // 사용자 정보 조회
-        List<Member> result = memberRepository.findByIdFetchJoin(refreshToken.getMemberId());
-        if (result.isEmpty()) {
-            throw new MemberNotFoundException();
+            // refreshKey 유효성 검증
+            checkIfRevokedOrThrow(refreshTokenValue);
+
+            RefreshToken refreshToken = transactionTemplate.execute(status -> {
+                RefreshToken activeToken = refreshTokenRepository
+                        .findActiveByTokenValue(refreshTokenValue)
+                        .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+                // 만료된 refreshToken 인지 체크
+                checkIfExpiredOrThrow(activeToken, currentTime);
+
+                // 기존 리프레시 토큰 무효화 (조건부 UPDATE 로 한 요청만 성공)
+                revokeRefreshKeyOrThrow(refreshTokenValue);
+                return activeToken;
+            });
+            memberId = refreshToken.getMemberId();
+            refreshTokenExpiresAtMillis = toEpochMillis(refreshToken.getExpiresAt());
+            // jwt_refresh_tokens.expires_at 은 초 단위 timestamp
+            expiresAtInSeconds = true;
         }
 
-        Member member = result.get(0);
+        try {
+            // 전체 디바이스 로그아웃 이전에 발급된 Refresh Token 인지 체크
+            checkIfRevokedByEpochOrThrow(memberId, refreshTokenExpiresAtMillis, expiresAtInSeconds);
+
+            // 사용자 정보 조회
+            List<Member> result = memberRepository.findByIdFetchJoin(memberId);
+            if (result.isEmpty()) {
+                throw new MemberNotFoundException();
+            }
 
-        // UserDetails 생성 (만료 시간은 JwtKeyHelper에서 처리)
-        JwtDto.UserDetails userDetails = JwtMapper.ofUserDetails(
-                member.getId(),
-                jwtKeyHelper.generateAccessTokenExpiration()
-        );
+            Member member = result.get(0);
 
-        // 새로운 토큰 쌍 생성
-        return generateTokenPair(userDetails, deviceInfo, ipAddress);
+            // UserDetails 생성 (만료 시간은 JwtKeyHelper에서 처리)
+            // 갱신 시점의 프로필을 담으므로, 프로필 변경 후 갱신한 토큰의 프로필 claims 는 최신
+            JwtDto.UserDetails userDetails = jwtKeyHelper.isProfileClaimsEnabled()
+                    ? JwtMapper.ofUserDetails(member.getId(), jwtKeyHelper.generateAccessTokenExpiration(), getMemberProfileOrThrow(member.getId()))
+                    : JwtMapper.ofUserDetails(member.getId(), jwtKeyHelper.generateAccessTokenExpiration());
+
+            // 새로운 토큰 쌍 생성 후 중복 요청을 위해 보관
+            TokenPair tokenPair = generateTokenPair(userDetails, deviceInfo, ipAddress);
+            saveRotationResult(refreshTokenValue, tokenPair);
+            return tokenPair;
+        } catch (RuntimeException e) {
+            clearRotationResult(refreshTokenValue);
+            throw e;
+        }
     }
 
     /**
      * 로그아웃 처리
      */
     public void logout(String accessToken, Long memberId) {
+        JwtDto.VerifiedToken verifiedToken;
         try {
-            String keyId = JwtProcessor.extractKeyIdOrThrow(accessToken);
+            verifiedToken = jwtKeyHelper.verifyToken(accessToken);
+        } catch (Exception e) {
+            log.error("Error during logout for user {}: {}", memberId, e.getMessage());
+            // 모든 리프레시 토큰 무효화 (fallback)
+            refreshTokenRepository.revokeAllByMemberId(memberId);
+            return;
+        }
 
-            // 액세스 토큰에서 정보 추출
-            Claims claims = jwtKeyHelper.readClaim(keyId, accessToken);
-            String jti = jwtKeyHelper.extractJti(claims);
-            Date expirationDate = jwtKeyHelper.extractExpiration(claims);
-            LocalDateTime expiresAt = convertToLocalDateTime(expirationDate);
+        logout(verifiedToken);
+    }
 
-            long ttlSeconds = calculateTTL(expirationDate);
-            stringRedisTemplate.opsForValue().set(blacklistedJtiRedisKey(jti), String.valueOf(memberId), Duration.ofSeconds(ttlSeconds));
-            log.info("Token added to Redis blacklist. JTI: {}, TTL: {}s", jti, ttlSeconds);
+    /**
+     * 로그아웃 처리 (JwtAuthenticationFilter 에서 이미 검증된 토큰)
+     *
+     * 블랙리스트 저장, 연관 Refresh 세션 무효화, 다른 Pod 전파, DB 반영 대기열 적재를 Redis 왕복 1회로 처리한다.
+     * jwt_blacklist / jwt_refresh_tokens 반영은 TokenBlacklistWriteBehind 가 batch 로 수행하고,
+     * Redis 를 사용할 수 없을 때만 요청 안에서 DB 에 직접 저장한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void logout(JwtDto.VerifiedToken verifiedToken) {
+        Long memberId = verifiedToken.getMemberId();
+        String jti = verifiedToken.getJti();
+        Date expirationDate = verifiedToken.getExpiration();
 
-            // 블랙리스트에 추가
-            TokenBlacklist blacklistedToken = TokenBlacklist.create(
+        try {
+            tokenBlacklistRedisService.logout(
                     jti,
                     memberId,
-                    expiresAt,
-                    "USER_LOGOUT"
+                    expirationDate.getTime(),
+                    LOGOUT_REASON,
+                    JtiBlacklistIndex.BLACKLIST_CHANNEL,
+                    jti + "," + expirationDate.getTime()
             );
-            tokenBlacklistRepository.save(blacklistedToken);
-
-            // 연관된 리프레시 토큰 무효화
-            refreshTokenRepository.findByAccessTokenIdAndIsRevokedFalse(jti)
-                    .ifPresent(refreshToken -> {
-                        refreshToken.revoke();
-                        refreshTokenRepository.save(refreshToken);
-                    });
-
             log.info("User {} logged out successfully. Token JTI: {}", memberId, jti);
-
         } catch (Exception e) {
-            log.error("Error during logout for user {}: {}", memberId, e.getMessage());
-            // 모든 리프레시 토큰 무효화 (fallback)
-            refreshTokenRepository.revokeAllByMemberId(memberId);
+            log.warn("Failed to write logout to Redis, persisting to DB. JTI: {}, {}", jti, e.getMessage());
+            persistLogout(jti, memberId, expirationDate);
         }
+
+        // 로컬 블랙리스트 인덱스 반영 (다른 Pod 은 위의 전파 또는 주기적 재적재로 반영)
+        jtiBlacklistIndex.add(jti, expirationDate.getTime());
+        verifiedTokenCache.invalidateByJti(jti);
     }
 
     /**
      * 모든 디바이스에서 로그아웃
+     *
+     * 회원의 세션을 하나씩 무효화하지 않고, "지금 이전에 발급된 토큰은 모두 무효" 를 기록한다. (세션 수와 관계없이 Redis 쓰기 1회)
+     * Access Token 은 JwtAuthenticationFilter 에서, Refresh Token 은 refreshTokens 에서 발급시각으로 판정해 차단된다.
+     * jwt_refresh_tokens 의 is_revoked 반영은 RefreshTokenWriteBehind 가 비동기로 수행한다.
+     *
+     * Redis 에 무효화 시각을 기록하지 못하면 DB 의 Refresh Token 만 모두 무효화하고,
+     * 이미 발급된 Access Token 은 만료될 때까지 유효하다.
+     * @return 이미 발급된 Access Token 까지 즉시 차단했으면 true, Refresh Token 만 무효화했으면 false
      */
-    public void logoutAllDevices(Long memberId) {
-        // DB 에서 모든 Refresh Token 조회 후 Redis 에 무효화
-        refreshTokenRepository.findAllByMemberIdAndIsRevokedFalse(memberId)
-                .forEach(revokedRefreshToken -> {
-                    try{
-                        stringRedisTemplate.opsForValue().set(
-                                revokedRefreshTokenKey(revokedRefreshToken.getTokenValue()),
-                                "true",
-                                Duration.ofDays(30)
-                        );
-                    } catch (Exception e){
-                        log.warn("Failed to revoke token in Redis: {}", e.getMessage());
-                    }
-                });
-
-        // DB 무효화 처리
-        refreshTokenRepository.revokeAllByMemberId(memberId);
+    public boolean logoutAllDevices(Long memberId) {
+        long epochMillis = System.currentTimeMillis();
+        try {
+            memberRevocationEpoch.revokeAllIssuedBefore(memberId, epochMillis);
+        } catch (Exception e) {
+            log.error("Failed to record revocation epoch in Redis, revoking refresh tokens in DB only. " +
+                    "Access tokens of user {} remain valid until they expire: {}", memberId, e.getMessage());
+            refreshTokenRepository.revokeAllByMemberId(memberId);
+            return false;
+        }
+
+        try {
+            refreshTokenWriteBehind.enqueueRevokeAll(memberId, epochMillis);
+        } catch (Exception e) {
+            log.warn("Failed to enqueue member refresh token revocation, revoking in DB: {}", e.getMessage());
+            refreshTokenRepository.revokeAllByMemberIdExpiringUntil(
+                    memberId,
+                    convertToLocalDateTime(new Date(MemberRevocationEpoch.ceilToSecond(epochMillis))).plusDays(refreshTokenExpirationDays)
+            );
+        }
         log.info("All devices logged out for user {}", memberId);
+        return true;
+    }
+
+    /**
+     * 검증된 Access Token 이 블랙리스트에 있거나 전체 디바이스 로그아웃으로 무효화되었는지 확인
+     * (요청 경로에서는 트랜잭션 없이 TokenVerifier 를 직접 사용)
+     */
+    public BlackListedPredicate isTokenBlacklisted(JwtDto.VerifiedToken verifiedToken) {
+        return tokenVerifier.isTokenBlacklisted(verifiedToken);
     }
 
     /**
      * 토큰이 블랙리스트에 있는지 확인
      */
     public BlackListedPredicate isTokenBlacklisted(String jti) {
-        try{
-            // 1. Redis 에서 먼저 체크
-            Boolean isKeyExists = stringRedisTemplate.hasKey(blacklistedJtiRedisKey(jti));
-            if(Boolean.TRUE.equals(isKeyExists)){
-                return BlackListedPredicate.BLACKLISTED;
-            }
+        return tokenVerifier.isTokenBlacklisted(jti);
+    }
 
-            // 2. Redis 에 없을 경우 DB 확인
-            Optional<TokenBlacklist> blacklist = tokenBlacklistRepository.findByJti(jti);
-            if (blacklist.isEmpty()) {
-                return BlackListedPredicate.NOT_BLACKLISTED;
-            }
+    public void revokeRefreshKeyOrThrow(String refreshTokenValue){
+        // 조회 이후 다른 요청이 먼저 사용했다면 0건 → 재사용으로 간주
+        int revoked = refreshTokenRepository.revokeIfActive(refreshTokenValue, getCurrentTime());
+        if (revoked == 0) {
+            throw new InvalidTokenException("Refresh token has already been used");
+        }
+
+        // Redis에도 무효화 마킹
+        try {
+            revokedRefreshMarkerRedisService.mark(refreshTokenValue, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("Failed to mark refresh token as revoked in Redis: {}", e.getMessage());
+            throw new InvalidTokenException("Failed to mark refresh token as revoked in Redis");
+        }
+    }
+
+
+    /**
+     * Refresh Token 의 발급시각(만료시각 - Refresh Token 수명) 이 회원의 무효화 시각 이전이면 예외
+     * (만료시각이 DB 에서 읽은 초 단위 값이면 초 단위로 비교)
+     */
+    private void checkIfRevokedByEpochOrThrow(Long memberId, long refreshTokenExpiresAtMillis, boolean expiresAtInSeconds) {
+        long issuedAtMillis = refreshTokenExpiresAtMillis - refreshTokenExpirationDays * 86400000L;
+        boolean revoked = expiresAtInSeconds
+                ? memberRevocationEpoch.isRevokedIssuedAtSecond(memberId, issuedAtMillis)
+                : memberRevocationEpoch.isRevoked(memberId, issuedAtMillis);
+        if (revoked) {
+            throw new InvalidTokenException("Refresh token has been revoked");
+        }
+    }
+
+    /**
+     * 선점(또는 세션 수 제한으로 무효화)된 Redis 세션의 후속 처리 : revoked 마킹 + DB 반영은 RefreshTokenWriteBehind 에 위임
+     */
+    private void markRotatedRefreshSession(String sessionId){
+        try {
+            revokedRefreshMarkerRedisService.mark(RefreshSessionRedisService.tokenDigestOf(sessionId), System.currentTimeMillis());
+        } catch (Exception e) {
+            // 세션 자체는 이미 Redis 에서 무효화되었으므로 계속 진행
+            log.warn("Failed to mark refresh token as revoked in Redis: {}", e.getMessage());
+        }
+        enqueueRevoke(sessionId);
+    }
 
-            // 3. DB에 존재함 → 블랙리스트
-            TokenBlacklist token = blacklist.get();
-            Long ttl = calculateLocalDateTimeTTL(token.getExpiresAt());
-
-            // 4. TTL이 남아있으면 Redis에 캐싱 (다음 조회 최적화)
-            if (ttl > 0){
-                stringRedisTemplate.opsForValue()
-                        .set(
-                                blacklistedJtiRedisKey(token.getJti()),
-                                String.valueOf(token.getMemberId()),
-                                Duration.ofSeconds(ttl)
-                        );
-                log.debug("Token cached to Redis with TTL: {} seconds", ttl);
+    private RefreshSessionRedisService.RotationClaim claimRefreshRotation(String refreshTokenValue, LocalDateTime currentTime) {
+        try {
+            return refreshSessionRedisService.claimRotation(refreshTokenValue, toEpochMillis(currentTime));
+        } catch (Exception e) {
+            log.warn("Failed to claim refresh session in Redis, continuing with DB: {}", e.getMessage());
+            return RefreshSessionRedisService.RotationClaim.missing();
+        }
+    }
+
+    private MemberProfile getMemberProfileOrThrow(Long memberId) {
+        return memberProfileRepository
+                .findMemberProfileByMemberId(memberId)
+                .orElseThrow(MemberNotFoundException::new);
+    }
+
+    /**
+     * 다른 요청이 회전 중인 경우 결과가 저장될 때까지 잠시 대기
+     */
+    private TokenPair awaitRotationResultOrThrow(String refreshTokenValue) {
+        long deadline = System.currentTimeMillis() + rotationWaitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<JwtDto.TokenPair> rotated = findRotationResult(refreshTokenValue);
+            if (rotated.isPresent()) {
+                return toTokenPair(rotated.get());
             }
-            else{
-                log.debug("Token already expired, skipping Redis cache");
+            try {
+                Thread.sleep(ROTATION_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
+        }
+        throw new InvalidTokenException("Refresh token rotation in progress");
+    }
 
-            // 5. TTL과 관계없이 DB에 있으면 블랙리스트
-            // (실제로는 Filter의 만료 체크에서 이미 차단되므로 여기까지 오지 않음)
-            return BlackListedPredicate.BLACKLISTED;
-        } catch (Exception e){
-            return tokenBlacklistRepository.existsByJti(jti) ? BlackListedPredicate.BLACKLISTED : BlackListedPredicate.NOT_BLACKLISTED;
+    private Optional<JwtDto.TokenPair> findRotationResult(String refreshTokenValue) {
+        try {
+            return refreshSessionRedisService.findRotationResult(refreshTokenValue);
+        } catch (Exception e) {
+            return Optional.empty();
         }
     }
 
-    public void revokeRefreshKeyOrThrow(RefreshToken refreshToken, String revokedRefreshKey){
-        refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
+    private void saveRotationResult(String refreshTokenValue, TokenPair tokenPair) {
+        try {
+            refreshSessionRedisService.saveRotationResult(refreshTokenValue, JwtDto.TokenPair.builder()
+                    .accessToken(tokenPair.getAccessToken())
+                    .refreshToken(tokenPair.getRefreshToken())
+                    .accessTokenExpiresIn(tokenPair.getAccessTokenExpiresIn())
+                    .refreshTokenExpiresIn(tokenPair.getRefreshTokenExpiresIn())
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to store refresh rotation result: {}", e.getMessage());
+        }
+    }
 
-        // Redis에도 무효화 마킹
+    private void clearRotationResult(String refreshTokenValue) {
         try {
-            stringRedisTemplate.opsForValue().set(
-                    revokedRefreshKey,
-                    "true",
-                    Duration.ofDays(30)
-            );
+            refreshSessionRedisService.clearRotationResult(refreshTokenValue);
         } catch (Exception e) {
-            log.warn("Failed to mark refresh token as revoked in Redis: {}", e.getMessage());
-            throw new InvalidTokenException("Failed to mark refresh token as revoked in Redis");
+            log.warn("Failed to clear refresh rotation result: {}", e.getMessage());
         }
     }
 
+    private TokenPair toTokenPair(JwtDto.TokenPair tokenPair) {
+        return new TokenPair(
+                tokenPair.getAccessToken(),
+                tokenPair.getRefreshToken(),
+                tokenPair.getAccessTokenExpiresIn(),
+                tokenPair.getRefreshTokenExpiresIn()
+        );
+    }
 
-    /// 테스트 가능한 메서드들
     /**
-     * Redis Key 생성 (RefreshToken) : member:authentication:revoked_refresh:
+     * Refresh Token 세션 저장 (Redis 저장 + DB 비동기 반영)
+     * 같은 deviceInfo 의 이전 세션과 회원당 세션 수(maxSessionsPerMember) 초과분은 저장과 함께 무효화한다.
+     * Redis 를 사용할 수 없으면 DB 에 동기 저장
      */
-    public String revokedRefreshTokenKey(String refreshTokenValue){
-        return String.format("%s%s", RedisKeyPrefix.MEMBER_AUTHENTICATION_REVOKED_REFRESH, refreshTokenValue);
+    private void saveRefreshSession(RefreshToken refreshToken) {
+        JwtDto.RefreshSession session = JwtMapper.ofRefreshSession(refreshToken);
+        List<String> evicted;
+        try {
+            evicted = refreshSessionRedisService.save(session, maxSessionsPerMember);
+            refreshTokenWriteBehind.enqueueCreate(session.getSessionId());
+        } catch (Exception e) {
+            log.warn("Failed to store refresh session in Redis, saving to DB: {}", e.getMessage());
+            // 트랜잭션 없이 호출된 경우(refreshTokens) 에도 INSERT 와 세션 수 제한 UPDATE 를 한 트랜잭션으로
+            transactionTemplate.executeWithoutResult(status -> {
+                refreshTokenRepository.save(refreshToken);
+                revokeExceededSessionsInDatabase(refreshToken);
+            });
+            return;
+        }
+
+        if (!evicted.isEmpty()) {
+            log.debug("Refresh sessions evicted for member {}: {}", refreshToken.getMemberId(), evicted.size());
+            evicted.forEach(this::markRotatedRefreshSession);
+        }
     }
 
     /**
-     * Redis Key 생성 (Blacklist) : member:authentication:blacklist:
+     * Redis 를 사용할 수 없을 때의 세션 수 제한 : 같은 디바이스의 이전 세션 + 최근 maxSessionsPerMember 개 밖의 세션 무효화
      */
-    public String blacklistedJtiRedisKey(String jti){
-        return String.format("%s%s", RedisKeyPrefix.MEMBER_AUTHENTICATION_BLACKLIST, jti);
+    private void revokeExceededSessionsInDatabase(RefreshToken refreshToken) {
+        Long memberId = refreshToken.getMemberId();
+        if (refreshToken.getDeviceInfo() != null && !refreshToken.getDeviceInfo().isBlank()) {
+            refreshTokenRepository.revokeActiveByMemberIdAndDeviceInfoExcept(memberId, refreshToken.getDeviceInfo(), refreshToken.getId());
+        }
+
+        List<Long> recentIds = refreshTokenRepository.findActiveIdsByMemberIdOrderByIdDesc(
+                memberId, PageRequest.of(0, Math.max(maxSessionsPerMember, 1)));
+        if (recentIds.size() >= maxSessionsPerMember) {
+            refreshTokenRepository.revokeActiveByMemberIdExcept(memberId, recentIds);
+        }
     }
 
     /**
-     * Redis Key 를 얼마나 오랫동안 유지시킬지를 계산
-     * ttl = expiration(만료시각) - 현재시각
+     * Redis 를 사용할 수 없을 때의 로그아웃 : 블랙리스트 INSERT + 연관 Refresh Token 무효화를 DB 에 직접 반영
      */
-    protected Long calculateLocalDateTimeTTL(LocalDateTime expiredAt){
-        Long expiredAtMs = expiredAt.atZone(ZoneOffset.UTC)
-                .toInstant()
-                .toEpochMilli();
+    private void persistLogout(String jti, Long memberId, Date expirationDate) {
+        try {
+            tokenBlacklistRepository.save(TokenBlacklist.create(
+                    jti,
+                    memberId,
+                    convertToLocalDateTime(expirationDate),
+                    LOGOUT_REASON
+            ));
+
+            refreshTokenRepository.findByAccessTokenIdAndIsRevokedFalse(jti)
+                    .ifPresent(refreshToken -> {
+                        refreshToken.revoke();
+                        refreshTokenRepository.save(refreshToken);
+                    });
+        } catch (Exception e) {
+            log.error("Error during logout for user {}: {}", memberId, e.getMessage());
+            // 모든 리프레시 토큰 무효화 (fallback)
+            refreshTokenRepository.revokeAllByMemberId(memberId);
+        }
+    }
+
+    private void enqueueRevoke(String sessionId) {
+        try {
+            refreshTokenWriteBehind.enqueueRevoke(sessionId);
+        } catch (Exception e) {
+            log.warn("Failed to enqueue refresh token revocation, revoking in DB: {}", e.getMessage());
+            refreshTokenRepository.revokeAllByTokenDigestIn(List.of(RefreshSessionRedisService.tokenDigestOf(sessionId)));
+        }
+    }
+
 
-        return Math.max(expiredAtMs - System.currentTimeMillis(), 0); // 음수 방지
+    /// 테스트 가능한 메서드들
+    /**
+     * Redis Key 생성 (Blacklist) : member:authentication:blacklist:
+     */
+    public String blacklistedJtiRedisKey(String jti){
+        return String.format("%s%s", RedisKeyPrefix.MEMBER_AUTHENTICATION_BLACKLIST, jti);
     }
 
     /**
@@ -323,6 +559,13 @@ public class TokenService {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * LocalDateTime 을 epoch millis 로 변환
+     */
+    protected long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     /**
      * Date 를 LocalDateTime 으로 변환
      */
@@ -331,19 +574,20 @@ public class TokenService {
     }
 
     /**
-     * revokedToken 의 key 를 Redis 내의 Revoked Key 에 대한 네임스페이스에서 조회해서 존재하는지 체크 및 유효성 검증
+     * 이미 사용(무효화)된 Refresh Token 인지 Redis 의 무효화 표시(RevokedRefreshMarkerRedisService) 로 체크 및 유효성 검증
      */
-    public void checkIfRevokedOrThrow(String revokedRefreshKey){
-        try {
-            Boolean isRevoked = stringRedisTemplate.hasKey(revokedRefreshKey);
-            if (Boolean.TRUE.equals(isRevoked)) {
-                log.debug("Refresh token found in Redis revocation list");
-                throw new InvalidTokenException("Refresh token has been revoked");
-            }
-        } catch (InvalidTokenException e) {
-            throw e;
-        } catch (Exception e) {
-            log.warn("Redis check failed, continuing with DB check: {}", e.getMessage());
+    public void checkIfRevokedOrThrow(String refreshTokenValue){
+        // Redis 장애(circuit breaker OPEN 포함) 시 null → 이어지는 DB 조회(is_revoked) 로 판정
+        Boolean isRevoked = redisCircuitBreaker.execute(
+                () -> revokedRefreshMarkerRedisService.isRevoked(refreshTokenValue, System.currentTimeMillis()),
+                () -> null
+        );
+        if (Boolean.TRUE.equals(isRevoked)) {
+            log.debug("Refresh token found in Redis revocation list");
+            throw new InvalidTokenException("Refresh token has been revoked");
+        }
+        if (isRevoked == null) {
+            log.debug("Redis revocation check unavailable, continuing with DB check");
         }
     }
 
@@ -0,0 +1,373 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.code.domain.member.member.code.MemberHeaderCode;
+import click.dailyfeed.code.domain.member.member.predicate.BlackListedPredicate;
+import click.dailyfeed.code.global.cache.RedisKeyPrefix;
+import click.dailyfeed.code.global.jwt.predicate.JwtExpiredPredicate;
+import click.dailyfeed.member.config.redis.RedisCircuitBreaker;
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import click.dailyfeed.member.domain.jwt.entity.TokenBlacklist;
+import click.dailyfeed.member.domain.jwt.exception.TokenRejectedException;
+import click.dailyfeed.member.domain.jwt.mapper.JwtMapper;
+import click.dailyfeed.member.domain.jwt.redis.RefreshSessionRedisService;
+import click.dailyfeed.member.domain.jwt.repository.jpa.RefreshTokenRepository;
+import click.dailyfeed.member.domain.jwt.repository.jpa.TokenBlacklistRepository;
+import click.dailyfeed.member.domain.jwt.util.JwtKeyIdExtractor;
+import click.dailyfeed.member.domain.jwt.util.JwtProcessor;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 경로의 Access Token 검증 (트랜잭션 없음)
+ *
+ * JwtAuthenticationFilter 가 모든 요청에서 호출하는 검증 단계(서명 검증, 블랙리스트, 전체 로그아웃, Refresh Token 만료 확인)를
+ * @Transactional 인 JwtKeyHelper/TokenService 에서 분리했다. 트랜잭션 프록시를 거치지 않으므로 요청마다 Hikari 커넥션을 잡지 않고,
+ * 아래 경우에만 Repository 호출(자체 readOnly 트랜잭션) 로 DB 에 접근한다.
+ *
+ * - 블랙리스트 : JtiBlacklistIndex 판정 불가 → Redis miss → jwt_blacklist 조회
+ * - Refresh Token 만료 확인 : Access Token 이 만료된 요청에서 Redis 세션 miss → jwt_refresh_tokens 조회
+ * - Key Ring miss : JwtKeyRotationService 가 최소 간격으로 재적재
+ *
+ * Redis 호출은 RedisCircuitBreaker 를 거친다. Redis 장애(또는 OPEN) 로 넘어가는 DB 조회는 TokenDatabaseFallbackLimiter 로 제한하고,
+ * 상한을 넘으면 블랙리스트는 로컬 revoke 집합(JtiBlacklistIndex) 으로, Refresh Token 만료 확인은 NOT_EXPIRED 로 판정한다.
+ * (Refresh Token 의 최종 검증은 /refresh 에서 다시 수행)
+ *
+ * 메트릭 (JwtAuthenticationFilter 가 검증 구간에서 획득한 커넥션 수를 recordConnectionAcquisitions 로 기록)
+ * - authentication.verification.requests, authentication.verification.connections : 누적 요청 수, 누적 커넥션 획득 수
+ * - authentication.verification.connections.per_request : 요청당 평균 커넥션 획득 수 (0 에 가까워야 정상)
+ */
+@Slf4j
+@Component
+public class TokenVerifier {
+    private final JwtKeyRotationService jwtKeyRotationService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JtiBlacklistIndex jtiBlacklistIndex;
+    private final MemberRevocationEpoch memberRevocationEpoch;
+    private final RefreshSessionRedisService refreshSessionRedisService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final TokenDatabaseFallbackLimiter tokenDatabaseFallbackLimiter;
+    private final TokenRefreshSignal tokenRefreshSignal;
+
+    private final Counter verificationCounter;
+    private final Counter connectionCounter;
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+
+    @Value("${jwt.access.expiration.hours:1}")
+    private Integer accessTokenExpirationHours;
+
+    public TokenVerifier(
+            JwtKeyRotationService jwtKeyRotationService,
+            VerifiedTokenCache verifiedTokenCache,
+            JtiBlacklistIndex jtiBlacklistIndex,
+            MemberRevocationEpoch memberRevocationEpoch,
+            RefreshSessionRedisService refreshSessionRedisService,
+            RefreshTokenRepository refreshTokenRepository,
+            TokenBlacklistRepository tokenBlacklistRepository,
+            @Qualifier("stringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+            RedisCircuitBreaker redisCircuitBreaker,
+            TokenDatabaseFallbackLimiter tokenDatabaseFallbackLimiter,
+            TokenRefreshSignal tokenRefreshSignal,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtKeyRotationService = jwtKeyRotationService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.jtiBlacklistIndex = jtiBlacklistIndex;
+        this.memberRevocationEpoch = memberRevocationEpoch;
+        this.refreshSessionRedisService = refreshSessionRedisService;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.tokenDatabaseFallbackLimiter = tokenDatabaseFallbackLimiter;
+        this.tokenRefreshSignal = tokenRefreshSignal;
+
+        this.verificationCounter = Counter.builder("authentication.verification.requests").register(meterRegistry);
+        this.connectionCounter = Counter.builder("authentication.verification.connections").register(meterRegistry);
+        Gauge.builder("authentication.verification.connections.per_request", this, TokenVerifier::connectionsPerRequest)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 검증 (요청당 1회)
+     * kid 추출, 서명 검증, claims 파싱을 한번에 수행하고 결과를 VerifiedToken 으로 반환
+     * 같은 토큰의 검증 결과가 VerifiedTokenCache 에 있으면 서명 검증/파싱을 생략
+     */
+    public JwtDto.VerifiedToken verifyToken(String token) {
+        Optional<JwtDto.VerifiedToken> cached = verifiedTokenCache.find(token);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String keyId = JwtProcessor.extractKeyIdOrThrow(token);
+        JwtParser jwtParser = jwtKeyRotationService.getParserByKeyId(keyId);
+
+        Jws<Claims> jws = JwtProcessor.getJwsOrThrow(jwtParser, token);
+
+        JwtDto.VerifiedToken verifiedToken = JwtMapper.ofVerifiedToken(
+                keyId,
+                jws.getBody().getId(),
+                JwtProcessor.getIdOrThrow(jws),
+                JwtProcessor.getExpirationDateOrThrow(jws),
+                jws.getBody().getIssuedAt()
+        );
+        verifiedTokenCache.put(token, verifiedToken);
+        return verifiedToken;
+    }
+
+    /**
+     * 토큰 검증 (인증 filter 용, verifyToken 과 같은 판정)
+     * 실패 사유마다 미리 만든 stackless TokenRejectedException 을 던지므로, 거부되는 요청에서 예외 생성/래핑 비용이 거의 없다.
+     * (서명 불일치, 만료 등 jjwt 내부에서 만드는 예외는 피할 수 없으므로 사유만 옮겨 담음)
+     */
+    public JwtDto.VerifiedToken verifyOrReject(String token) {
+        Optional<JwtDto.VerifiedToken> cached = verifiedTokenCache.find(token);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String keyId = JwtKeyIdExtractor.extractKeyIdOrReject(token);
+        JwtParser jwtParser = jwtKeyRotationService.findParserByKeyId(keyId)
+                .orElseThrow(() -> TokenRejectedException.of(TokenRejectedException.Reason.UNKNOWN_KEY));
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            throw TokenRejectedException.of(TokenRejectedException.Reason.EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw TokenRejectedException.of(TokenRejectedException.Reason.INVALID_TOKEN);
+        }
+
+        Long memberId = claims.get("id") instanceof Number id ? id.longValue() : null;
+        if (memberId == null || claims.getExpiration() == null) {
+            throw TokenRejectedException.of(TokenRejectedException.Reason.MISSING_CLAIMS);
+        }
+
+        JwtDto.VerifiedToken verifiedToken = JwtMapper.ofVerifiedToken(
+                keyId,
+                claims.getId(),
+                memberId,
+                claims.getExpiration(),
+                claims.getIssuedAt()
+        );
+        verifiedTokenCache.put(token, verifiedToken);
+        return verifiedToken;
+    }
+
+    /**
+     * 검증된 Access Token 이 블랙리스트에 있거나 전체 디바이스 로그아웃으로 무효화되었는지 확인
+     */
+    public BlackListedPredicate isTokenBlacklisted(JwtDto.VerifiedToken verifiedToken) {
+        if (BlackListedPredicate.BLACKLISTED.equals(isTokenBlacklisted(verifiedToken.getJti()))) {
+            return BlackListedPredicate.BLACKLISTED;
+        }
+
+        // iat 가 없는 토큰(iat 도입 이전 발급)은 만료시각 - Access Token 수명 을 발급시각으로 간주 (둘 다 초 단위)
+        long issuedAtMillis = verifiedToken.getIssuedAt() != null
+                ? verifiedToken.getIssuedAt().getTime()
+                : verifiedToken.getExpiration().getTime() - accessTokenExpirationHours * 3600000L;
+
+        return memberRevocationEpoch.isRevokedIssuedAtSecond(verifiedToken.getMemberId(), issuedAtMillis)
+                ? BlackListedPredicate.BLACKLISTED
+                : BlackListedPredicate.NOT_BLACKLISTED;
+    }
+
+    /**
+     * 토큰이 블랙리스트에 있는지 확인
+     */
+    public BlackListedPredicate isTokenBlacklisted(String jti) {
+        // 0. 로컬 블랙리스트 인덱스 (Bloom Filter) 로 판정 가능하면 Redis/DB 조회 생략
+        Optional<BlackListedPredicate> indexed = jtiBlacklistIndex.lookup(jti);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        // 1. Redis 에서 먼저 체크 (장애 또는 circuit breaker OPEN 이면 null)
+        Boolean isKeyExists = redisCircuitBreaker.execute(
+                () -> stringRedisTemplate.hasKey(blacklistedJtiRedisKey(jti)),
+                () -> null
+        );
+        if(Boolean.TRUE.equals(isKeyExists)){
+            return BlackListedPredicate.BLACKLISTED;
+        }
+        if (isKeyExists == null) {
+            // Redis 를 쓸 수 없음 → 제한된 DB 조회, 상한 초과 시 로컬 revoke 집합으로 판정
+            boolean blacklisted = tokenDatabaseFallbackLimiter
+                    .tryCall(() -> tokenBlacklistRepository.existsByJti(jti))
+                    .orElseGet(() -> jtiBlacklistIndex.isRevokedLocally(jti));
+            return blacklisted ? BlackListedPredicate.BLACKLISTED : BlackListedPredicate.NOT_BLACKLISTED;
+        }
+
+        // 2. Redis 에 없을 경우 DB 확인
+        Optional<TokenBlacklist> blacklist = tokenBlacklistRepository.findByJti(jti);
+        if (blacklist.isEmpty()) {
+            return BlackListedPredicate.NOT_BLACKLISTED;
+        }
+
+        // 3. DB에 존재함 → 블랙리스트
+        TokenBlacklist token = blacklist.get();
+        long ttl = calculateLocalDateTimeTTL(token.getExpiresAt());
+        jtiBlacklistIndex.add(token.getJti(), System.currentTimeMillis() + ttl);
+
+        // 4. TTL이 남아있으면 Redis에 캐싱 (다음 조회 최적화)
+        if (ttl > 0){
+            redisCircuitBreaker.run(() -> stringRedisTemplate.opsForValue()
+                    .set(
+                            blacklistedJtiRedisKey(token.getJti()),
+                            String.valueOf(token.getMemberId()),
+                            Duration.ofMillis(ttl)
+                    ));
+            log.debug("Token cached to Redis with TTL: {} ms", ttl);
+        }
+        else{
+            log.debug("Token already expired, skipping Redis cache");
+        }
+
+        // 5. TTL과 관계없이 DB에 있으면 블랙리스트
+        // (실제로는 Filter의 만료 체크에서 이미 차단되므로 여기까지 오지 않음)
+        return BlackListedPredicate.BLACKLISTED;
+    }
+
+    /**
+     * 만료된 Access Token 요청의 Refresh Token 만료 여부 (쿠키 → Redis 세션 → DB)
+     */
+    public JwtExpiredPredicate checkRefreshTokenExpiration(HttpServletRequest request) {
+        try {
+            // 1. 쿠키에서 Refresh Token 추출
+            String refreshTokenValue = extractRefreshTokenFromCookie(request);
+            if (refreshTokenValue == null) {
+                log.debug("No refresh token found in cookie");
+                return JwtExpiredPredicate.EXPIRED;
+            }
+
+            // 2. Redis 세션 우선 확인 (없으면 DB, Redis 장애 시 제한된 DB 조회)
+            Optional<JwtDto.RefreshSession> refreshSession = redisCircuitBreaker.execute(
+                    () -> refreshSessionRedisService.find(refreshTokenValue),
+                    () -> null
+            );
+            if (refreshSession != null && refreshSession.isPresent()) {
+                return refreshSession.get().isValidAt(LocalDateTime.now())
+                        ? JwtExpiredPredicate.NOT_EXPIRED
+                        : JwtExpiredPredicate.EXPIRED;
+            }
+
+            // DB에서 Refresh Token 조회
+            Optional<Optional<RefreshToken>> lookedUp = refreshSession != null
+                    ? Optional.of(refreshTokenRepository.findActiveByTokenValue(refreshTokenValue))
+                    : tokenDatabaseFallbackLimiter.tryCall(() -> refreshTokenRepository.findActiveByTokenValue(refreshTokenValue));
+
+            if (lookedUp.isEmpty()) { // DB fallback 상한 초과 : /refresh 에서 Refresh Token 을 다시 검증하므로 갱신을 시도하도록 둔다
+                log.debug("Refresh token check deferred, Redis unavailable and DB fallback limited");
+                return JwtExpiredPredicate.NOT_EXPIRED;
+            }
+
+            Optional<RefreshToken> refreshTokenOpt = lookedUp.get();
+            if (refreshTokenOpt.isEmpty()) { // 악의적인 접근(무효화된 토큰으로 접근)시 EXPIRED 처리 후 상위 호출에서 처리
+                log.debug("Refresh token not found in DB or already revoked");
+                return JwtExpiredPredicate.EXPIRED;
+            }
+
+            RefreshToken refreshToken = refreshTokenOpt.get();
+
+            // 3. 만료 여부 확인
+            LocalDateTime now = LocalDateTime.now();
+            boolean isExpired = refreshToken.isExpiredAt(now) || !refreshToken.isValidAt(now);
+
+            if (isExpired) {
+                log.debug("Refresh token expired at: {}", refreshToken.getExpiresAt());
+                return JwtExpiredPredicate.EXPIRED;
+            }
+
+            return JwtExpiredPredicate.NOT_EXPIRED;
+
+        } catch (Exception e) {
+            log.error("Error checking refresh token expiration: {}", e.getMessage());
+            return JwtExpiredPredicate.EXPIRED; // 에러 발생 시 만료로 간주
+        }
+    }
+
+    /**
+     * 갱신 필요 여부 체크 및 헤더 추가 (이미 검증된 토큰)
+     * Primary Key 가 아닌 키로 서명된 토큰이면 X-Token-Refresh-Needed 헤더 추가
+     */
+    public void checkAndRefreshHeader(JwtDto.VerifiedToken verifiedToken, HttpServletResponse response) {
+        String primaryKeyId = jwtKeyRotationService.getPrimaryKeyId();
+
+        // 이전 kid 토큰이라도 jti 별 offset 이 지난 뒤에만 신호 (TokenRefreshSignal)
+        if (tokenRefreshSignal.shouldSignal(verifiedToken, primaryKeyId, System.currentTimeMillis())) {
+            String headerKey = MemberHeaderCode.X_TOKEN_REFRESH_NEEDED.getHeaderKey();
+            response.addHeader(headerKey, "true");
+            log.debug("Token refresh needed - Current: {}, Primary: {}", verifiedToken.getKeyId(), primaryKeyId);
+        }
+    }
+
+    public String extractRefreshTokenFromCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if ("refresh_token".equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청 1건의 검증 구간에서 획득한 JDBC 커넥션 수 기록
+     */
+    public void recordConnectionAcquisitions(long acquired) {
+        verifications.increment();
+        verificationCounter.increment();
+        if (acquired > 0) {
+            connections.add(acquired);
+            connectionCounter.increment(acquired);
+        }
+    }
+
+    /**
+     * Redis Key 생성 (Blacklist) : member:authentication:blacklist:
+     */
+    public String blacklistedJtiRedisKey(String jti) {
+        return RedisKeyPrefix.MEMBER_AUTHENTICATION_BLACKLIST + jti;
+    }
+
+    private double connectionsPerRequest() {
+        long requests = verifications.sum();
+        return requests == 0 ? 0d : (double) connections.sum() / requests;
+    }
+
+    private long calculateLocalDateTimeTTL(LocalDateTime expiredAt) {
+        long expiredAtMs = expiredAt.atZone(ZoneOffset.UTC)
+                .toInstant()
+                .toEpochMilli();
+
+        return Math.max(expiredAtMs - System.currentTimeMillis(), 0); // 음수 방지
+    }
+}
@@ -0,0 +1,150 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import click.dailyfeed.member.domain.jwt.util.Sha256;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 검증이 끝난 Access Token 의 결과 캐시 (토큰 digest → VerifiedToken)
+ *
+ * 같은 토큰으로 반복되는 요청에서 서명 검증, claims(JSON) 파싱을 생략하기 위한 용도.
+ * 원문 토큰 대신 SHA-256 digest 를 키로 사용하므로 토큰 문자열이 한 글자라도 다르면 miss → 전체 검증을 수행한다.
+ *
+ * - 만료 : 각 항목은 토큰 자체의 exp 까지만 유효 (이후에는 miss → 기존 만료 처리 경로)
+ * - 상한 : jwt.verified-token.cache.max-entries 를 넘으면 만료 항목을 정리하고, 그래도 가득 차 있으면 저장하지 않음
+ * - 무효화 : 로그아웃 시 jti 단위로 제거 (jti → digest 보조 인덱스로 O(1)), 서명 키가 Key Ring 에서 빠진(비활성화/만료) 경우 조회 시점에 제거
+ *
+ * 블랙리스트 확인은 캐시 hit 여부와 관계없이 JwtAuthenticationFilter 에서 계속 수행한다. (다른 Pod 의 로그아웃 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+    private final JwtKeyRing jwtKeyRing;
+
+    @Value("${jwt.verified-token.cache.max-entries:100000}")
+    private int maxEntries;
+
+    private final Map<ByteBuffer, JwtDto.VerifiedToken> entries = new ConcurrentHashMap<>();
+    // jti → 토큰 digest (entries 에서 제거될 때 함께 제거)
+    private final Map<String, ByteBuffer> digestsByJti = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 검증 결과 조회
+     * @return 없거나, 토큰이 만료되었거나, 서명 키가 더 이상 활성 상태가 아니면 Optional.empty()
+     */
+    public Optional<JwtDto.VerifiedToken> find(String token) {
+        ByteBuffer digest = digest(token);
+        JwtDto.VerifiedToken verifiedToken = entries.get(digest);
+        if (verifiedToken == null) {
+            return Optional.empty();
+        }
+
+        if (isExpiredAt(verifiedToken, System.currentTimeMillis()) || jwtKeyRing.find(verifiedToken.getKeyId()).isEmpty()) {
+            remove(digest, verifiedToken);
+            return Optional.empty();
+        }
+        return Optional.of(verifiedToken);
+    }
+
+    /**
+     * 검증 결과 저장
+     */
+    public void put(String token, JwtDto.VerifiedToken verifiedToken) {
+        long now = System.currentTimeMillis();
+        if (isExpiredAt(verifiedToken, now)) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+            if (entries.size() >= maxEntries) {
+                log.debug("Verified token cache is full, skipping - size: {}", entries.size());
+                return;
+            }
+        }
+        ByteBuffer digest = digest(token);
+        entries.put(digest, verifiedToken);
+        if (verifiedToken.getJti() != null) {
+            digestsByJti.put(verifiedToken.getJti(), digest);
+        }
+    }
+
+    /**
+     * jti 에 해당하는 항목 제거 (로그아웃)
+     */
+    public void invalidateByJti(String jti) {
+        ByteBuffer digest = digestsByJti.remove(jti);
+        if (digest != null) {
+            entries.remove(digest);
+        }
+    }
+
+    /**
+     * keyId 로 서명된 항목 제거 (키 비활성화)
+     */
+    public void invalidateByKeyId(String keyId) {
+        removeIf(verifiedToken -> keyId.equals(verifiedToken.getKeyId()));
+    }
+
+    /**
+     * 만료된 항목 주기적 정리
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.verified-token.cache.sweep.millis:60000}",
+            fixedDelayString = "${jwt.verified-token.cache.sweep.millis:60000}"
+    )
+    public void evictExpired() {
+        evictExpired(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * keyId 가 아닌 키로 서명된 유효 항목 수 (키 교체 후 이전 kid 토큰 모니터링)
+     */
+    public long countNotSignedBy(String keyId) {
+        long now = System.currentTimeMillis();
+        return entries.values().stream()
+                .filter(verifiedToken -> !keyId.equals(verifiedToken.getKeyId()) && !isExpiredAt(verifiedToken, now))
+                .count();
+    }
+
+    private void evictExpired(long now) {
+        removeIf(verifiedToken -> isExpiredAt(verifiedToken, now));
+    }
+
+    private void removeIf(Predicate<JwtDto.VerifiedToken> predicate) {
+        entries.forEach((digest, verifiedToken) -> {
+            if (predicate.test(verifiedToken)) {
+                remove(digest, verifiedToken);
+            }
+        });
+    }
+
+    private void remove(ByteBuffer digest, JwtDto.VerifiedToken verifiedToken) {
+        if (entries.remove(digest, verifiedToken) && verifiedToken.getJti() != null) {
+            digestsByJti.remove(verifiedToken.getJti(), digest);
+        }
+    }
+
+    private boolean isExpiredAt(JwtDto.VerifiedToken verifiedToken, long now) {
+        return verifiedToken.getExpiration() == null || verifiedToken.getExpiration().getTime() <= now;
+    }
+
+    private ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(Sha256.digest(token));
+    }
+}
@@ -0,0 +1,69 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * JTI 블랙리스트용 Bloom Filter (동시 put/mightContain 허용)
+ *
+ * - mightContain == false 이면 "확실히 블랙리스트가 아님" (I/O 없이 응답 가능)
+ * - mightContain == true 이면 정확한 집합(또는 Redis/DB)으로 재확인 필요
+ * - 삭제가 불가능하므로 만료 항목 정리는 새 필터를 만들어 교체하는 방식으로 처리
+ */
+public class JtiBloomFilter {
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashFunctions;
+
+    private JtiBloomFilter(int bitSize, int hashFunctions) {
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+        this.bits = new AtomicLongArray((bitSize + 63) >>> 6);
+    }
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 허용 오탐율 (0 < fpp < 1)
+     */
+    public static JtiBloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int bitSize = (int) Math.min(Math.max(m, 64), Integer.MAX_VALUE - 63);
+        int k = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new JtiBloomFilter(bitSize, k);
+    }
+
+    public void put(String jti) {
+        long hash1 = hash(jti, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(jti, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = (int) Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            long mask = 1L << index;
+            bits.accumulateAndGet(index >>> 6, mask, (current, m) -> current | m);
+        }
+    }
+
+    public boolean mightContain(String jti) {
+        long hash1 = hash(jti, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(jti, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = (int) Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a (seed 별) + 최종 mix
+    private static long hash(String value, long seed) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= (h >>> 33);
+        return h;
+    }
+}
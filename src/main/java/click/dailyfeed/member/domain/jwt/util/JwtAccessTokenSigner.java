@@ -0,0 +1,182 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.crypto.EllipticCurveProvider;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+
+/**
+ * Access Token 전용 서명 (Jwts.builder() 를 거치지 않는 발급 경로)
+ *
+ * 기존 JwtKeyHelper.generateTokenWithJti 의 Jwts.builder() 결과와 header/payload 가 바이트 단위로 같은 토큰을 만든다.
+ * - header : {"kid":"...","alg":"..."} (jjwt 0.11 의 직렬화 순서) 를 키마다 한번만 인코딩해 재사용 (encodeHeaderOrNull)
+ * - payload : {"jti":"...","sub":"{id}","iat":초,"exp":초,"id":id} 에 프로필 claims(hdl, dn, av, pv, 값이 있는 것만) 를 이어 Jackson 없이 직접 작성
+ * - 서명 : 스레드별로 Mac/Signature 인스턴스를 재사용 (같은 키면 init 생략)
+ * - ES* 서명은 jjwt 와 같이 DER → R||S(concat) 형식으로 변환
+ *
+ * HS*, ES*, RS* 만 지원하며, 그 외 알고리즘(PS*) 이나 JSON escape 가 필요한 문자열은 호출자가 Jwts.builder() 로 처리한다.
+ */
+public class JwtAccessTokenSigner {
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<SignerCache> SIGNERS = ThreadLocal.withInitial(SignerCache::new);
+
+    /**
+     * 미리 인코딩한 header (base64url)
+     * @return 지원하지 않는 알고리즘이거나 kid 에 JSON escape 가 필요하면 null
+     */
+    public static String encodeHeaderOrNull(String keyId, SignatureAlgorithm algorithm) {
+        if (!supports(algorithm) || !isPlainJsonString(keyId)) {
+            return null;
+        }
+        String header = "{\"kid\":\"" + keyId + "\",\"alg\":\"" + algorithm.getValue() + "\"}";
+        return BASE64_URL.encodeToString(header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static boolean supports(SignatureAlgorithm algorithm) {
+        return algorithm.isHmac()
+                || algorithm.isEllipticCurve()
+                || algorithm == SignatureAlgorithm.RS256
+                || algorithm == SignatureAlgorithm.RS384
+                || algorithm == SignatureAlgorithm.RS512;
+    }
+
+    /**
+     * Jackson 이 escape 없이 그대로 쓰는 문자열인지 (제어 문자, '"', '\' 가 없음)
+     */
+    public static boolean isPlainJsonString(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 프로필 claims 의 문자열이 모두 escape 없이 쓸 수 있는지 (profile 이 null 이면 true, null 인 값은 claim 을 생략하므로 제외)
+     */
+    public static boolean isPlainProfile(JwtDto.ProfileClaims profile) {
+        return profile == null
+                || (isPlainOrNull(profile.getHandle())
+                && isPlainOrNull(profile.getDisplayName())
+                && isPlainOrNull(profile.getAvatarUrl()));
+    }
+
+    /**
+     * Access Token 서명
+     * @param encodedHeader encodeHeaderOrNull 로 만든 header (null 이 아니어야 함)
+     * @param jti isPlainJsonString 을 만족해야 함
+     */
+    public static String sign(String encodedHeader, Key signingKey, SignatureAlgorithm algorithm,
+                               String jti, long memberId, long issuedAtMillis, long expiresAtMillis) {
+        return sign(encodedHeader, signingKey, algorithm, jti, memberId, issuedAtMillis, expiresAtMillis, null);
+    }
+
+    /**
+     * 프로필 claims 를 포함한 Access Token 서명
+     * @param profile isPlainProfile 을 만족해야 함 (null 이면 프로필 claims 없음)
+     */
+    public static String sign(String encodedHeader, Key signingKey, SignatureAlgorithm algorithm,
+                               String jti, long memberId, long issuedAtMillis, long expiresAtMillis,
+                               JwtDto.ProfileClaims profile) {
+        StringBuilder payload = new StringBuilder(profile == null ? 128 : 384)
+                .append("{\"jti\":\"").append(jti)
+                .append("\",\"sub\":\"").append(memberId)
+                .append("\",\"iat\":").append(issuedAtMillis / 1000)
+                .append(",\"exp\":").append(expiresAtMillis / 1000)
+                .append(",\"id\":").append(memberId);
+        if (profile != null) {
+            appendString(payload, JwtDto.ProfileClaims.HANDLE, profile.getHandle());
+            appendString(payload, JwtDto.ProfileClaims.DISPLAY_NAME, profile.getDisplayName());
+            appendString(payload, JwtDto.ProfileClaims.AVATAR_URL, profile.getAvatarUrl());
+            if (profile.getVersion() != null) {
+                payload.append(",\"").append(JwtDto.ProfileClaims.VERSION).append("\":").append(profile.getVersion());
+            }
+        }
+        payload.append('}');
+
+        String unsignedToken = encodedHeader + '.' + BASE64_URL.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] signature = signatureOf(unsignedToken.getBytes(StandardCharsets.US_ASCII), signingKey, algorithm);
+        return unsignedToken + '.' + BASE64_URL.encodeToString(signature);
+    }
+
+    // jjwt 는 값이 null 인 claim 을 쓰지 않으므로 같이 생략
+    private static void appendString(StringBuilder payload, String name, String value) {
+        if (value != null) {
+            payload.append(",\"").append(name).append("\":\"").append(value).append('"');
+        }
+    }
+
+    private static boolean isPlainOrNull(String value) {
+        return value == null || isPlainJsonString(value);
+    }
+
+    private static byte[] signatureOf(byte[] input, Key signingKey, SignatureAlgorithm algorithm) {
+        try {
+            SignerCache cache = SIGNERS.get();
+            if (algorithm.isHmac()) {
+                return cache.macFor(signingKey, algorithm).doFinal(input);
+            }
+
+            Signature signature = cache.signatureFor(signingKey, algorithm);
+            signature.update(input);
+            byte[] derSignature = signature.sign();
+            if (algorithm.isEllipticCurve()) {
+                return EllipticCurveProvider.transcodeSignatureToConcat(
+                        derSignature, EllipticCurveProvider.getSignatureByteArrayLength(algorithm));
+            }
+            return derSignature;
+        } catch (GeneralSecurityException | ClassCastException e) {
+            throw new SignatureException("Unable to sign JWT with " + algorithm.getValue() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스레드별 마지막 서명 키의 Mac/Signature (키 교체 시에만 새로 생성)
+     */
+    private static final class SignerCache {
+        private Key key;
+        private SignatureAlgorithm algorithm;
+        private Mac mac;
+        private Signature signature;
+
+        Mac macFor(Key signingKey, SignatureAlgorithm signatureAlgorithm) throws GeneralSecurityException {
+            if (mac == null || key != signingKey || algorithm != signatureAlgorithm) {
+                Mac newMac = Mac.getInstance(signatureAlgorithm.getJcaName());
+                newMac.init(signingKey);
+                reset(signingKey, signatureAlgorithm);
+                mac = newMac;
+            }
+            return mac;
+        }
+
+        Signature signatureFor(Key signingKey, SignatureAlgorithm signatureAlgorithm) throws GeneralSecurityException {
+            if (signature == null || key != signingKey || algorithm != signatureAlgorithm) {
+                Signature newSignature = Signature.getInstance(signatureAlgorithm.getJcaName());
+                newSignature.initSign((PrivateKey) signingKey);
+                reset(signingKey, signatureAlgorithm);
+                signature = newSignature;
+            }
+            return signature;
+        }
+
+        private void reset(Key signingKey, SignatureAlgorithm signatureAlgorithm) {
+            key = signingKey;
+            algorithm = signatureAlgorithm;
+            mac = null;
+            signature = null;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
+import click.dailyfeed.member.domain.jwt.exception.TokenRejectedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JWT header 의 kid 를 정규식/split/헤더 문자열 생성 없이 추출
+ *
+ * 기존 구현(trim → replaceAll("\\s") → split("\\.") → Base64 디코딩 → String.indexOf) 과 동일한 판정을 유지한다.
+ * - 토큰 양끝의 제어/공백 문자(<= ' ') 와 내부의 공백 문자(\s) 는 무시
+ * - 끝의 '.' 들을 제외한 '.' 의 개수가 정확히 2개여야 함 (split 의 trailing empty string 제거 규칙), 아니면 InvalidTokenException
+ * - header 는 Base64 URL-safe 로 디코딩하며, 형식 오류는 IllegalArgumentException
+ * - header JSON 내의 "kid":"..." 값을 반환, 없거나 비어있으면 null
+ *
+ * 인증 filter 는 extractKeyIdOrReject 로 같은 판정을 하되, 실패 시 미리 만든 TokenRejectedException 을 사용한다.
+ */
+public class JwtKeyIdExtractor {
+    private static final byte[] KID_PREFIX = "\"kid\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DECODE_TABLE = new byte[128];
+    // scan 결과 : 토큰 구조(header.payload.signature) 오류 (identity 로 비교)
+    private static final String MALFORMED = new String("malformed");
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < 26; i++) {
+            DECODE_TABLE['A' + i] = (byte) i;
+            DECODE_TABLE['a' + i] = (byte) (26 + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            DECODE_TABLE['0' + i] = (byte) (52 + i);
+        }
+        DECODE_TABLE['-'] = 62;
+        DECODE_TABLE['_'] = 63;
+    }
+
+    /**
+     * @return kid, header 에 kid 가 없으면 null
+     * @throws InvalidTokenException 토큰 구조(header.payload.signature)가 올바르지 않은 경우
+     * @throws IllegalArgumentException header 의 Base64 형식이 올바르지 않은 경우
+     */
+    public static String extractKeyIdOrNull(String token) {
+        String keyId = scan(token);
+        if (keyId == MALFORMED) {
+            throw new InvalidTokenException("Invalid JWT Token");
+        }
+        return keyId;
+    }
+
+    /**
+     * extractKeyIdOrNull 과 같은 판정 (인증 filter 용)
+     * @throws TokenRejectedException 토큰이 없거나 구조/Base64 형식이 올바르지 않거나 kid 가 없는 경우 (미리 만든 stackless 인스턴스)
+     */
+    public static String extractKeyIdOrReject(String token) {
+        if (token == null) {
+            throw TokenRejectedException.of(TokenRejectedException.Reason.MALFORMED_TOKEN);
+        }
+
+        String keyId;
+        try {
+            keyId = scan(token);
+        } catch (IllegalArgumentException e) {
+            // 공백/패딩이 섞인 header 에서만 발생 (일반적인 형태는 decodeUnpadded 에서 예외 없이 판정)
+            throw TokenRejectedException.of(TokenRejectedException.Reason.MALFORMED_TOKEN);
+        }
+        if (keyId == MALFORMED || keyId == null) {
+            throw TokenRejectedException.of(TokenRejectedException.Reason.MALFORMED_TOKEN);
+        }
+        return keyId;
+    }
+
+    /**
+     * @return kid, kid 가 없으면 null, 토큰 구조 오류면 MALFORMED
+     * @throws IllegalArgumentException header 의 Base64 형식이 올바르지 않은 경우
+     */
+    private static String scan(String token) {
+        // 1. trim 범위 계산 (String.trim 과 동일한 기준)
+        int start = 0;
+        int end = token.length();
+        while (start < end && token.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && token.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        // 2. 끝의 '.'(및 공백) 제거 → split 의 trailing empty string 제거와 동일
+        while (end > start && (token.charAt(end - 1) == '.' || isWhitespace(token.charAt(end - 1)))) {
+            end--;
+        }
+
+        // 3. '.' 개수 확인 및 header 구간 계산 (String.indexOf 는 intrinsic 이므로 charAt 루프보다 빠름)
+        int headerEnd = token.indexOf('.', start);
+        int payloadEnd = headerEnd < 0 || headerEnd >= end ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || payloadEnd >= end) {
+            return MALFORMED;
+        }
+        int extraDot = token.indexOf('.', payloadEnd + 1);
+        if (extraDot >= 0 && extraDot < end) {
+            return MALFORMED;
+        }
+
+        // 4. header 디코딩 후 kid 탐색
+        byte[] header = decodeBase64Url(token, start, headerEnd);
+        return findKeyId(header);
+    }
+
+    /**
+     * Base64 URL-safe 디코딩 (공백 문자 무시, 패딩 선택)
+     * java.util.Base64.getUrlDecoder() 와 동일한 입력을 허용/거부한다.
+     */
+    static byte[] decodeBase64Url(String src, int from, int to) {
+        byte[] out = decodeUnpadded(src, from, to);
+        return out != null ? out : decodeWithWhitespaceOrPadding(src, from, to);
+    }
+
+    /**
+     * JWT header 의 일반적인 형태(공백, 패딩 없음)를 검증과 동시에 한번에 디코딩
+     * 그 외의 문자가 하나라도 있으면 null 을 반환하여 decodeWithWhitespaceOrPadding 으로 처리
+     */
+    private static byte[] decodeUnpadded(String src, int from, int to) {
+        int length = to - from;
+        int remainder = length % 4;
+        if (remainder == 1) {
+            return null;
+        }
+
+        byte[] out = new byte[(length / 4) * 3 + (remainder == 0 ? 0 : remainder - 1)];
+        int sp = from;
+        int dp = 0;
+        int fullEnd = to - remainder;
+        while (sp < fullEnd) {
+            char c0 = src.charAt(sp);
+            char c1 = src.charAt(sp + 1);
+            char c2 = src.charAt(sp + 2);
+            char c3 = src.charAt(sp + 3);
+            if ((c0 | c1 | c2 | c3) >= 128) {
+                return null;
+            }
+            int bits = DECODE_TABLE[c0] << 18 | DECODE_TABLE[c1] << 12 | DECODE_TABLE[c2] << 6 | DECODE_TABLE[c3];
+            if (bits < 0) {
+                return null;
+            }
+            out[dp] = (byte) (bits >> 16);
+            out[dp + 1] = (byte) (bits >> 8);
+            out[dp + 2] = (byte) bits;
+            sp += 4;
+            dp += 3;
+        }
+
+        if (remainder >= 2) {
+            char c0 = src.charAt(sp);
+            char c1 = src.charAt(sp + 1);
+            char c2 = remainder == 3 ? src.charAt(sp + 2) : 'A';
+            if ((c0 | c1 | c2) >= 128) {
+                return null;
+            }
+            int bits = DECODE_TABLE[c0] << 18 | DECODE_TABLE[c1] << 12 | DECODE_TABLE[c2] << 6;
+            if (bits < 0) {
+                return null;
+            }
+            out[dp] = (byte) (bits >> 16);
+            if (remainder == 3) {
+                out[dp + 1] = (byte) (bits >> 8);
+            }
+        }
+        return out;
+    }
+
+    private static byte[] decodeWithWhitespaceOrPadding(String src, int from, int to) {
+        // 1. 유효 문자 수 / 패딩 확인
+        int length = 0;
+        int padding = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+            if (c == '=') {
+                padding++;
+                continue;
+            }
+            if (padding > 0 || c >= 128 || DECODE_TABLE[c] < 0) {
+                throw new IllegalArgumentException("Illegal base64 character");
+            }
+            length++;
+        }
+
+        int remainder = length % 4;
+        if (remainder == 1 || (padding > 0 && (remainder == 0 || remainder + padding != 4))) {
+            throw new IllegalArgumentException("Invalid base64 length");
+        }
+
+        // 2. 공백/패딩을 건너뛰며 문자 단위로 디코딩
+        byte[] out = new byte[(length / 4) * 3 + (remainder == 0 ? 0 : remainder - 1)];
+        int bits = 0;
+        int bitCount = 0;
+        int pos = 0;
+        for (int i = from; i < to && pos < out.length; i++) {
+            char c = src.charAt(i);
+            if (isWhitespace(c) || c == '=') {
+                continue;
+            }
+            bits = (bits << 6) | DECODE_TABLE[c];
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[pos++] = (byte) (bits >> bitCount);
+            }
+        }
+        return out;
+    }
+
+    static String findKeyId(byte[] header) {
+        int last = header.length - KID_PREFIX.length;
+        for (int i = 0; i <= last; i++) {
+            if (!matchesAt(header, i)) {
+                continue;
+            }
+            int valueStart = i + KID_PREFIX.length;
+            for (int j = valueStart; j < header.length; j++) {
+                if (header[j] == '"') {
+                    return j > valueStart
+                            ? new String(header, valueStart, j - valueStart, StandardCharsets.UTF_8)
+                            : null;
+                }
+            }
+            return null;
+        }
+        return null;
+    }
+
+    private static boolean matchesAt(byte[] header, int offset) {
+        for (int k = 0; k < KID_PREFIX.length; k++) {
+            if (header[offset + k] != KID_PREFIX[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Pattern "\\s" 와 동일한 공백 문자 집합
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
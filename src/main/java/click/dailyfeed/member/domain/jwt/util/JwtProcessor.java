@@ -14,15 +14,20 @@ public class JwtProcessor {
 
 
     public static String generateToken(Key key, String keyId, JwtDto.UserDetails userDetails){
+        return generateToken(key, SignatureAlgorithm.HS256, keyId, userDetails);
+    }
+
+    public static String generateToken(Key key, SignatureAlgorithm algorithm, String keyId, JwtDto.UserDetails userDetails){
         return Jwts.builder()
                 .setHeaderParam("kid", keyId)
                 .setExpiration(userDetails.getExpiration())
                 .claim("id", userDetails.getId())
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(key, algorithm)
                 .compact();
     }
 
     /// JWT 의 header 내의 key id(=kid) 추출
+    /// 요청마다 호출되므로 정규식/split/header 문자열 생성 없이 한번의 스캔으로 처리 (JwtKeyIdExtractor)
     public static String extractKeyIdOrThrow(String token) {
         try {
             // 토큰 정리
@@ -30,33 +35,10 @@ public class JwtProcessor {
                 throw new InvalidTokenException("Token is null");
             }
 
-            token = token.trim();
-
-//            // Bearer 접두사 제거
-//            if (token.startsWith("Bearer ")) {
-//                token = token.substring(7).trim();
-//            }
-
-            // 모든 공백 문자 제거
-            token = token.replaceAll("\\s", "");
-
-            // 토큰 구조 확인
-            String[] chunks = token.split("\\.");
-            if (chunks.length != 3) {
-                throw new InvalidTokenException("Invalid JWT Token");
-            }
-
-            // Base64 URL-safe 디코딩
-            byte[] headerBytes = java.util.Base64.getUrlDecoder().decode(chunks[0]);
-            String headerJson = new String(headerBytes, java.nio.charset.StandardCharsets.UTF_8);
-
-            // JSON에서 kid 추출
-            if (headerJson.contains("\"kid\"")) {
-                int kidStart = headerJson.indexOf("\"kid\":\"") + 7;
-                int kidEnd = headerJson.indexOf("\"", kidStart);
-                if (kidStart > 6 && kidEnd > kidStart) {
-                    return headerJson.substring(kidStart, kidEnd);
-                }
+            // 공백 무시 + 토큰 구조 확인 + header 디코딩 + kid 추출
+            String keyId = JwtKeyIdExtractor.extractKeyIdOrNull(token);
+            if (keyId != null) {
+                return keyId;
             }
 
             throw new TokenMissingClaimsException();
@@ -74,6 +56,10 @@ public class JwtProcessor {
                 .setSigningKey(key)
                 .build();
 
+        return degenerateToken(jwtParser, token);
+    }
+
+    public static JwtDto.UserDetails degenerateToken(JwtParser jwtParser, String token){
         // jws
         Jws<Claims> jws = getJwsOrThrow(jwtParser, token);
 
@@ -148,4 +134,13 @@ public class JwtProcessor {
 
         return authHeader.replace("Bearer ", "");
     }
+
+    /// 인증 filter 용 : Bearer 토큰이 없으면 예외 대신 null
+    public static String getJwtFromHeaderOrNull(String authHeader) {
+        if (authHeader == null || authHeader.isBlank() || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+
+        return authHeader.replace("Bearer ", "");
+    }
 }
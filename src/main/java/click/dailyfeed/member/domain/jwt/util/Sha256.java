@@ -0,0 +1,30 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰/기기 정보의 SHA-256 digest (스레드마다 MessageDigest 하나를 재사용)
+ *
+ * Refresh Token 의 저장/조회 키(RefreshToken.digestOf), 세션 slot, 검증 캐시 key 가 모두 이 digest 를 사용한다.
+ */
+public final class Sha256 {
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    });
+
+    private Sha256() {
+    }
+
+    /**
+     * UTF-8 로 인코딩한 value 의 SHA-256 (32바이트)
+     */
+    public static byte[] digest(String value) {
+        return SHA_256.get().digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Optional;
+
+/**
+ * 요청 단위(request attribute) 검증 토큰 보관소
+ * JwtAuthenticationFilter 가 한번 검증한 결과를 저장하고, 이후 단계에서는 재검증 없이 꺼내 쓴다.
+ */
+public class VerifiedTokenContext {
+    public static final String ATTRIBUTE_NAME = VerifiedTokenContext.class.getName() + ".VERIFIED_TOKEN";
+
+    public static void save(HttpServletRequest request, JwtDto.VerifiedToken verifiedToken) {
+        request.setAttribute(ATTRIBUTE_NAME, verifiedToken);
+    }
+
+    public static Optional<JwtDto.VerifiedToken> find(HttpServletRequest request) {
+        if (request == null) {
+            return Optional.empty();
+        }
+        Object attribute = request.getAttribute(ATTRIBUTE_NAME);
+        if (attribute instanceof JwtDto.VerifiedToken verifiedToken) {
+            return Optional.of(verifiedToken);
+        }
+        return Optional.empty();
+    }
+}
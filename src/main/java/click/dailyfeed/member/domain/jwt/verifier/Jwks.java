@@ -0,0 +1,93 @@
+package click.dailyfeed.member.domain.jwt.verifier;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWK(RFC 7517) ↔ PublicKey 변환
+ *
+ * ES256(P-256) 공개키만 지원한다. HMAC 키는 공개 대상이 아니므로 JWKS 에 포함하지 않는다.
+ */
+public class Jwks {
+    public static final String ES256 = "ES256";
+    private static final String KTY_EC = "EC";
+    private static final String CRV_P256 = "P-256";
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    private Jwks() {
+    }
+
+    /**
+     * ES256 공개키를 JWK 로 변환
+     */
+    public static Map<String, Object> toJwk(String keyId, PublicKey publicKey) {
+        if (!(publicKey instanceof ECPublicKey ecPublicKey)) {
+            throw new IllegalArgumentException("Unsupported public key type: " + publicKey.getAlgorithm());
+        }
+
+        ECPoint point = ecPublicKey.getW();
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", KTY_EC);
+        jwk.put("crv", CRV_P256);
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", ES256);
+        jwk.put("x", encodeCoordinate(point.getAffineX()));
+        jwk.put("y", encodeCoordinate(point.getAffineY()));
+        return jwk;
+    }
+
+    /**
+     * JWK 를 ES256 공개키로 변환
+     * @throws IllegalArgumentException 지원하지 않는 kty/crv 이거나 좌표가 올바르지 않은 경우
+     */
+    public static PublicKey toPublicKey(Map<String, ?> jwk) {
+        if (!KTY_EC.equals(jwk.get("kty")) || !CRV_P256.equals(jwk.get("crv"))) {
+            throw new IllegalArgumentException("Unsupported JWK: kty=" + jwk.get("kty") + ", crv=" + jwk.get("crv"));
+        }
+
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance(KTY_EC);
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            ECParameterSpec parameterSpec = parameters.getParameterSpec(ECParameterSpec.class);
+
+            ECPoint point = new ECPoint(
+                    decodeCoordinate((String) jwk.get("x")),
+                    decodeCoordinate((String) jwk.get("y"))
+            );
+            return KeyFactory.getInstance(KTY_EC).generatePublic(new ECPublicKeySpec(point, parameterSpec));
+        } catch (GeneralSecurityException | ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid JWK: kid=" + jwk.get("kid"), e);
+        }
+    }
+
+    /**
+     * 좌표를 고정 길이(32 bytes) unsigned big-endian 으로 인코딩 (RFC 7518 6.2.1.2)
+     */
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_BYTES];
+        if (bytes.length > P256_COORDINATE_BYTES) {
+            // 부호 비트를 위한 선행 0 제거
+            bytes = Arrays.copyOfRange(bytes, bytes.length - P256_COORDINATE_BYTES, bytes.length);
+        }
+        System.arraycopy(bytes, 0, fixed, P256_COORDINATE_BYTES - bytes.length, bytes.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static BigInteger decodeCoordinate(String encoded) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(encoded));
+    }
+}
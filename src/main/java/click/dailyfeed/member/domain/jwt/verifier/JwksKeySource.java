@@ -0,0 +1,44 @@
+package click.dailyfeed.member.domain.jwt.verifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * JWKS 문서(JSON) 조회
+ *
+ * 기본 구현은 member 서비스의 /.well-known/jwks.json 을 HTTP 로 조회한다.
+ * 테스트나 다른 전달 방식(설정 서버, 파일 등)이 필요하면 람다로 대체할 수 있다.
+ */
+@FunctionalInterface
+public interface JwksKeySource {
+
+    String fetchJwks() throws IOException;
+
+    static JwksKeySource http(String jwksUri, Duration timeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(jwksUri))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        return () -> {
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IOException("JWKS request failed: " + response.statusCode());
+                }
+                return response.body();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("JWKS request interrupted", e);
+            }
+        };
+    }
+}
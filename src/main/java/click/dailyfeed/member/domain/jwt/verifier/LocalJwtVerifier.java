@@ -0,0 +1,187 @@
+package click.dailyfeed.member.domain.jwt.verifier;
+
+import click.dailyfeed.code.domain.member.key.exception.JwtKeyExpiredException;
+import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import click.dailyfeed.member.domain.jwt.util.JwtKeyIdExtractor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * member 서비스를 호출하지 않고 Access Token 을 프로세스 안에서 검증하는 verifier (다른 dailyfeed 서비스용)
+ *
+ * JwtKeyRing 과 같은 방식으로 kid → JwtParser 를 메모리에 보관한다.
+ * - 키 적재 : JwksKeySource 로 JWKS 를 조회해 ES256 공개키만 적재, refreshInterval 마다 재조회
+ *   (한 스레드만 조회하고 나머지 요청은 조회를 기다리지 않고 기존 키로 검증)
+ * - 알 수 없는 kid : 교체 직후의 새 키일 수 있으므로 minRefreshInterval 이 지났을 때만 한번 재조회 (위조 kid 로 JWKS 를 두드리는 것 방지)
+ * - JWKS 조회 실패 : 기존에 적재된 키로 계속 검증, minRefreshInterval 뒤에 다시 조회
+ * - 무효화 : RevocationFeed hook (기본값 NONE, 로그아웃 이벤트 구독은 RevocationFeed.InMemory 참고)
+ *
+ * spring 의존성이 없으므로 다른 서비스에서 bean 으로 등록해 재사용한다. 서명 알고리즘이 HS256 인 키는 공개되지 않으므로
+ * member 서비스가 jwt.key.algorithm=ES256 으로 발급한 토큰만 검증할 수 있다.
+ *
+ * 만료된 토큰은 io.jsonwebtoken.ExpiredJwtException 을 그대로 던진다. (갱신 필요 여부를 호출자가 판단)
+ */
+@Slf4j
+public class LocalJwtVerifier {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, List<Map<String, Object>>>> JWKS_TYPE = new TypeReference<>() {};
+
+    private final JwksKeySource jwksKeySource;
+    private final RevocationFeed revocationFeed;
+    private final long refreshIntervalMillis;
+    private final long minRefreshIntervalMillis;
+
+    private volatile Map<String, JwtParser> parsers = Map.of();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile long nextRefreshAtMillis;
+    private volatile long lastAttemptMillis;
+
+    public LocalJwtVerifier(JwksKeySource jwksKeySource, RevocationFeed revocationFeed,
+                            Duration refreshInterval, Duration minRefreshInterval) {
+        this.jwksKeySource = jwksKeySource;
+        this.revocationFeed = revocationFeed;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+    }
+
+    public LocalJwtVerifier(JwksKeySource jwksKeySource) {
+        this(jwksKeySource, RevocationFeed.NONE, Duration.ofMinutes(5), Duration.ofSeconds(5));
+    }
+
+    /**
+     * 서명, 만료, 무효화 여부를 검증
+     * @throws InvalidTokenException 토큰 형식 오류, 서명 불일치, 무효화된 토큰
+     * @throws JwtKeyExpiredException kid 에 해당하는 공개키가 없음
+     */
+    public VerifiedClaims verify(String token) {
+        String keyId;
+        try {
+            keyId = JwtKeyIdExtractor.extractKeyIdOrNull(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid JWT Token format");
+        }
+        if (keyId == null) {
+            throw new InvalidTokenException("Token has no kid");
+        }
+
+        JwtParser parser = findParser(keyId);
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException(e.getMessage());
+        }
+
+        Object id = claims.get("id");
+        if (!(id instanceof Number)) {
+            throw new InvalidTokenException("Token has no member id");
+        }
+
+        VerifiedClaims verifiedClaims = new VerifiedClaims(
+                keyId,
+                claims.getId(),
+                ((Number) id).longValue(),
+                claims.getIssuedAt(),
+                claims.getExpiration(),
+                claims.get(JwtDto.ProfileClaims.HANDLE, String.class),
+                claims.get(JwtDto.ProfileClaims.DISPLAY_NAME, String.class),
+                claims.get(JwtDto.ProfileClaims.AVATAR_URL, String.class),
+                claims.get(JwtDto.ProfileClaims.VERSION, Integer.class)
+        );
+
+        if (revocationFeed.isRevoked(verifiedClaims)) {
+            throw new InvalidTokenException("Token has been revoked");
+        }
+        return verifiedClaims;
+    }
+
+    /**
+     * 현재 적재된 kid 수 (모니터링/테스트용)
+     */
+    public int keyCount() {
+        return parsers.size();
+    }
+
+    private JwtParser findParser(String keyId) {
+        long now = System.currentTimeMillis();
+        JwtParser parser = parsers.get(keyId);
+
+        // 주기적 재조회 : 한 스레드만 조회하고, 나머지 스레드는 기다리지 않고 현재 적재된 키로 검증
+        if (parser != null) {
+            if (now >= nextRefreshAtMillis && refreshLock.tryLock()) {
+                try {
+                    if (now >= nextRefreshAtMillis) {
+                        refresh(now);
+                    }
+                } finally {
+                    refreshLock.unlock();
+                }
+                parser = parsers.get(keyId);
+            }
+        } else if (now - lastAttemptMillis >= minRefreshIntervalMillis) {
+            // 알 수 없는 kid (최초 적재 포함) : 키가 있어야 검증할 수 있으므로 진행 중인 재조회를 기다린다
+            refreshLock.lock();
+            try {
+                if (now - lastAttemptMillis >= minRefreshIntervalMillis) {
+                    refresh(now);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+            parser = parsers.get(keyId);
+        }
+
+        if (parser == null) {
+            throw new JwtKeyExpiredException("Key not found or expired: " + keyId);
+        }
+        return parser;
+    }
+
+    /**
+     * refreshLock 을 잡은 상태에서만 호출
+     */
+    private void refresh(long now) {
+        lastAttemptMillis = now;
+
+        try {
+            Map<String, List<Map<String, Object>>> jwks = OBJECT_MAPPER.readValue(jwksKeySource.fetchJwks(), JWKS_TYPE);
+
+            Map<String, JwtParser> loaded = new HashMap<>();
+            for (Map<String, Object> jwk : jwks.getOrDefault("keys", List.of())) {
+                if (!Jwks.ES256.equals(jwk.get("alg"))) {
+                    continue;
+                }
+                try {
+                    loaded.put((String) jwk.get("kid"), Jwts.parserBuilder()
+                            .setSigningKey(Jwks.toPublicKey(jwk))
+                            .build());
+                } catch (IllegalArgumentException e) {
+                    log.warn("Skipping invalid JWK: {}", e.getMessage());
+                }
+            }
+
+            parsers = Map.copyOf(loaded);
+            nextRefreshAtMillis = now + refreshIntervalMillis;
+            log.debug("JWKS loaded - keys: {}", loaded.size());
+        } catch (Exception e) {
+            // 기존 키 유지, minRefreshInterval 뒤에 다시 시도
+            nextRefreshAtMillis = now + minRefreshIntervalMillis;
+            log.warn("Failed to load JWKS, keeping {} cached keys: {}", parsers.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package click.dailyfeed.member.domain.jwt.verifier;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 검증 시 무효화(로그아웃) 여부 판정 hook
+ *
+ * member 서비스는 무효화를 Redis pub/sub 으로 전파한다. 다른 서비스는 아래 채널을 구독해 이벤트 본문을
+ * InMemory 의 onBlacklistEvent / onRevocationEpochEvent 로 넘기면 된다.
+ * - member:authentication:blacklist:events       : "{jti},{만료시각 epoch ms}" (단일 토큰 로그아웃)
+ * - member:authentication:revoked_before:events  : "{memberId},{무효화 시각 epoch ms}" (전체 디바이스 로그아웃)
+ *
+ * 구독을 시작하기 전의 로그아웃은 반영되지 않으므로, 즉시 차단이 필요한 경로는 member 서비스로 확인해야 한다.
+ */
+@FunctionalInterface
+public interface RevocationFeed {
+    RevocationFeed NONE = token -> false;
+
+    boolean isRevoked(VerifiedClaims token);
+
+    /**
+     * pub/sub 이벤트로 채워지는 메모리 무효화 목록
+     */
+    class InMemory implements RevocationFeed {
+        // jti → 만료 시각(epoch ms)
+        private final Map<String, Long> revokedJtis = new ConcurrentHashMap<>();
+        // memberId → 이 시각 이전에 발급된 토큰은 무효 (epoch ms)
+        private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean isRevoked(VerifiedClaims token) {
+            if (token.getJti() != null && revokedJtis.containsKey(token.getJti())) {
+                return true;
+            }
+            Long epochMillis = revokedBefore.get(token.getMemberId());
+            return epochMillis != null && token.getIssuedAt() != null && token.getIssuedAt().getTime() < epochMillis;
+        }
+
+        public void onBlacklistEvent(String message) {
+            String[] values = message.split(",");
+            revokedJtis.put(values[0], Long.parseLong(values[1]));
+        }
+
+        public void onRevocationEpochEvent(String message) {
+            String[] values = message.split(",");
+            revokedBefore.merge(Long.valueOf(values[0]), Long.parseLong(values[1]), Math::max);
+        }
+
+        /**
+         * 만료된 jti 제거 (주기적으로 호출)
+         */
+        public void evictExpired(long nowMillis) {
+            revokedJtis.values().removeIf(expiresAtMillis -> expiresAtMillis <= nowMillis);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package click.dailyfeed.member.domain.jwt.verifier;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * LocalJwtVerifier 가 검증한 Access Token 정보
+ *
+ * handle, displayName, avatarUrl, profileVersion 은 발급 시점의 프로필 claims (hdl, dn, av, pv) 이며, 없는 토큰은 null.
+ * 회원 본인 프로필 조회(/api/members/...) 대신 사용할 수 있고, 더 최신 profileVersion 을 알고 있으면 stale 로 보고 다시 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedClaims {
+    private final String keyId;
+    private final String jti;
+    private final Long memberId;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final String handle;
+    private final String displayName;
+    private final String avatarUrl;
+    private final Integer profileVersion;
+
+    public boolean hasProfile() {
+        return handle != null && profileVersion != null;
+    }
+}
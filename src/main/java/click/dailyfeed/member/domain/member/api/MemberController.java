@@ -108,9 +108,10 @@ public class MemberController {
     @PutMapping("/profile/handle")
     public DailyfeedServerResponse<String> updateMemberProfileHandle(
             @InternalAuthenticatedMember MemberDto.Member requestedMember,
+            HttpServletResponse httpResponse,
             @Valid @RequestBody MemberProfileDto.HandleChangeRequest handleChangeRequest
     ){
-        String result = memberService.updateMemberProfileHandle(requestedMember, handleChangeRequest);
+        String result = memberService.updateMemberProfileHandle(requestedMember, handleChangeRequest, httpResponse);
         return DailyfeedServerResponse.<String>builder()
                 .data(result)
                 .status(HttpStatus.OK.value())
@@ -11,6 +11,7 @@ import lombok.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Getter
@@ -92,6 +93,11 @@ public class MemberProfile extends BaseTimeEntity {
     @Builder.Default
     private Boolean isActive = true;
 
+    // Access Token 의 프로필 claims(handle, 표시 이름, 아바타) 에 반영되는 값이 바뀔 때마다 증가
+    @Column(name = "profile_version", nullable = false)
+    @Builder.Default
+    private Integer profileVersion = 0;
+
     // 연관관계
     @OneToMany(mappedBy = "memberProfile", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -105,11 +111,24 @@ public class MemberProfile extends BaseTimeEntity {
     public void addProfileImage(MemberProfileImage image) {
         profileImages.add(image);
         image.updateMemberProfile(this);
+        if (isPrimaryAvatar(image)) {
+            increaseProfileVersion();
+        }
     }
 
     public void removeProfileImage(MemberProfileImage image) {
         profileImages.remove(image);
         image.updateMemberProfile(null);
+        if (isPrimaryAvatar(image)) {
+            increaseProfileVersion();
+        }
+    }
+
+    /**
+     * Access Token 의 avatar claim(av) 에 들어가는 이미지인지 확인 (커버, 갤러리, 대표가 아닌 아바타는 profileVersion 에 영향 없음)
+     */
+    private boolean isPrimaryAvatar(MemberProfileImage image) {
+        return image.isAvatar() && Boolean.TRUE.equals(image.getIsPrimary());
     }
 
     public Optional<String> findPrimaryImageUrl(ImageType imageType) {
@@ -164,10 +183,16 @@ public class MemberProfile extends BaseTimeEntity {
 
     /// updaters
     public void updateMemberName(String memberName) {
+        if (!Objects.equals(this.memberName, memberName)) {
+            increaseProfileVersion();
+        }
         this.memberName = memberName;
     }
 
     public void updateDisplayName(String displayName) {
+        if (!Objects.equals(this.displayName, displayName)) {
+            increaseProfileVersion();
+        }
         this.displayName = displayName;
     }
 
@@ -204,6 +229,9 @@ public class MemberProfile extends BaseTimeEntity {
     }
 
     public void updateHandle(String newHandle) {
+        if (!Objects.equals(this.handle, newHandle)) {
+            increaseProfileVersion();
+        }
         this.handle = newHandle;
     }
 
@@ -214,10 +242,21 @@ public class MemberProfile extends BaseTimeEntity {
                 .findFirst();
 
         avatarUrl.ifPresent(image -> {
+            if (!Objects.equals(image.getImageUrl(), imageUrl)) {
+                increaseProfileVersion();
+            }
             image.updateImageUrl(imageUrl);
         });
     }
 
+    /**
+     * 표시 이름(memberName, displayName), handle, 아바타가 바뀌면 호출
+     * 이전 버전의 프로필 claims 를 가진 Access Token 은 stale 로 판단된다. (JwtDto.ProfileClaims)
+     */
+    private void increaseProfileVersion() {
+        this.profileVersion = profileVersion == null ? 1 : profileVersion + 1;
+    }
+
     /////
     ///  양방향 연관관계 편의 메서드
     public void couplingMember(Member member){
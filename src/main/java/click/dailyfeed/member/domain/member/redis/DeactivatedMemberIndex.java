@@ -0,0 +1,151 @@
+package click.dailyfeed.member.domain.member.redis;
+
+import click.dailyfeed.member.config.redis.RedisCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Optional;
+
+/**
+ * 탈퇴(삭제)한 회원 id 집합 (deny set)
+ *
+ * 검증된 Access Token 의 memberId 를 그대로 신뢰하기 위해, "이 회원은 더 이상 없음" 만 따로 관리한다.
+ * 탈퇴는 드물고 id 는 재사용되지 않으므로 집합은 늘어나기만 하며, 회원 id 를 offset 으로 하는 bitmap 으로 저장한다.
+ *
+ * - Redis : member:authentication:deactivated_members (bitmap, SETBIT memberId 1), TTL 없음
+ * - 로컬 : Redis bitmap 을 BitSet 으로 복사해 두고 요청마다 조회 (I/O 없음)
+ * - 전파 : 탈퇴 시 DEACTIVATED_CHANNEL 로 다른 Pod 에 즉시 전파, 유실에 대비해 주기적으로 재적재
+ *
+ * 재적재 결과는 기존 로컬 집합과 합친다. (재적재 도중 추가된 id 가 빠지지 않도록)
+ * 아직 적재 전이거나 bitmap 범위를 넘는 id 는 판정하지 않으며(Optional.empty()), 호출자가 DB/캐시로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeactivatedMemberIndex implements MessageListener {
+    public static final String DEACTIVATED_CHANNEL = "member:authentication:deactivated_members:events";
+    private static final String BITMAP_KEY = "member:authentication:deactivated_members";
+
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    // 교체 방식으로만 변경 (조회는 lock 없이 현재 BitSet 을 읽음)
+    private volatile BitSet deactivated = new BitSet();
+    private volatile boolean ready = false;
+
+    /**
+     * 탈퇴한 회원인지 (I/O 없음)
+     * @return 판정 불가(준비 전, 범위를 넘는 id) 시 Optional.empty()
+     */
+    public Optional<Boolean> isDeactivated(Long memberId) {
+        if (!ready || !isIndexable(memberId)) {
+            return Optional.empty();
+        }
+        return Optional.of(deactivated.get(memberId.intValue()));
+    }
+
+    /**
+     * 탈퇴 기록 (로컬 반영 + Redis bitmap + 다른 Pod 전파)
+     * 회원 삭제가 커밋된 뒤에 호출한다. 로컬에는 먼저 반영하고, Redis 오류는 호출자에게 전파한다.
+     */
+    public void deactivate(Long memberId) {
+        if (!isIndexable(memberId)) {
+            log.warn("Member id out of deactivated index range: {}", memberId);
+            return;
+        }
+        add(memberId.intValue());
+        stringRedisTemplate.opsForValue().setBit(BITMAP_KEY, memberId, true);
+
+        try {
+            stringRedisTemplate.convertAndSend(DEACTIVATED_CHANNEL, String.valueOf(memberId));
+        } catch (Exception e) {
+            // 다른 Pod 은 주기적 재적재로 보정됨
+            log.warn("Failed to publish deactivated member event. memberId: {}, {}", memberId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            long memberId = Long.parseLong(body);
+            if (isIndexable(memberId)) {
+                add((int) memberId);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid deactivated member event: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        resync();
+    }
+
+    /**
+     * Redis bitmap 재적재 (Redis 를 쓸 수 없으면 이전 상태 유지)
+     */
+    @Scheduled(
+            initialDelayString = "${member.deactivated.index.resync.millis:60000}",
+            fixedDelayString = "${member.deactivated.index.resync.millis:60000}"
+    )
+    public void resync() {
+        byte[] bitmap = redisCircuitBreaker.execute(
+                () -> {
+                    byte[] value = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                            connection.stringCommands().get(BITMAP_KEY.getBytes(StandardCharsets.UTF_8)));
+                    return value == null ? new byte[0] : value;
+                },
+                () -> null
+        );
+        if (bitmap == null) {
+            log.warn("Skipped deactivated member index resync, Redis unavailable");
+            return;
+        }
+
+        synchronized (this) {
+            BitSet loaded = fromRedisBitmap(bitmap);
+            loaded.or(deactivated);
+            deactivated = loaded;
+        }
+        ready = true;
+        log.debug("Deactivated member index resynced - size: {}", deactivated.cardinality());
+    }
+
+    public int size() {
+        return deactivated.cardinality();
+    }
+
+    private synchronized void add(int memberId) {
+        BitSet updated = (BitSet) deactivated.clone();
+        updated.set(memberId);
+        deactivated = updated;
+    }
+
+    private static boolean isIndexable(Long memberId) {
+        return memberId != null && memberId >= 0 && memberId < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Redis bitmap(offset 0 = 첫 바이트의 최상위 비트) → BitSet(offset 0 = 첫 바이트의 최하위 비트)
+     */
+    static BitSet fromRedisBitmap(byte[] bitmap) {
+        byte[] reversed = new byte[bitmap.length];
+        for (int i = 0; i < bitmap.length; i++) {
+            reversed[i] = (byte) (Integer.reverse(bitmap[i] & 0xff) >>> 24);
+        }
+        return BitSet.valueOf(reversed);
+    }
+}
@@ -2,7 +2,10 @@ package click.dailyfeed.member.domain.member.repository.jpa;
 
 import click.dailyfeed.member.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +18,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     @Query("select m from Member m left join fetch m.memberEmails me where m.id = :memberId and me.isActive = true")
     List<Member> findByIdFetchJoin(Long memberId);
+
+    /**
+     * 비밀번호 해시 교체 (조회 이후 비밀번호가 바뀌지 않았을 때만, 로그인 시 재해싱용)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.password = :newPassword where m.id = :memberId and m.password = :currentPassword")
+    int updatePasswordIfUnchanged(
+            @Param("memberId") Long memberId,
+            @Param("currentPassword") String currentPassword,
+            @Param("newPassword") String newPassword
+    );
 }
@@ -1,5 +1,6 @@
 package click.dailyfeed.member.domain.member.service;
 
+import click.dailyfeed.code.domain.member.member.code.MemberHeaderCode;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.domain.member.member.exception.MemberHandleAlreadyExistsException;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j
@@ -36,7 +38,9 @@ public class MemberService {
                 .orElseThrow(() -> new MemberNotFoundException());
 
         /// update
+        Integer profileVersion = memberProfile.getProfileVersion();
         MemberProfile updatedMemberProfile = memberProfileMapper.updateMember(memberProfile, updateRequest);
+        addRefreshNeededIfProfileChanged(profileVersion, updatedMemberProfile, httpResponse);
 
         /// followers, following 카운트
         Long followingsCount = followingMongoRepository.countByFromId(requestedMember.getId());
@@ -57,7 +61,8 @@ public class MemberService {
         imageFeignHelper.deleteImages(bulkRequest, token, response);
     }
 
-    public String updateMemberProfileHandle(MemberDto.Member requestedMember, MemberProfileDto.HandleChangeRequest handleChangeRequest) {
+    public String updateMemberProfileHandle(
+            MemberDto.Member requestedMember, MemberProfileDto.HandleChangeRequest handleChangeRequest, HttpServletResponse httpResponse) {
         /// 존재하는 회원인지 체크
         MemberProfile memberProfile = memberProfileRepository
                 .findMemberProfileByMemberId(requestedMember.getId())
@@ -70,7 +75,19 @@ public class MemberService {
         }
 
         /// update
+        Integer profileVersion = memberProfile.getProfileVersion();
         memberProfile.updateHandle(handleChangeRequest.getNewHandle());
+        addRefreshNeededIfProfileChanged(profileVersion, memberProfile, httpResponse);
         return memberProfile.getHandle();
     }
+
+    /**
+     * 프로필 claims 에 반영되는 값이 바뀌면 X-Token-Refresh-Needed 로 알림
+     * 요청한 클라이언트가 토큰을 갱신하면 새 Access Token 에 최신 프로필 claims(pv 증가) 가 담긴다.
+     */
+    private void addRefreshNeededIfProfileChanged(Integer previousVersion, MemberProfile memberProfile, HttpServletResponse response) {
+        if (!Objects.equals(previousVersion, memberProfile.getProfileVersion())) {
+            response.setHeader(MemberHeaderCode.X_TOKEN_REFRESH_NEEDED.getHeaderKey(), "true");
+        }
+    }
 }
@@ -0,0 +1,10 @@
+-- jwt_keys 에 서명 알고리즘 / 공개키 컬럼 추가 (jwt.key.algorithm=ES256 지원)
+--
+-- algorithm 이 NULL 인 기존 키는 HS256 으로 간주한다.
+-- ES256 키는 secret_key 에 Base64 PKCS#8 개인키, public_key 에 Base64 X.509 공개키를 저장하며
+-- 공개키는 /.well-known/jwks.json 으로 공개된다.
+-- jwt.key.algorithm 을 변경하면 다음 키 교체부터 새 알고리즘의 키가 생성되고, 기존 키는 Grace Period 동안 검증에 사용된다.
+
+ALTER TABLE dailyfeed.jwt_keys
+    ADD COLUMN public_key VARCHAR(512) NULL AFTER secret_key,
+    ADD COLUMN algorithm  VARCHAR(16)  NULL AFTER public_key;
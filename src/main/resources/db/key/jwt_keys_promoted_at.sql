@@ -0,0 +1,8 @@
+-- jwt_keys 에 Primary 가 된 시각 컬럼 추가
+--
+-- 사전 공개된 다음 키는 생성 후 prePublishMinutes 이상 지나서 Primary 가 되므로,
+-- created_at 을 기준으로 교체 시각을 계산하면 교체 주기마다 그만큼 일찍 교체된다.
+-- promoted_at 이 NULL 인 기존 키는 created_at 을 기준으로 한다.
+
+ALTER TABLE dailyfeed.jwt_keys
+    ADD COLUMN promoted_at DATETIME NULL AFTER is_primary;
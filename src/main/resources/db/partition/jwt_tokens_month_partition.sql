@@ -0,0 +1,41 @@
+-- jwt_refresh_tokens / jwt_blacklist 를 expires_at 기준 월 단위 RANGE 파티션으로 전환 (선택 사항)
+--
+-- 전환 후 jwt.purge.partitioned=true 로 설정하면 TokenPurgeService 가
+--   - jwt.purge.partition.months-ahead 만큼 앞으로의 월 파티션을 미리 생성하고
+--   - 모든 행이 정리 대상이 된 월 파티션은 DELETE 대신 DROP PARTITION 으로 삭제한다.
+--
+-- MySQL 파티션 테이블은 모든 UNIQUE KEY(PK 포함)에 파티션 키가 포함되어야 하므로
+--   - PK 는 (id, expires_at) 로 변경
+--   - token_id / token_value / jti 의 UNIQUE 제약은 일반 인덱스로 변경 (값은 UUID 로 생성되므로 중복되지 않음)
+-- 파티션 이름 p{yyyyMM} 은 해당 월에 만료되는 행을 담는다. (VALUES LESS THAN 다음달 1일)
+-- 아래의 월 파티션은 예시이며, 적용 시점 기준으로 가장 오래된 expires_at 의 월부터 생성해야 한다.
+
+-- Refresh Token
+ALTER TABLE dailyfeed.jwt_refresh_tokens
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, expires_at),
+    DROP INDEX token_id,
+    DROP INDEX token_value,
+    ADD INDEX idx_token_id (token_id);
+
+ALTER TABLE dailyfeed.jwt_refresh_tokens
+    PARTITION BY RANGE COLUMNS (expires_at) (
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01 00:00:00'),
+        PARTITION p202612 VALUES LESS THAN ('2027-01-01 00:00:00'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
+
+-- Token Blacklist
+ALTER TABLE dailyfeed.jwt_blacklist
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, expires_at),
+    DROP INDEX jti;
+
+ALTER TABLE dailyfeed.jwt_blacklist
+    PARTITION BY RANGE COLUMNS (expires_at) (
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01 00:00:00'),
+        PARTITION p202612 VALUES LESS THAN ('2027-01-01 00:00:00'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
@@ -0,0 +1,8 @@
+-- member_profiles 에 프로필 버전 컬럼 추가 (Access Token 의 프로필 claims 지원)
+--
+-- 표시 이름(member_name, display_name), handle, 아바타가 바뀔 때마다 애플리케이션이 1 씩 증가시킨다. (MemberProfile.increaseProfileVersion)
+-- Access Token 의 pv claim 과 비교해, 토큰에 담긴 hdl/dn/av claim 이 최신인지 판단하는 데 사용한다.
+-- 기존 행은 0 으로 시작하며, 애플리케이션은 ddl-auto=validate 이므로 이 스크립트 적용과 배포를 함께 진행한다.
+
+ALTER TABLE dailyfeed.member_profiles
+    ADD COLUMN profile_version INT NOT NULL DEFAULT 0 AFTER is_active;
@@ -0,0 +1,79 @@
+-- jwt_refresh_tokens / jwt_blacklist 의 UUID 문자열 컬럼을 BINARY(16) 으로, Refresh Token 원문을 SHA-256 digest(BINARY(32)) 로 전환
+--
+-- - token_value VARCHAR(512) (원문) → token_digest BINARY(32) = UNHEX(SHA2(token_value, 256)) (RefreshToken.digestOf 와 같은 값)
+-- - token_id / access_token_id / jti VARCHAR(255) → BINARY(16) = UUID_TO_BIN(uuid) (UuidBinaryConverter 와 같은 바이트 순서, swap_flag 없음)
+-- - 중복 인덱스 정리 : token_value 의 UNIQUE + idx_token_value, jti 의 UNIQUE + idx_token_jti 는 각각 UNIQUE 하나로
+--
+-- utf8mb4 VARCHAR(255) 인덱스 키(최대 1020바이트, UUID 는 36자 + 길이) 대비 16/32바이트 고정폭이 되어
+-- 보조 인덱스(각 항목에 PK 포함) 크기와 buffer pool 점유가 줄어든다. (적용 전후 비교 : 아래 information_schema 조회)
+--
+-- 애플리케이션은 ddl-auto=validate 이므로 이 스크립트 적용과 배포를 함께 진행한다.
+-- 행이 많은 경우 2단계의 UPDATE 는 id 범위로 나누어 실행한다. (예 : WHERE id >= ? AND id < ? 를 10000 단위로)
+-- 파티션 전환(db/partition/jwt_tokens_month_partition.sql) 을 적용한 테이블은 UNIQUE KEY 에 파티션 키가 포함되어야 하므로
+--   - 3단계에서 이미 없는 UNIQUE 인덱스(token_id, token_value, jti) 대신 idx_token_id 를 삭제하고
+--   - 4단계의 UNIQUE INDEX 대신 일반 INDEX (idx_token_id, idx_token_digest, idx_token_jti) 로 생성한다.
+
+-- 0. 적용 전 인덱스 크기 확인 (byte)
+SELECT table_name, index_name, stat_value * @@innodb_page_size AS index_bytes
+FROM mysql.innodb_index_stats
+WHERE database_name = 'dailyfeed'
+  AND table_name IN ('jwt_refresh_tokens', 'jwt_blacklist')
+  AND stat_name = 'size';
+
+-- Refresh Token
+-- 1. 새 컬럼 추가
+ALTER TABLE dailyfeed.jwt_refresh_tokens
+    ADD COLUMN token_id_bin        BINARY(16) NULL AFTER token_id,
+    ADD COLUMN token_digest        BINARY(32) NULL AFTER token_value,
+    ADD COLUMN access_token_id_bin BINARY(16) NULL AFTER access_token_id,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 2. 기존 값 변환
+UPDATE dailyfeed.jwt_refresh_tokens
+SET token_id_bin        = UUID_TO_BIN(token_id),
+    token_digest        = UNHEX(SHA2(token_value, 256)),
+    access_token_id_bin = UUID_TO_BIN(access_token_id)
+WHERE token_digest IS NULL;
+
+-- 3. 기존 컬럼(원문 포함) 과 인덱스 삭제
+ALTER TABLE dailyfeed.jwt_refresh_tokens
+    DROP INDEX token_id,
+    DROP INDEX token_value,
+    DROP INDEX idx_token_value,
+    DROP INDEX idx_access_token_id,
+    DROP COLUMN token_id,
+    DROP COLUMN token_value,
+    DROP COLUMN access_token_id;
+
+-- 4. 컬럼 이름 변경 + NOT NULL + 인덱스 재생성
+ALTER TABLE dailyfeed.jwt_refresh_tokens
+    RENAME COLUMN token_id_bin TO token_id,
+    RENAME COLUMN access_token_id_bin TO access_token_id,
+    MODIFY COLUMN token_id        BINARY(16) NOT NULL,
+    MODIFY COLUMN token_digest    BINARY(32) NOT NULL,
+    MODIFY COLUMN access_token_id BINARY(16) NOT NULL,
+    ADD UNIQUE INDEX token_id (token_id),
+    ADD UNIQUE INDEX token_digest (token_digest),
+    ADD INDEX idx_access_token_id (access_token_id);
+
+-- Token Blacklist
+ALTER TABLE dailyfeed.jwt_blacklist
+    ADD COLUMN jti_bin BINARY(16) NULL AFTER jti,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+UPDATE dailyfeed.jwt_blacklist
+SET jti_bin = UUID_TO_BIN(jti)
+WHERE jti_bin IS NULL;
+
+ALTER TABLE dailyfeed.jwt_blacklist
+    DROP INDEX jti,
+    DROP INDEX idx_token_jti,
+    DROP COLUMN jti;
+
+ALTER TABLE dailyfeed.jwt_blacklist
+    RENAME COLUMN jti_bin TO jti,
+    MODIFY COLUMN jti BINARY(16) NOT NULL,
+    ADD UNIQUE INDEX jti (jti);
+
+-- 5. 통계 갱신 후 0 의 조회로 적용 후 인덱스 크기 확인
+ANALYZE TABLE dailyfeed.jwt_refresh_tokens, dailyfeed.jwt_blacklist;
@@ -0,0 +1,53 @@
+package click.dailyfeed.member.config.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+public class ConnectionCountingDataSourceTest {
+
+    @Test
+    @DisplayName("커넥션 획득 횟수는 획득한 스레드에만 누적된다")
+    void count_per_thread() throws Exception {
+        DataSource target = Mockito.mock(DataSource.class);
+        given(target.getConnection()).willReturn(Mockito.mock(Connection.class));
+        ConnectionCountingDataSource dataSource = new ConnectionCountingDataSource(target);
+
+        long before = ConnectionCountingDataSource.acquiredOnCurrentThread();
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        long otherThread = CompletableFuture.supplyAsync(() -> {
+            long start = ConnectionCountingDataSource.acquiredOnCurrentThread();
+            try {
+                dataSource.getConnection();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return ConnectionCountingDataSource.acquiredOnCurrentThread() - start;
+        }).get();
+
+        assertEquals(2L, ConnectionCountingDataSource.acquiredOnCurrentThread() - before);
+        assertEquals(1L, otherThread);
+    }
+
+    @Test
+    @DisplayName("PostProcessor 는 DataSource 만 한 번 감싼다")
+    void wrap_data_source_once() {
+        ConnectionCountingDataSourcePostProcessor postProcessor = new ConnectionCountingDataSourcePostProcessor();
+        DataSource target = Mockito.mock(DataSource.class);
+
+        Object wrapped = postProcessor.postProcessAfterInitialization(target, "dataSource");
+
+        assertInstanceOf(ConnectionCountingDataSource.class, wrapped);
+        assertSame(wrapped, postProcessor.postProcessAfterInitialization(wrapped, "dataSource"));
+        assertEquals("not a data source", postProcessor.postProcessAfterInitialization("not a data source", "other"));
+    }
+}
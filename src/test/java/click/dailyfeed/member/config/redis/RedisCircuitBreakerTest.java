@@ -0,0 +1,84 @@
+package click.dailyfeed.member.config.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RedisCircuitBreakerTest {
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 OPEN 으로 전환되고, OPEN 동안은 Redis 를 호출하지 않는다")
+    void opens_and_short_circuits() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisCircuitBreaker circuitBreaker = newCircuitBreaker(meterRegistry, 60_000L);
+        AtomicInteger redisCalls = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("fallback", circuitBreaker.execute(() -> failingCall(redisCalls), () -> "fallback"));
+        }
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.isOpen());
+
+        assertEquals("fallback", circuitBreaker.execute(() -> {
+            redisCalls.incrementAndGet();
+            return "redis";
+        }, () -> "fallback"));
+        assertEquals(4, redisCalls.get());
+
+        assertEquals(1.0, meterRegistry.get("redis.circuit_breaker.transitions")
+                .tag("from", "CLOSED").tag("to", "OPEN").counter().count());
+        assertEquals(1.0, meterRegistry.get("redis.circuit_breaker.calls")
+                .tag("outcome", "not_permitted").counter().count());
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 HALF_OPEN 시험 호출이 모두 성공해야 CLOSED 로 돌아간다")
+    void half_open_trial_calls_close_the_circuit() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisCircuitBreaker circuitBreaker = newCircuitBreaker(meterRegistry, 0L);
+
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.execute(() -> failingCall(new AtomicInteger()), () -> "fallback");
+        }
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertEquals("redis", circuitBreaker.execute(() -> "redis", () -> "fallback"));
+        assertEquals(RedisCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        assertEquals("redis", circuitBreaker.execute(() -> "redis", () -> "fallback"));
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void half_open_failure_reopens() {
+        RedisCircuitBreaker circuitBreaker = newCircuitBreaker(new SimpleMeterRegistry(), 0L);
+
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.execute(() -> failingCall(new AtomicInteger()), () -> "fallback");
+        }
+        assertEquals("fallback", circuitBreaker.execute(() -> failingCall(new AtomicInteger()), () -> "fallback"));
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private String failingCall(AtomicInteger redisCalls) {
+        redisCalls.incrementAndGet();
+        throw new RedisConnectionFailureException("down");
+    }
+
+    private RedisCircuitBreaker newCircuitBreaker(SimpleMeterRegistry meterRegistry, long openDurationMillis) {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(meterRegistry, 10);
+        ReflectionTestUtils.setField(circuitBreaker, "minimumCalls", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "failureRateThreshold", 50);
+        ReflectionTestUtils.setField(circuitBreaker, "slowCallMillis", 1_000L);
+        ReflectionTestUtils.setField(circuitBreaker, "openDurationMillis", openDurationMillis);
+        ReflectionTestUtils.setField(circuitBreaker, "halfOpenCalls", 2);
+        return circuitBreaker;
+    }
+}
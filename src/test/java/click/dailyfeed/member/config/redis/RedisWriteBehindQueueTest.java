@@ -0,0 +1,49 @@
+package click.dailyfeed.member.config.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+public class RedisWriteBehindQueueTest {
+    private RedisTemplate<String, String> redisTemplate;
+    private ListOperations<String, String> listOperations;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = Mockito.mock(RedisTemplate.class);
+        listOperations = Mockito.mock(ListOperations.class);
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        meterRegistry = new SimpleMeterRegistry();
+
+        new RedisWriteBehindQueue("test", "test:queue", "test:lock",
+                redisTemplate, Mockito.mock(RedisLeaderLock.class), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대기열과 dead letter 의 길이를 queue 태그가 붙은 gauge 로 노출한다")
+    void exposes_pending_and_dead_letter_sizes() {
+        given(listOperations.size("test:queue")).willReturn(12L);
+        given(listOperations.size("test:queue:dead")).willReturn(3L);
+
+        assertEquals(12.0, meterRegistry.get("jwt.write_behind.pending").tag("queue", "test").gauge().value());
+        assertEquals(3.0, meterRegistry.get("jwt.write_behind.dead_letter").tag("queue", "test").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Redis 를 사용할 수 없으면 gauge 는 NaN 을 돌려준다")
+    void gauge_is_nan_when_redis_unavailable() {
+        given(listOperations.size("test:queue")).willThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(Double.isNaN(meterRegistry.get("jwt.write_behind.pending").tag("queue", "test").gauge().value()));
+    }
+}
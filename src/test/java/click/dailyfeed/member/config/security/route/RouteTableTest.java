@@ -0,0 +1,62 @@
+package click.dailyfeed.member.config.security.route;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RouteTableTest {
+    private final RouteTable routeTable = RouteTable.defaults();
+
+    @Test
+    @DisplayName("헬스체크, 정적 리소스/Swagger 경로 분류")
+    void health_and_asset() {
+        assertEquals(RouteClass.HEALTH, routeTable.classify("/healthcheck/ready"));
+        assertEquals(RouteClass.HEALTH, routeTable.classify("/healthz"));
+        assertEquals(RouteClass.HEALTH, routeTable.classify("/app-health/member/livez"));
+        assertEquals(RouteClass.HEALTH, routeTable.classify("/actuator/health/liveness"));
+
+        assertEquals(RouteClass.ASSET, routeTable.classify("/swagger-ui/index.html"));
+        assertEquals(RouteClass.ASSET, routeTable.classify("/swagger-ui.html"));
+        assertEquals(RouteClass.ASSET, routeTable.classify("/api-docs"));
+        assertEquals(RouteClass.ASSET, routeTable.classify("/v3/api-docs/swagger-config"));
+        assertEquals(RouteClass.ASSET, routeTable.classify("/css/main.css"));
+    }
+
+    @Test
+    @DisplayName("공개 경로는 정확히 일치할 때만 PUBLIC")
+    void public_routes() {
+        assertEquals(RouteClass.PUBLIC, routeTable.classify("/"));
+        assertEquals(RouteClass.PUBLIC, routeTable.classify("/welcome"));
+        assertEquals(RouteClass.PUBLIC, routeTable.classify("/api/authentication/login"));
+        assertEquals(RouteClass.PUBLIC, routeTable.classify("/api/token/refresh"));
+        assertEquals(RouteClass.PUBLIC, routeTable.classify("/.well-known/jwks.json"));
+
+        assertEquals(RouteClass.MEMBER, routeTable.classify("/api/authentication/login/extra"));
+        assertEquals(RouteClass.MEMBER, routeTable.classify("/api/authentication/deactivate"));
+    }
+
+    @Test
+    @DisplayName("더 구체적인 pattern 이 우선하고, 일치하지 않는 경로는 MEMBER")
+    void most_specific_pattern_wins() {
+        assertEquals(RouteClass.INTERNAL, routeTable.classify("/api/members/query/in"));
+        assertEquals(RouteClass.INTERNAL, routeTable.classify("/api/members/query"));
+        assertEquals(RouteClass.MEMBER, routeTable.classify("/api/members/querything"));
+        assertEquals(RouteClass.MEMBER, routeTable.classify("/api/members/follow/3"));
+        assertEquals(RouteClass.MEMBER, routeTable.classify("/api/authentication/logout-all"));
+        assertEquals(RouteClass.MEMBER, routeTable.classify("/unknown"));
+    }
+
+    @Test
+    @DisplayName("context path 와 빈 segment 는 무시한다")
+    void context_path_and_empty_segments() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/member/healthcheck/live");
+        request.setContextPath("/member");
+
+        assertEquals(RouteClass.HEALTH, routeTable.classify(request));
+        assertEquals(RouteClass.PUBLIC, routeTable.classify("//api/authentication//signup/"));
+        assertTrue(routeTable.matcher(RouteClass.HEALTH, RouteClass.ASSET).matches(request));
+        assertFalse(routeTable.matcher(RouteClass.PUBLIC).matches(request));
+    }
+}
@@ -3,6 +3,7 @@ package click.dailyfeed.member.domain.authentication.integratedtest.refresh.loca
 import click.dailyfeed.code.domain.member.member.exception.MemberNotFoundException;
 import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
 import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import click.dailyfeed.member.domain.jwt.redis.RevokedRefreshMarkerRedisService;
 import click.dailyfeed.member.domain.jwt.repository.jpa.RefreshTokenRepository;
 import click.dailyfeed.member.domain.jwt.repository.jpa.TokenBlacklistRepository;
 import click.dailyfeed.member.domain.jwt.service.JwtKeyHelper;
@@ -62,6 +63,9 @@ public class RefreshBehaviorVerifyLocalWASTest {
     @MockBean
     private ValueOperations<String, String> valueOperations;
 
+    @MockBean
+    private RevokedRefreshMarkerRedisService revokedRefreshMarkerRedisService;
+
     @BeforeEach
     void setUp() {
         when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
@@ -83,7 +87,9 @@ public class RefreshBehaviorVerifyLocalWASTest {
         // 철회했던 refreshKey 가 아닐 경우를 가정 (revokedRefreshKey 내에 존재하는지 검사)
         when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
         // refreshToken 이 존재하는 정상 케이스를 가정
-        when(refreshTokenRepository.findByTokenValueAndIsRevokedFalse(refreshTokenValue)).thenReturn(Optional.of(refreshToken));
+        when(refreshTokenRepository.findActiveByTokenValue(refreshTokenValue)).thenReturn(Optional.of(refreshToken));
+        // 조건부 무효화(UPDATE) 에 성공하는 케이스를 가정
+        when(refreshTokenRepository.revokeIfActive(eq(refreshTokenValue), any())).thenReturn(1);
         // 회원 데이터 존재 여부 검사 & 정상 케이스를 가정
         when(memberRepository.findByIdFetchJoin(memberId)).thenReturn(Collections.singletonList(member));
         // 만료기한이 여유가 충분한 시간을 return 하도록 지정
@@ -97,8 +103,8 @@ public class RefreshBehaviorVerifyLocalWASTest {
         // then
         // 다음의 4개의 메서드들이 수행됨을 보장해야 함
         verify(tokenService).checkIfRevokedOrThrow(anyString());
-        verify(refreshTokenRepository).findByTokenValueAndIsRevokedFalse(refreshTokenValue);
-        verify(tokenService).revokeRefreshKeyOrThrow(eq(refreshToken), anyString());
+        verify(refreshTokenRepository).findActiveByTokenValue(refreshTokenValue);
+        verify(tokenService).revokeRefreshKeyOrThrow(eq(refreshTokenValue));
         verify(memberRepository).findByIdFetchJoin(memberId);
     }
 
@@ -107,9 +113,8 @@ public class RefreshBehaviorVerifyLocalWASTest {
     void refreshTokens_ThrowException_WhenRevokedInRedis() {
         // given
         String refreshTokenValue = "revoked-token";
-        String revokedRefreshKey = tokenService.revokedRefreshTokenKey(refreshTokenValue);
         // 철회된 토큰으로 /refresh에 요청이 온 경우를 가정
-        when(stringRedisTemplate.hasKey(revokedRefreshKey)).thenReturn(true);
+        when(revokedRefreshMarkerRedisService.isRevoked(eq(refreshTokenValue), anyLong())).thenReturn(true);
 
         // when & then
         // 이 경우 InvalidTokenException 을 throw 해야 함
@@ -125,7 +130,7 @@ public class RefreshBehaviorVerifyLocalWASTest {
         // revoked token 은 아니지만
         when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
         // 존재하지 않는 refresh token일 경우를 가정
-        when(refreshTokenRepository.findByTokenValueAndIsRevokedFalse(refreshTokenValue)).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findActiveByTokenValue(refreshTokenValue)).thenReturn(Optional.empty());
 
         // when & then
         // 이 경우 InvalidTokenException 을 throw 해야 함
@@ -144,7 +149,7 @@ public class RefreshBehaviorVerifyLocalWASTest {
         // revoked 된 토큰이 아니면서
         when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
         // 기간이 만료된 refreshToken 일 경우
-        when(refreshTokenRepository.findByTokenValueAndIsRevokedFalse(refreshTokenValue)).thenReturn(Optional.of(expiredToken));
+        when(refreshTokenRepository.findActiveByTokenValue(refreshTokenValue)).thenReturn(Optional.of(expiredToken));
 
         // when & then
         // 이 경우 InvalidTokenException 을 throw 해야 함
@@ -161,7 +166,7 @@ public class RefreshBehaviorVerifyLocalWASTest {
         RefreshToken refreshToken = createRefreshToken(refreshTokenValue, memberId, LocalDateTime.now().plusDays(1));
 
         when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
-        when(refreshTokenRepository.findByTokenValueAndIsRevokedFalse(refreshTokenValue)).thenReturn(Optional.of(refreshToken));
+        when(refreshTokenRepository.findActiveByTokenValue(refreshTokenValue)).thenReturn(Optional.of(refreshToken));
         // 사용자가 DB에 존재하지 않을 경우
         when(memberRepository.findByIdFetchJoin(memberId)).thenReturn(Collections.emptyList());
 
@@ -170,6 +175,26 @@ public class RefreshBehaviorVerifyLocalWASTest {
             tokenService.refreshTokens(refreshTokenValue, "device", "127.0.0.1"));
     }
 
+    @Test
+    @DisplayName("(1.4) 조회 이후 다른 요청이 먼저 같은 refreshToken 을 사용한 경우 (에러 - 조건부 무효화 0건)")
+    void refreshTokens_ThrowException_WhenAlreadyUsedConcurrently() {
+        // given
+        String refreshTokenValue = "concurrently-used-token";
+        Long memberId = 1L;
+        RefreshToken refreshToken = createRefreshToken(refreshTokenValue, memberId, LocalDateTime.now().plusDays(1));
+
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+        when(refreshTokenRepository.findActiveByTokenValue(refreshTokenValue)).thenReturn(Optional.of(refreshToken));
+        // 다른 요청이 먼저 무효화하여 UPDATE 대상이 없는 경우
+        when(refreshTokenRepository.revokeIfActive(eq(refreshTokenValue), any())).thenReturn(0);
+
+        // when & then
+        // 새 토큰 쌍을 발급하지 않고 InvalidTokenException 을 throw 해야 함
+        assertThrows(InvalidTokenException.class, () ->
+            tokenService.refreshTokens(refreshTokenValue, "device", "127.0.0.1"));
+        verify(memberRepository, never()).findByIdFetchJoin(anyLong());
+    }
+
     private RefreshToken createRefreshToken(String value, Long memberId, LocalDateTime expiresAt) {
         return RefreshToken.create(
                 "token-id",
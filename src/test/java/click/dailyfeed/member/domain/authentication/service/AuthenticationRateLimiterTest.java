@@ -0,0 +1,101 @@
+package click.dailyfeed.member.domain.authentication.service;
+
+import click.dailyfeed.member.domain.authentication.exception.AuthenticationRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+
+public class AuthenticationRateLimiterTest {
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 token bucket 으로 용량만큼만 허용한다")
+    @SuppressWarnings("unchecked")
+    void local_fallback_when_redis_unavailable() {
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+        AuthenticationRateLimiter rateLimiter = newRateLimiter(redisTemplate);
+
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> rateLimiter.checkLoginOrThrow("10.0.0.1", "user@dailyfeed.com"));
+        }
+        AuthenticationRateLimitedException e = assertThrows(
+                AuthenticationRateLimitedException.class,
+                () -> rateLimiter.checkLoginOrThrow("10.0.0.2", "USER@dailyfeed.com ")
+        );
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+
+        // 다른 email, IP 는 영향 없음
+        assertDoesNotThrow(() -> rateLimiter.checkLoginOrThrow("10.0.0.3", "other@dailyfeed.com"));
+    }
+
+    @Test
+    @DisplayName("로컬 bucket 이 가득 차도 IP/email 을 바꿔가며 보낸 요청이 소진된 bucket 을 지우지 못한다")
+    @SuppressWarnings("unchecked")
+    void local_fallback_keeps_exhausted_buckets_when_full() {
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+        AuthenticationRateLimiter rateLimiter = newRateLimiter(redisTemplate);
+        ReflectionTestUtils.setField(rateLimiter, "maxLocalEntries", 10);
+
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.checkLoginOrThrow("10.0.0.1", "user@dailyfeed.com");
+        }
+        for (int i = 0; i < 50; i++) {
+            String ipAddress = "10.1.0." + i;
+            String email = "spray" + i + "@dailyfeed.com";
+            try {
+                rateLimiter.checkLoginOrThrow(ipAddress, email);
+            } catch (AuthenticationRateLimitedException ignored) {
+                // 자리가 없는 새 key 는 overflow bucket 을 함께 사용하므로 곧 거절됨
+            }
+        }
+
+        assertThrows(
+                AuthenticationRateLimitedException.class,
+                () -> rateLimiter.checkLoginOrThrow("10.2.0.1", "user@dailyfeed.com")
+        );
+    }
+
+    @Test
+    @DisplayName("Redis script 가 잠금/한도 초과를 반환하면 대기 시간을 Retry-After 초로 올림해서 거절한다")
+    @SuppressWarnings("unchecked")
+    void reject_by_redis_result() {
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(2L, 61_500L, 1L))
+                .willReturn(List.of(0L, 0L, 0L));
+        AuthenticationRateLimiter rateLimiter = newRateLimiter(redisTemplate);
+
+        AuthenticationRateLimitedException e = assertThrows(
+                AuthenticationRateLimitedException.class,
+                () -> rateLimiter.checkLoginOrThrow("10.0.0.1", "user@dailyfeed.com")
+        );
+        assertEquals(62L, e.getRetryAfterSeconds());
+
+        assertDoesNotThrow(() -> rateLimiter.checkLoginOrThrow("10.0.0.1", "user@dailyfeed.com"));
+    }
+
+    private AuthenticationRateLimiter newRateLimiter(RedisTemplate<String, String> redisTemplate) {
+        AuthenticationRateLimiter rateLimiter = new AuthenticationRateLimiter(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "loginIpCapacity", 100);
+        ReflectionTestUtils.setField(rateLimiter, "loginIpRefillPerMinute", 100);
+        ReflectionTestUtils.setField(rateLimiter, "loginEmailCapacity", 3);
+        ReflectionTestUtils.setField(rateLimiter, "loginEmailRefillPerMinute", 1);
+        ReflectionTestUtils.setField(rateLimiter, "maxLocalEntries", 100);
+        return rateLimiter;
+    }
+}
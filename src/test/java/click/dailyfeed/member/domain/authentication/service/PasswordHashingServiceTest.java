@@ -0,0 +1,84 @@
+package click.dailyfeed.member.domain.authentication.service;
+
+import click.dailyfeed.member.domain.authentication.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingServiceTest {
+
+    @Test
+    @DisplayName("hashing pool 에서 검증/해싱한 결과는 PasswordEncoder 와 같다")
+    void matches_and_encode() {
+        PasswordHashingService service = newService(new BCryptPasswordEncoder(4), 1, 4);
+
+        String encoded = service.encode("password123!");
+
+        assertTrue(service.matches("password123!", encoded));
+        assertFalse(service.matches("wrong-password", encoded));
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("저장된 BCrypt cost 가 설정값과 다를 때만 재해싱 대상")
+    void needs_rehash() {
+        PasswordHashingService service = newService(new BCryptPasswordEncoder(4), 1, 4);
+        ReflectionTestUtils.setField(service, "bcryptStrength", 10);
+
+        assertTrue(service.needsRehash(new BCryptPasswordEncoder(4).encode("password")));
+        assertTrue(service.needsRehash(new BCryptPasswordEncoder(12).encode("password")));
+        assertFalse(service.needsRehash(new BCryptPasswordEncoder(10).encode("password")));
+        assertFalse(service.needsRehash("encrypted-password"));
+        assertFalse(service.needsRehash(null));
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("pool 과 대기열이 가득 차면 대기하지 않고 PasswordHashingRejectedException")
+    void reject_when_saturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        PasswordHashingService service = newService(blockingEncoder, 1, 1);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> service.matches("a", "b"));  // 실행 중
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> service.matches("a", "b"));  // 대기열
+        Thread.sleep(100);
+
+        assertThrows(PasswordHashingRejectedException.class, () -> service.matches("a", "b"));
+
+        release.countDown();
+        callers.shutdown();
+        assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+        service.shutdown();
+    }
+
+    private PasswordHashingService newService(PasswordEncoder passwordEncoder, int threads, int queueCapacity) {
+        PasswordHashingService service = new PasswordHashingService(passwordEncoder, new SimpleMeterRegistry(), threads, queueCapacity);
+        ReflectionTestUtils.setField(service, "timeoutMillis", 5000L);
+        return service;
+    }
+}
@@ -0,0 +1,50 @@
+package click.dailyfeed.member.domain.jwt.converter;
+
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UuidBinaryConverterTest {
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+
+    @Test
+    @DisplayName("UUID 문자열을 MySQL UUID_TO_BIN 과 같은 순서의 16바이트로 변환하고 다시 같은 문자열로 복원한다")
+    void round_trip() {
+        String uuid = "6ccd780c-baba-1026-9564-5b8c656024db";
+
+        byte[] bytes = converter.convertToDatabaseColumn(uuid);
+
+        assertEquals("6ccd780cbaba102695645b8c656024db", HexFormat.of().formatHex(bytes));
+        assertEquals(uuid, converter.convertToEntityAttribute(bytes));
+
+        String random = UUID.randomUUID().toString();
+        assertEquals(random, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(random)));
+    }
+
+    @Test
+    @DisplayName("null 은 그대로, 표준 형식이 아닌 문자열은 IllegalArgumentException")
+    void null_and_invalid() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn("jti-1"));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn("1-1-1-1-1"));
+    }
+
+    @Test
+    @DisplayName("Refresh Token 은 원문 대신 MySQL UNHEX(SHA2(value, 256)) 과 같은 32바이트 digest 로 저장한다")
+    void refresh_token_digest() {
+        RefreshToken refreshToken = RefreshToken.create(
+                UUID.randomUUID().toString(), 1L, "refresh-token", UUID.randomUUID().toString(),
+                LocalDateTime.now().plusDays(1), "device", "127.0.0.1");
+
+        assertEquals("0eb17643d4e9261163783a420859c92c7d212fa9624106a12b510afbec266120",
+                HexFormat.of().formatHex(refreshToken.getTokenDigest()));
+        assertArrayEquals(RefreshToken.digestOf("refresh-token"), refreshToken.getTokenDigest());
+    }
+}
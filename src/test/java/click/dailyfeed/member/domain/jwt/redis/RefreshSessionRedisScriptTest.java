@@ -0,0 +1,166 @@
+package click.dailyfeed.member.domain.jwt.redis;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RefreshSessionRedisService 의 Lua 스크립트(CLAIM_ROTATION_SCRIPT, SAVE_SCRIPT) 를 실제 Redis 에서 실행
+ * (Docker 가 없는 환경에서는 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class RefreshSessionRedisScriptTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RefreshSessionRedisService service;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        service = new RefreshSessionRedisService(redisTemplate);
+        ReflectionTestUtils.setField(service, "refreshTokenExpirationDays", 30);
+        ReflectionTestUtils.setField(service, "idempotencySeconds", 10L);
+        ReflectionTestUtils.setField(service, "pendingMillis", 5000L);
+    }
+
+    @Test
+    @DisplayName("처음 선점한 요청은 CLAIMED, 결과 저장 전의 중복 요청은 PENDING, 저장 후에는 ROTATED 로 같은 토큰 쌍을 받는다")
+    void claim_then_pending_then_rotated() {
+        save("token-1", 7L, "Mozilla/5.0", 5);
+        long now = System.currentTimeMillis();
+
+        RefreshSessionRedisService.RotationClaim claimed = service.claimRotation("token-1", now);
+        assertEquals(RefreshSessionRedisService.ClaimStatus.CLAIMED, claimed.getStatus());
+        assertEquals(7L, claimed.getMemberId());
+        assertTrue(claimed.getExpiresAtMillis() > now);
+
+        assertEquals(RefreshSessionRedisService.ClaimStatus.PENDING, service.claimRotation("token-1", now).getStatus());
+
+        service.saveRotationResult("token-1", JwtDto.TokenPair.builder()
+                .accessToken("access")
+                .refreshToken("token-2")
+                .accessTokenExpiresIn(3600L)
+                .refreshTokenExpiresIn(2592000L)
+                .build());
+
+        RefreshSessionRedisService.RotationClaim rotated = service.claimRotation("token-1", now);
+        assertEquals(RefreshSessionRedisService.ClaimStatus.ROTATED, rotated.getStatus());
+        assertEquals("access", rotated.getRotated().getAccessToken());
+        assertEquals("token-2", rotated.getRotated().getRefreshToken());
+    }
+
+    @Test
+    @DisplayName("회전 결과가 없는 무효화된 세션은 REVOKED, 만료된 세션은 EXPIRED, 없는 세션은 MISSING")
+    void revoked_expired_and_missing() {
+        save("token-1", 7L, "Mozilla/5.0", 5);
+        long now = System.currentTimeMillis();
+        service.claimRotation("token-1", now);
+        service.clearRotationResult("token-1");
+
+        assertEquals(RefreshSessionRedisService.ClaimStatus.REVOKED, service.claimRotation("token-1", now).getStatus());
+
+        save("token-2", 7L, "curl/8.0", 5);
+        long afterExpiry = now + 31L * 86400000L;
+        assertEquals(RefreshSessionRedisService.ClaimStatus.EXPIRED, service.claimRotation("token-2", afterExpiry).getStatus());
+
+        assertEquals(RefreshSessionRedisService.ClaimStatus.MISSING, service.claimRotation("unknown", now).getStatus());
+    }
+
+    @Test
+    @DisplayName("같은 deviceInfo 로 새 세션을 저장하면 이전 세션을 무효화하고 그 sessionId 를 돌려준다")
+    void same_device_replaces_previous_session() {
+        assertTrue(save("token-1", 7L, "Mozilla/5.0", 5).isEmpty());
+
+        List<String> evicted = save("token-2", 7L, "Mozilla/5.0", 5);
+
+        assertEquals(List.of(RefreshSessionRedisService.sessionIdOf("token-1")), evicted);
+        assertTrue(service.find("token-1").orElseThrow().isRevoked());
+        assertFalse(service.find("token-2").orElseThrow().isRevoked());
+        assertEquals(RefreshSessionRedisService.ClaimStatus.REVOKED,
+                service.claimRotation("token-1", System.currentTimeMillis()).getStatus());
+        assertEquals(1, service.findSessionIdsByMemberId(7L).size());
+    }
+
+    @Test
+    @DisplayName("slot 수가 최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션부터 무효화한다")
+    void overflow_evicts_least_recently_used_session() throws InterruptedException {
+        save("token-1", 7L, "device-1", 2);
+        Thread.sleep(5);
+        save("token-2", 7L, "device-2", 2);
+        Thread.sleep(5);
+
+        List<String> evicted = save("token-3", 7L, "device-3", 2);
+
+        assertEquals(List.of(RefreshSessionRedisService.sessionIdOf("token-1")), evicted);
+        assertTrue(service.find("token-1").orElseThrow().isRevoked());
+        assertFalse(service.find("token-2").orElseThrow().isRevoked());
+        assertEquals(
+                Set.of(RefreshSessionRedisService.sessionIdOf("token-2"), RefreshSessionRedisService.sessionIdOf("token-3")),
+                service.findSessionIdsByMemberId(7L)
+        );
+        // 다른 회원의 세션 수에는 영향 없음
+        assertTrue(save("token-4", 8L, "device-1", 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Redis 의 key 와 값에는 Refresh Token 원문이 남지 않는다")
+    void raw_token_is_not_stored() {
+        save("raw-refresh-token", 7L, null, 5);
+
+        assertTrue(redisTemplate.keys("*raw-refresh-token*").isEmpty());
+        assertFalse(service.findSessionIdsByMemberId(7L).contains("raw-refresh-token"));
+    }
+
+    private List<String> save(String tokenValue, Long memberId, String deviceInfo, int maxSessions) {
+        return service.save(JwtDto.RefreshSession.builder()
+                .tokenId(UUID.randomUUID().toString())
+                .memberId(memberId)
+                .sessionId(RefreshSessionRedisService.sessionIdOf(tokenValue))
+                .accessTokenId(UUID.randomUUID().toString())
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .deviceInfo(deviceInfo)
+                .build(), maxSessions);
+    }
+}
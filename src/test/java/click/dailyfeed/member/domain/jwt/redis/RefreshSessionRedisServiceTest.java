@@ -0,0 +1,125 @@
+package click.dailyfeed.member.domain.jwt.redis;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class RefreshSessionRedisServiceTest {
+
+    @Test
+    @DisplayName("같은 deviceInfo 는 같은 slot, deviceInfo 가 없으면 세션마다 별도 slot")
+    void slot_is_shared_by_device_info() {
+        String slot = RefreshSessionRedisService.slotOf("Mozilla/5.0", "token-1");
+
+        assertEquals(slot, RefreshSessionRedisService.slotOf("Mozilla/5.0", "token-2"));
+        assertEquals(18, slot.length());
+        assertNotEquals(slot, RefreshSessionRedisService.slotOf("curl/8.0", "token-1"));
+        assertNotEquals(RefreshSessionRedisService.slotOf(null, "token-1"), RefreshSessionRedisService.slotOf(null, "token-2"));
+        assertNotEquals(RefreshSessionRedisService.slotOf(" ", "token-1"), RefreshSessionRedisService.slotOf("", "token-2"));
+    }
+
+    @Test
+    @DisplayName("sessionId 는 jwt_refresh_tokens.token_digest 의 base64url 이고, 원문을 포함하지 않는다")
+    void session_id_is_token_digest() {
+        String sessionId = RefreshSessionRedisService.sessionIdOf("refresh-token");
+
+        assertEquals(RefreshSessionRedisService.SESSION_ID_LENGTH, sessionId.length());
+        assertTrue(RefreshSessionRedisService.isSessionId(sessionId));
+        assertFalse(RefreshSessionRedisService.isSessionId("5f0c7a4e-8a55-4f5e-9d0e-2f0b8f4f9a11"));
+        assertFalse(sessionId.contains("refresh-token"));
+        assertArrayEquals(RefreshToken.digestOf("refresh-token"), RefreshSessionRedisService.tokenDigestOf(sessionId));
+    }
+
+    @Test
+    @DisplayName("세션 저장은 회원 slot/LRU key 와 세션 수 상한을 한번의 스크립트로 넘기고, 무효화된 세션 목록을 돌려준다")
+    @SuppressWarnings("unchecked")
+    void save_enforces_session_limit_in_one_script() {
+        String sessionId = RefreshSessionRedisService.sessionIdOf("new-token");
+        String evictedSessionId = RefreshSessionRedisService.sessionIdOf("old-token");
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(List.of(evictedSessionId));
+        RefreshSessionRedisService service = new RefreshSessionRedisService(redisTemplate);
+        ReflectionTestUtils.setField(service, "refreshTokenExpirationDays", 30);
+
+        List<String> evicted = service.save(JwtDto.RefreshSession.builder()
+                .tokenId("token-id")
+                .memberId(7L)
+                .sessionId(sessionId)
+                .accessTokenId("jti")
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .deviceInfo("Mozilla/5.0")
+                .build(), 5);
+
+        assertEquals(List.of(evictedSessionId), evicted);
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+
+        assertEquals(List.of(
+                RefreshSessionRedisService.SESSION_KEY_PREFIX + sessionId,
+                RefreshSessionRedisService.SESSION_KEY_PREFIX + "jti:jti",
+                RefreshSessionRedisService.SESSION_KEY_PREFIX + "member_device:7",
+                RefreshSessionRedisService.SESSION_KEY_PREFIX + "member_lru:7"
+        ), keys.getValue());
+        assertEquals(sessionId, args.getValue()[1]);
+        assertEquals(RefreshSessionRedisService.slotOf("Mozilla/5.0", sessionId), args.getValue()[2]);
+        assertEquals("5", args.getValue()[4]);
+    }
+
+    @Test
+    @DisplayName("여러 세션을 pipeline 한번으로 조회하고, 사라진 세션은 제외한다")
+    @SuppressWarnings("unchecked")
+    void find_all_reads_sessions_in_one_pipeline() {
+        String liveSessionId = RefreshSessionRedisService.sessionIdOf("live-token");
+        String expiredSessionId = RefreshSessionRedisService.sessionIdOf("expired-token");
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        given(redisTemplate.executePipelined(any(SessionCallback.class))).willReturn(List.of(
+                Map.of("tokenId", "token-id", "memberId", "7", "accessTokenId", "jti",
+                        "expiresAt", String.valueOf(System.currentTimeMillis() + 60000L), "revoked", "0"),
+                Map.of()
+        ));
+        RefreshSessionRedisService service = new RefreshSessionRedisService(redisTemplate);
+
+        Map<String, JwtDto.RefreshSession> sessions = service.findAllBySessionIds(List.of(liveSessionId, expiredSessionId));
+
+        assertEquals(1, sessions.size());
+        assertEquals(7L, sessions.get(liveSessionId).getMemberId());
+        assertEquals(liveSessionId, sessions.get(liveSessionId).getSessionId());
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 세션은 저장하지 않는다")
+    @SuppressWarnings("unchecked")
+    void expired_session_is_not_saved() {
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        RefreshSessionRedisService service = new RefreshSessionRedisService(redisTemplate);
+
+        List<String> evicted = service.save(JwtDto.RefreshSession.builder()
+                .memberId(7L)
+                .sessionId(RefreshSessionRedisService.sessionIdOf("new-token"))
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .build(), 5);
+
+        assertTrue(evicted.isEmpty());
+        Mockito.verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,81 @@
+package click.dailyfeed.member.domain.jwt.redis;
+
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class RevokedRefreshMarkerRedisServiceTest {
+    private static final long DAY_MILLIS = 86400000L;
+
+    @Test
+    @DisplayName("같은 토큰은 항상 같은 bucket/field, field 는 12자")
+    void slot_is_deterministic_and_short() {
+        RevokedRefreshMarkerRedisService.MarkerSlot slot = RevokedRefreshMarkerRedisService.slotOf("refresh-token", 4096);
+
+        assertEquals(slot, RevokedRefreshMarkerRedisService.slotOf("refresh-token", 4096));
+        assertEquals(12, slot.field().length());
+        assertTrue(slot.bucket() >= 0 && slot.bucket() < 4096);
+        assertNotEquals(slot.field(), RevokedRefreshMarkerRedisService.slotOf("refresh-token2", 4096).field());
+    }
+
+    @Test
+    @DisplayName("Refresh 세션의 digest 로 표시해도 원문으로 조회한 bucket/field 와 같다")
+    void slot_of_digest_matches_slot_of_token_value() {
+        assertEquals(
+                RevokedRefreshMarkerRedisService.slotOf("refresh-token", 4096),
+                RevokedRefreshMarkerRedisService.slotOfDigest(RefreshToken.digestOf("refresh-token"), 4096)
+        );
+    }
+
+    @Test
+    @DisplayName("Refresh Token 수명이 걸치는 모든 window 와 기존 형식 key 를 한번에 조회한다")
+    @SuppressWarnings("unchecked")
+    void is_revoked_checks_every_live_window_and_legacy_key() {
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+        RevokedRefreshMarkerRedisService service = newService(redisTemplate);
+
+        long now = 100 * 7 * DAY_MILLIS + DAY_MILLIS;
+        assertTrue(service.isRevoked("refresh-token", now));
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+
+        int bucket = RevokedRefreshMarkerRedisService.slotOf("refresh-token", 4096).bucket();
+        // window 100 (현재) ~ 95 (30일 전이 속한 window) + 기존 형식 key
+        assertEquals(7, keys.getValue().size());
+        assertEquals(RevokedRefreshMarkerRedisService.bucketKey(100, bucket), keys.getValue().get(0));
+        assertEquals(RevokedRefreshMarkerRedisService.bucketKey(95, bucket), keys.getValue().get(5));
+        assertEquals(RevokedRefreshMarkerRedisService.legacyKey("refresh-token"), keys.getValue().get(6));
+    }
+
+    @Test
+    @DisplayName("스크립트 결과가 없으면 무효화되지 않은 것으로 본다")
+    @SuppressWarnings("unchecked")
+    void null_result_is_not_revoked() {
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        RevokedRefreshMarkerRedisService service = newService(redisTemplate);
+
+        assertFalse(service.isRevoked("refresh-token", System.currentTimeMillis()));
+    }
+
+    private RevokedRefreshMarkerRedisService newService(RedisTemplate<String, String> redisTemplate) {
+        RevokedRefreshMarkerRedisService service = new RevokedRefreshMarkerRedisService(redisTemplate);
+        ReflectionTestUtils.setField(service, "refreshTokenExpirationDays", 30);
+        ReflectionTestUtils.setField(service, "windowDays", 7);
+        ReflectionTestUtils.setField(service, "buckets", 4096);
+        return service;
+    }
+}
@@ -0,0 +1,87 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisCircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+public class MemberRevocationEpochTest {
+    private static final String EPOCH_KEY = "member:authentication:revoked_before:7";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private MemberRevocationEpoch memberRevocationEpoch;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = Mockito.mock(RedisTemplate.class);
+        valueOperations = Mockito.mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry(), 10);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "minimumCalls", 10);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "failureRateThreshold", 50);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "slowCallMillis", 1_000L);
+
+        memberRevocationEpoch = new MemberRevocationEpoch(redisTemplate, redisCircuitBreaker);
+        ReflectionTestUtils.setField(memberRevocationEpoch, "refreshTokenExpirationDays", 30);
+        ReflectionTestUtils.setField(memberRevocationEpoch, "cacheMillis", 5000L);
+        ReflectionTestUtils.setField(memberRevocationEpoch, "maxCacheEntries", 100);
+    }
+
+    @Test
+    @DisplayName("무효화 시각은 ms 단위로 기록하고, 같은 초에 먼저 발급된 토큰도 무효로 판정한다")
+    void same_second_tokens_issued_before_epoch_are_revoked() {
+        memberRevocationEpoch.revokeAllIssuedBefore(7L, 1_700_000_000_500L);
+
+        verify(valueOperations).set(EPOCH_KEY, "1700000000500", Duration.ofDays(30));
+
+        // ms 단위 발급시각 (Redis 세션)
+        assertTrue(memberRevocationEpoch.isRevoked(7L, 1_700_000_000_400L));
+        assertFalse(memberRevocationEpoch.isRevoked(7L, 1_700_000_000_600L));
+
+        // 초 단위 절삭(JWT iat) / 반올림(DB timestamp) 된 발급시각
+        assertTrue(memberRevocationEpoch.isRevokedIssuedAtSecond(7L, 1_700_000_000_000L));
+        assertTrue(memberRevocationEpoch.isRevokedIssuedAtSecond(7L, 1_700_000_001_000L));
+        assertFalse(memberRevocationEpoch.isRevokedIssuedAtSecond(7L, 1_700_000_002_000L));
+    }
+
+    @Test
+    @DisplayName("Redis 를 사용할 수 없으면 마지막으로 알던 무효화 시각으로 판정한다")
+    void uses_cached_epoch_when_redis_unavailable() {
+        ReflectionTestUtils.setField(memberRevocationEpoch, "cacheMillis", 0L);
+        memberRevocationEpoch.revokeAllIssuedBefore(7L, 1_700_000_000_500L);
+        given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(memberRevocationEpoch.isRevoked(7L, 1_700_000_000_400L));
+        // 알던 값이 없는 회원은 무효화되지 않은 것으로 간주
+        assertFalse(memberRevocationEpoch.isRevoked(8L, 1_700_000_000_400L));
+    }
+
+    @Test
+    @DisplayName("Redis 에 기록하지 못하면 예외를 던지고 로컬 캐시에도 반영하지 않는다")
+    void throws_when_epoch_cannot_be_recorded() {
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        assertThrows(RedisConnectionFailureException.class,
+                () -> memberRevocationEpoch.revokeAllIssuedBefore(7L, 1_700_000_000_500L));
+        assertFalse(memberRevocationEpoch.isRevoked(7L, 1_700_000_000_400L));
+    }
+}
@@ -0,0 +1,121 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisLeaderLock;
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import click.dailyfeed.member.domain.jwt.entity.RefreshToken;
+import click.dailyfeed.member.domain.jwt.redis.RefreshSessionRedisService;
+import click.dailyfeed.member.domain.jwt.repository.jpa.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+public class RefreshTokenWriteBehindTest {
+    private RefreshSessionRedisService refreshSessionRedisService;
+    private RefreshTokenRepository refreshTokenRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private RefreshTokenWriteBehind writeBehind;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        refreshSessionRedisService = Mockito.mock(RefreshSessionRedisService.class);
+        refreshTokenRepository = Mockito.mock(RefreshTokenRepository.class);
+        redisTemplate = Mockito.mock(RedisTemplate.class);
+        RedisLeaderLock redisLeaderLock = Mockito.mock(RedisLeaderLock.class);
+        given(redisLeaderLock.tryAcquire(anyString(), any())).willReturn(true);
+
+        writeBehind = new RefreshTokenWriteBehind(refreshSessionRedisService, refreshTokenRepository, redisLeaderLock, redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(writeBehind, "refreshTokenExpirationDays", 30);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 10);
+        ReflectionTestUtils.setField(writeBehind, "maxBatchesPerFlush", 5);
+        ReflectionTestUtils.setField(writeBehind, "maxAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("처리 중 목록으로 꺼낸 batch 를 반영한 뒤에 처리 중 목록을 지운다")
+    @SuppressWarnings("unchecked")
+    void persists_claimed_batch_and_acknowledges() {
+        String created = RefreshSessionRedisService.sessionIdOf("token-1");
+        String revoked = RefreshSessionRedisService.sessionIdOf("token-2");
+        givenClaimed(List.of("C:" + created, "R:" + revoked));
+        given(refreshSessionRedisService.findAllBySessionIds(List.of(created))).willReturn(Map.of(created, sessionOf(created)));
+
+        writeBehind.flush();
+
+        ArgumentCaptor<List<RefreshToken>> saved = ArgumentCaptor.forClass(List.class);
+        verify(refreshTokenRepository).saveAll(saved.capture());
+        assertArrayEquals(RefreshToken.digestOf("token-1"), saved.getValue().get(0).getTokenDigest());
+
+        ArgumentCaptor<Collection<byte[]>> revokedDigests = ArgumentCaptor.forClass(Collection.class);
+        verify(refreshTokenRepository).revokeAllByTokenDigestIn(revokedDigests.capture());
+        assertArrayEquals(RefreshToken.digestOf("token-2"), revokedDigests.getValue().iterator().next());
+
+        verify(redisTemplate).delete(argThat((Collection<String> keys) -> keys.size() == 2));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 3), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 batch 를 처리 중 목록에 남겨두고 실패 횟수만 기록한다")
+    @SuppressWarnings("unchecked")
+    void keeps_claimed_batch_on_failure() {
+        givenClaimed(List.of("R:" + RefreshSessionRedisService.sessionIdOf("token-1")));
+        willThrow(new DataAccessResourceFailureException("db down"))
+                .given(refreshTokenRepository).revokeAllByTokenDigestIn(anyCollection());
+        given(redisTemplate.execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 3), any(Object[].class)))
+                .willReturn(1L);
+
+        writeBehind.flush();
+
+        verify(redisTemplate).execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 3), any(Object[].class));
+        verify(redisTemplate, never()).delete(anyCollection());
+        verify(redisTemplate, never()).opsForList();
+    }
+
+    @Test
+    @DisplayName("형식 변경 전에 적재된 tokenValue 원문 항목도 digest 로 반영한다")
+    @SuppressWarnings("unchecked")
+    void converts_legacy_token_value_operations() {
+        String legacyTokenValue = "5f0c7a4e-8a55-4f5e-9d0e-2f0b8f4f9a11";
+        givenClaimed(List.of("R:" + legacyTokenValue));
+
+        writeBehind.flush();
+
+        ArgumentCaptor<Collection<byte[]>> revokedDigests = ArgumentCaptor.forClass(Collection.class);
+        verify(refreshTokenRepository).revokeAllByTokenDigestIn(revokedDigests.capture());
+        assertArrayEquals(RefreshToken.digestOf(legacyTokenValue), revokedDigests.getValue().iterator().next());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenClaimed(List<String> operations) {
+        given(redisTemplate.execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 2), any(Object[].class)))
+                .willReturn(operations);
+    }
+
+    private JwtDto.RefreshSession sessionOf(String sessionId) {
+        return JwtDto.RefreshSession.builder()
+                .tokenId("5f0c7a4e-8a55-4f5e-9d0e-2f0b8f4f9a12")
+                .memberId(7L)
+                .sessionId(sessionId)
+                .accessTokenId("5f0c7a4e-8a55-4f5e-9d0e-2f0b8f4f9a13")
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisLeaderLock;
+import click.dailyfeed.member.domain.jwt.entity.TokenBlacklist;
+import click.dailyfeed.member.domain.jwt.redis.TokenBlacklistRedisService;
+import click.dailyfeed.member.domain.jwt.repository.jdbc.TokenBlacklistJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+public class TokenBlacklistWriteBehindTest {
+    private TokenBlacklistJdbcRepository tokenBlacklistJdbcRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private TokenBlacklistWriteBehind writeBehind;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        tokenBlacklistJdbcRepository = Mockito.mock(TokenBlacklistJdbcRepository.class);
+        redisTemplate = Mockito.mock(RedisTemplate.class);
+        RedisLeaderLock redisLeaderLock = Mockito.mock(RedisLeaderLock.class);
+        given(redisLeaderLock.tryAcquire(anyString(), any())).willReturn(true);
+
+        writeBehind = new TokenBlacklistWriteBehind(tokenBlacklistJdbcRepository, redisLeaderLock, redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 10);
+        ReflectionTestUtils.setField(writeBehind, "maxBatchesPerFlush", 5);
+        ReflectionTestUtils.setField(writeBehind, "maxAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("batch 를 jti 기준으로 중복 제거해 JDBC batch 로 반영한 뒤 대기열에서 제거한다")
+    @SuppressWarnings("unchecked")
+    void persists_batch_and_acknowledges() {
+        long expiresAt = System.currentTimeMillis() + 3600000L;
+        givenClaimed(List.of(
+                TokenBlacklistRedisService.toEntry("jti-1", 1L, expiresAt, "USER_LOGOUT"),
+                TokenBlacklistRedisService.toEntry("jti-2", 2L, expiresAt, "USER_LOGOUT"),
+                TokenBlacklistRedisService.toEntry("jti-1", 1L, expiresAt, "USER_LOGOUT")
+        ));
+
+        writeBehind.flush();
+
+        ArgumentCaptor<List<TokenBlacklist>> blacklists = ArgumentCaptor.forClass(List.class);
+        verify(tokenBlacklistJdbcRepository).insertIgnoreAll(blacklists.capture());
+        assertEquals(List.of("jti-1", "jti-2"), blacklists.getValue().stream().map(TokenBlacklist::getJti).toList());
+
+        ArgumentCaptor<Collection<String>> accessTokenIds = ArgumentCaptor.forClass(Collection.class);
+        verify(tokenBlacklistJdbcRepository).revokeAllByAccessTokenIdIn(accessTokenIds.capture());
+        assertEquals(List.of("jti-1", "jti-2"), List.copyOf(accessTokenIds.getValue()));
+
+        verify(redisTemplate).delete(List.of(
+                TokenBlacklistRedisService.QUEUE_KEY + ":processing",
+                TokenBlacklistRedisService.QUEUE_KEY + ":attempts"
+        ));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 3), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 batch 를 남겨두고 실패 횟수만 기록한다")
+    @SuppressWarnings("unchecked")
+    void keeps_batch_on_failure() {
+        givenClaimed(List.of(
+                TokenBlacklistRedisService.toEntry("jti-1", 1L, System.currentTimeMillis(), "USER_LOGOUT")
+        ));
+        willThrow(new DataAccessResourceFailureException("db down"))
+                .given(tokenBlacklistJdbcRepository).insertIgnoreAll(anyList());
+        given(redisTemplate.execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 3), any(Object[].class)))
+                .willReturn(1L);
+
+        writeBehind.flush();
+
+        verify(redisTemplate).execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 3), any(Object[].class));
+        verify(redisTemplate, never()).delete(anyCollection());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 2), any(Object[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenClaimed(List<String> entries) {
+        given(redisTemplate.execute(any(RedisScript.class), argThat((List<String> keys) -> keys != null && keys.size() == 2), any(Object[].class)))
+                .willReturn(entries);
+    }
+}
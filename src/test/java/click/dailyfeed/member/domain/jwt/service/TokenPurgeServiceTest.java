@@ -0,0 +1,81 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.config.redis.RedisLeaderLock;
+import click.dailyfeed.member.domain.jwt.repository.jdbc.TokenPartitionJdbcRepository;
+import click.dailyfeed.member.domain.jwt.repository.jpa.RefreshTokenRepository;
+import click.dailyfeed.member.domain.jwt.repository.jpa.TokenBlacklistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class TokenPurgeServiceTest {
+    private static final String TABLE = TokenPartitionJdbcRepository.REFRESH_TOKEN_TABLE;
+    private static final String CURSOR_KEY = "member:authentication:token_purge:cursor:" + TABLE;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private TokenPurgeService tokenPurgeService;
+    private final List<String> deletedRanges = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = Mockito.mock(RedisTemplate.class);
+        valueOperations = Mockito.mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        tokenPurgeService = new TokenPurgeService(
+                Mockito.mock(RefreshTokenRepository.class),
+                Mockito.mock(TokenBlacklistRepository.class),
+                Mockito.mock(TokenPartitionJdbcRepository.class),
+                Mockito.mock(RedisLeaderLock.class),
+                redisTemplate,
+                new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(tokenPurgeService, "chunkSize", 5L);
+        ReflectionTestUtils.setField(tokenPurgeService, "throttleMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("이전 주기의 중단 위치부터 maxId 까지, 이어서 minId 부터 시작 위치 전까지 처리하고 위치를 지운다")
+    void resumes_from_cursor_and_wraps() throws InterruptedException {
+        given(valueOperations.get(CURSOR_KEY)).willReturn("11");
+
+        long purged = tokenPurgeService.purgeInChunks(TABLE, Optional.of(1L), Optional.of(20L), this::delete, Long.MAX_VALUE);
+
+        assertEquals(List.of("11-16", "16-21", "1-6", "6-11"), deletedRanges);
+        assertEquals(4, purged);
+        verify(redisTemplate).delete(CURSOR_KEY);
+    }
+
+    @Test
+    @DisplayName("실행 시간을 넘기면 다음에 처리할 id 를 저장한다")
+    void saves_cursor_when_deadline_reached() throws InterruptedException {
+        given(valueOperations.get(anyString())).willReturn(null);
+
+        tokenPurgeService.purgeInChunks(TABLE, Optional.of(1L), Optional.of(20L), this::delete, 0L);
+
+        assertTrue(deletedRanges.isEmpty());
+        verify(valueOperations).set(CURSOR_KEY, "1", Duration.ofDays(1));
+    }
+
+    private int delete(Long fromId, Long toId) {
+        deletedRanges.add(fromId + "-" + toId);
+        return 1;
+    }
+}
@@ -0,0 +1,100 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+public class TokenRefreshSignalTest {
+    private static final long PRIMARY_CHANGED_AT = 1_700_000_000_000L;
+    private static final long SPREAD_MILLIS = 60 * 60000L;
+
+    private JwtKeyRing jwtKeyRing;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRefreshSignal tokenRefreshSignal;
+
+    @BeforeEach
+    void setUp() {
+        jwtKeyRing = Mockito.mock(JwtKeyRing.class);
+        given(jwtKeyRing.getPrimaryChangedAtMillis()).willReturn(PRIMARY_CHANGED_AT);
+        given(jwtKeyRing.find("old-kid")).willReturn(Optional.empty());
+
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRefreshSignal = new TokenRefreshSignal(
+                jwtKeyRing, Mockito.mock(VerifiedTokenCache.class), meterRegistry, 60, 48);
+    }
+
+    @Test
+    @DisplayName("jitter 는 jti 마다 결정적이며 분산 구간 안에 고르게 퍼진다")
+    void jitter_is_deterministic_and_within_window() {
+        String jti = UUID.randomUUID().toString();
+        assertEquals(TokenRefreshSignal.jitterMillis(jti, SPREAD_MILLIS), TokenRefreshSignal.jitterMillis(jti, SPREAD_MILLIS));
+        assertEquals(0L, TokenRefreshSignal.jitterMillis(null, SPREAD_MILLIS));
+        assertEquals(0L, TokenRefreshSignal.jitterMillis(jti, 0L));
+
+        Set<Long> minutes = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            long jitter = TokenRefreshSignal.jitterMillis(UUID.randomUUID().toString(), SPREAD_MILLIS);
+            assertTrue(jitter >= 0 && jitter < SPREAD_MILLIS);
+            minutes.add(jitter / 60000L);
+        }
+        // 10,000 개 토큰이 60 개 분 단위 구간을 모두 채움
+        assertEquals(60, minutes.size());
+    }
+
+    @Test
+    @DisplayName("이전 kid 토큰은 jti offset 이 지나기 전에는 신호를 보류하고, 지난 뒤에는 신호를 보낸다")
+    void signals_old_kid_token_after_its_offset() {
+        JwtDto.VerifiedToken token = verifiedToken("old-kid", UUID.randomUUID().toString());
+        long offset = TokenRefreshSignal.jitterMillis(token.getJti(), SPREAD_MILLIS);
+
+        if (offset > 0) {
+            assertFalse(tokenRefreshSignal.shouldSignal(token, "new-kid", PRIMARY_CHANGED_AT + offset - 1));
+        }
+        assertTrue(tokenRefreshSignal.shouldSignal(token, "new-kid", PRIMARY_CHANGED_AT + offset));
+        assertTrue(tokenRefreshSignal.shouldSignal(token, "new-kid", PRIMARY_CHANGED_AT + SPREAD_MILLIS));
+
+        assertEquals(2.0, meterRegistry.get("authentication.token_refresh.signals").tag("result", "signalled").counter().count());
+    }
+
+    @Test
+    @DisplayName("Primary 로 서명된 토큰에는 신호를 보내지 않는다")
+    void never_signals_primary_token() {
+        JwtDto.VerifiedToken token = verifiedToken("new-kid", UUID.randomUUID().toString());
+
+        assertFalse(tokenRefreshSignal.shouldSignal(token, "new-kid", PRIMARY_CHANGED_AT + SPREAD_MILLIS));
+    }
+
+    @Test
+    @DisplayName("분산 구간은 이전 키의 남은 수명을 넘지 않는다")
+    void window_is_capped_by_old_key_expiry() {
+        JwtKeyRing.KeyEntry oldKey = Mockito.mock(JwtKeyRing.KeyEntry.class);
+        given(oldKey.getExpiresAtMillis()).willReturn(PRIMARY_CHANGED_AT + 1000L);
+        given(jwtKeyRing.find("old-kid")).willReturn(Optional.of(oldKey));
+
+        for (int i = 0; i < 100; i++) {
+            JwtDto.VerifiedToken token = verifiedToken("old-kid", UUID.randomUUID().toString());
+            assertTrue(tokenRefreshSignal.shouldSignal(token, "new-kid", PRIMARY_CHANGED_AT + 1000L));
+        }
+    }
+
+    private JwtDto.VerifiedToken verifiedToken(String keyId, String jti) {
+        return JwtDto.VerifiedToken.builder()
+                .keyId(keyId)
+                .jti(jti)
+                .memberId(1L)
+                .expiration(new Date(PRIMARY_CHANGED_AT + 3600000L))
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package click.dailyfeed.member.domain.jwt.service;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+public class VerifiedTokenCacheTest {
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyRing jwtKeyRing = Mockito.mock(JwtKeyRing.class);
+        given(jwtKeyRing.find(anyString())).willReturn(Optional.of(Mockito.mock(JwtKeyRing.KeyEntry.class)));
+        cache = new VerifiedTokenCache(jwtKeyRing);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+    }
+
+    @Test
+    @DisplayName("로그아웃은 jti 인덱스로 해당 토큰만 제거한다")
+    void invalidate_by_jti() {
+        cache.put("token-1", verifiedToken("jti-1", "kid-1"));
+        cache.put("token-2", verifiedToken("jti-2", "kid-1"));
+
+        cache.invalidateByJti("jti-1");
+        cache.invalidateByJti("unknown");
+
+        assertTrue(cache.find("token-1").isEmpty());
+        assertTrue(cache.find("token-2").isPresent());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("키 비활성화로 제거된 항목은 jti 로 다시 무효화해도 다른 항목에 영향이 없다")
+    void invalidate_by_key_id_keeps_index_consistent() {
+        cache.put("token-1", verifiedToken("jti-1", "kid-old"));
+        cache.put("token-2", verifiedToken("jti-2", "kid-new"));
+
+        cache.invalidateByKeyId("kid-old");
+        cache.invalidateByJti("jti-1");
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.find("token-2").isPresent());
+    }
+
+    private JwtDto.VerifiedToken verifiedToken(String jti, String keyId) {
+        return JwtDto.VerifiedToken.builder()
+                .keyId(keyId)
+                .jti(jti)
+                .memberId(1L)
+                .expiration(new Date(System.currentTimeMillis() + 3600000L))
+                .build();
+    }
+}
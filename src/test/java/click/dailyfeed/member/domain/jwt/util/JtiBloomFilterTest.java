@@ -0,0 +1,46 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JtiBloomFilterTest {
+
+    @Test
+    @DisplayName("추가된 jti 는 항상 mightContain == true (false negative 없음)")
+    void no_false_negative() {
+        JtiBloomFilter filter = JtiBloomFilter.create(10_000, 0.01);
+        List<String> jtis = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String jti = UUID.randomUUID().toString();
+            jtis.add(jti);
+            filter.put(jti);
+        }
+
+        jtis.forEach(jti -> assertTrue(filter.mightContain(jti)));
+    }
+
+    @Test
+    @DisplayName("오탐율은 설정값 근처로 유지된다")
+    void false_positive_rate() {
+        JtiBloomFilter filter = JtiBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue((double) falsePositives / trials < 0.02);
+    }
+}
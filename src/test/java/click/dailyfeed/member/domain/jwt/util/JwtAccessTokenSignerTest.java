@@ -0,0 +1,147 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import click.dailyfeed.member.domain.jwt.dto.JwtDto;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtAccessTokenSignerTest {
+    private static final long ISSUED_AT_MILLIS = 1_760_000_000_123L;
+    private static final long EXPIRES_AT_MILLIS = ISSUED_AT_MILLIS + 3_600_000L;
+
+    @Test
+    @DisplayName("HS256 토큰은 Jwts.builder() 결과와 바이트 단위로 같다")
+    void hmac_token_is_identical_to_jjwt() {
+        SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+        String expected = jjwtToken("kid-1", key, SignatureAlgorithm.HS256, "jti-1", 42L);
+        String actual = fastToken("kid-1", key, SignatureAlgorithm.HS256, "jti-1", 42L);
+
+        assertEquals(expected, actual);
+        // 같은 스레드에서 재사용한 Mac 으로 다시 서명해도 같은 결과
+        assertEquals(expected, fastToken("kid-1", key, SignatureAlgorithm.HS256, "jti-1", 42L));
+    }
+
+    @Test
+    @DisplayName("ES256 토큰은 header/payload 가 Jwts.builder() 결과와 같고, 기존 parser 로 검증된다")
+    void ec_token_is_verifiable_by_jjwt() {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+
+        String expected = jjwtToken("kid-2", keyPair.getPrivate(), SignatureAlgorithm.ES256, "jti-2", 7L);
+        String actual = fastToken("kid-2", keyPair.getPrivate(), SignatureAlgorithm.ES256, "jti-2", 7L);
+
+        assertEquals(unsignedPart(expected), unsignedPart(actual));
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(keyPair.getPublic())
+                .build()
+                .parseClaimsJws(actual)
+                .getBody();
+        assertEquals("jti-2", claims.getId());
+        assertEquals("7", claims.getSubject());
+        assertEquals(7, claims.get("id"));
+        assertEquals(new Date(EXPIRES_AT_MILLIS / 1000 * 1000), claims.getExpiration());
+    }
+
+    @Test
+    @DisplayName("RS256 토큰도 기존 parser 로 검증된다")
+    void rsa_token_is_verifiable_by_jjwt() {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+        String actual = fastToken("kid-3", keyPair.getPrivate(), SignatureAlgorithm.RS256, "jti-3", 9L);
+
+        assertEquals(actual, jjwtToken("kid-3", keyPair.getPrivate(), SignatureAlgorithm.RS256, "jti-3", 9L));
+        assertEquals("jti-3", Jwts.parserBuilder()
+                .setSigningKey(keyPair.getPublic())
+                .build()
+                .parseClaimsJws(actual)
+                .getBody()
+                .getId());
+    }
+
+    @Test
+    @DisplayName("프로필 claims 를 담은 토큰도 Jwts.builder() 결과와 바이트 단위로 같고, 값이 없는 claim 은 생략한다")
+    void profile_claims_are_identical_to_jjwt() {
+        SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        JwtDto.ProfileClaims profile = JwtDto.ProfileClaims.builder()
+                .handle("daily_feed")
+                .displayName("데일리 피드")
+                .version(3)
+                .build();
+
+        String actual = JwtAccessTokenSigner.sign(
+                JwtAccessTokenSigner.encodeHeaderOrNull("kid-5", SignatureAlgorithm.HS256),
+                key, SignatureAlgorithm.HS256, "jti-5", 11L, ISSUED_AT_MILLIS, EXPIRES_AT_MILLIS, profile);
+
+        String expected = Jwts.builder()
+                .setHeaderParam("kid", "kid-5")
+                .setId("jti-5")
+                .setSubject("11")
+                .setIssuedAt(new Date(ISSUED_AT_MILLIS))
+                .setExpiration(new Date(EXPIRES_AT_MILLIS))
+                .claim("id", 11L)
+                .claim(JwtDto.ProfileClaims.HANDLE, profile.getHandle())
+                .claim(JwtDto.ProfileClaims.DISPLAY_NAME, profile.getDisplayName())
+                .claim(JwtDto.ProfileClaims.AVATAR_URL, null)
+                .claim(JwtDto.ProfileClaims.VERSION, profile.getVersion())
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertEquals(expected, actual);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(actual).getBody();
+        assertEquals("데일리 피드", claims.get(JwtDto.ProfileClaims.DISPLAY_NAME));
+        assertFalse(claims.containsKey(JwtDto.ProfileClaims.AVATAR_URL));
+        assertEquals(3, claims.get(JwtDto.ProfileClaims.VERSION));
+    }
+
+    @Test
+    @DisplayName("escape 가 필요한 프로필 값은 서명하지 않는다 (Jwts.builder() 로 처리)")
+    void profile_with_escape_is_not_plain() {
+        assertTrue(JwtAccessTokenSigner.isPlainProfile(null));
+        assertTrue(JwtAccessTokenSigner.isPlainProfile(JwtDto.ProfileClaims.builder().handle("a").version(0).build()));
+        assertFalse(JwtAccessTokenSigner.isPlainProfile(JwtDto.ProfileClaims.builder().handle("a").displayName("\"quoted\"").build()));
+    }
+
+    @Test
+    @DisplayName("PS* 알고리즘이나 escape 가 필요한 kid 는 header 를 만들지 않는다 (Jwts.builder() 로 처리)")
+    void unsupported_inputs() {
+        assertNull(JwtAccessTokenSigner.encodeHeaderOrNull("kid-4", SignatureAlgorithm.PS256));
+        assertNull(JwtAccessTokenSigner.encodeHeaderOrNull("kid\"4", SignatureAlgorithm.HS256));
+        assertNull(JwtAccessTokenSigner.encodeHeaderOrNull(null, SignatureAlgorithm.HS256));
+        assertFalse(JwtAccessTokenSigner.isPlainJsonString("jti\\1"));
+        assertFalse(JwtAccessTokenSigner.isPlainJsonString("jti\n1"));
+        assertTrue(JwtAccessTokenSigner.isPlainJsonString("키-1/2"));
+    }
+
+    private static String fastToken(String keyId, Key key, SignatureAlgorithm algorithm, String jti, long memberId) {
+        return JwtAccessTokenSigner.sign(
+                JwtAccessTokenSigner.encodeHeaderOrNull(keyId, algorithm),
+                key, algorithm, jti, memberId, ISSUED_AT_MILLIS, EXPIRES_AT_MILLIS);
+    }
+
+    // JwtKeyHelper.generateTokenWithJti 의 Jwts.builder() 경로
+    private static String jjwtToken(String keyId, Key key, SignatureAlgorithm algorithm, String jti, Long memberId) {
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setId(jti)
+                .setSubject(String.valueOf(memberId))
+                .setIssuedAt(new Date(ISSUED_AT_MILLIS))
+                .setExpiration(new Date(EXPIRES_AT_MILLIS))
+                .claim("id", memberId)
+                .signWith(key, algorithm)
+                .compact();
+    }
+
+    private static String unsignedPart(String token) {
+        return token.substring(0, token.lastIndexOf('.'));
+    }
+}
@@ -0,0 +1,106 @@
+package click.dailyfeed.member.domain.jwt.util;
+
+import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
+import click.dailyfeed.member.domain.jwt.exception.TokenRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtKeyIdExtractorTest {
+
+    private static final String PAYLOAD = ".eyJpZCI6MX0.c2lnbmF0dXJl";
+
+    private static String encodeHeader(String headerJson) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(headerJson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("header 의 kid 를 추출한다")
+    void extract_kid() {
+        String token = encodeHeader("{\"kid\":\"key-1\",\"alg\":\"HS256\"}") + PAYLOAD;
+
+        assertEquals("key-1", JwtKeyIdExtractor.extractKeyIdOrNull(token));
+        assertEquals("key-1", JwtProcessor.extractKeyIdOrThrow(token));
+    }
+
+    @Test
+    @DisplayName("패딩이 포함된 header, 토큰 앞뒤/중간의 공백은 무시한다 (기존 replaceAll(\"\\\\s\") 동작)")
+    void extract_kid_with_padding_and_whitespace() {
+        String padded = Base64.getUrlEncoder()
+                .encodeToString("{\"alg\":\"HS256\",\"kid\":\"key-2\"}".getBytes(StandardCharsets.UTF_8));
+        String token = "  " + padded.substring(0, 5) + " \n" + padded.substring(5) + PAYLOAD + "\t";
+
+        assertTrue(padded.endsWith("="));
+        assertEquals("key-2", JwtKeyIdExtractor.extractKeyIdOrNull(token));
+    }
+
+    @Test
+    @DisplayName("UTF-8 kid 도 그대로 추출한다")
+    void extract_utf8_kid() {
+        String token = encodeHeader("{\"kid\":\"키-3\"}") + PAYLOAD;
+
+        assertEquals("키-3", JwtKeyIdExtractor.extractKeyIdOrNull(token));
+    }
+
+    @Test
+    @DisplayName("끝의 '.' 은 split 과 동일하게 무시하고, 그 외 세그먼트 수가 3이 아니면 InvalidTokenException")
+    void segment_count() {
+        String header = encodeHeader("{\"kid\":\"key-4\"}");
+
+        assertEquals("key-4", JwtKeyIdExtractor.extractKeyIdOrNull(header + PAYLOAD + "."));
+        assertThrows(InvalidTokenException.class, () -> JwtKeyIdExtractor.extractKeyIdOrNull(header + ".payload"));
+        assertThrows(InvalidTokenException.class, () -> JwtKeyIdExtractor.extractKeyIdOrNull(header + ".payload."));
+        assertThrows(InvalidTokenException.class, () -> JwtKeyIdExtractor.extractKeyIdOrNull(header + PAYLOAD + ".extra"));
+    }
+
+    @Test
+    @DisplayName("kid 가 없거나 비어있으면 null, JwtProcessor 는 InvalidTokenException")
+    void missing_kid() {
+        String noKid = encodeHeader("{\"alg\":\"HS256\"}") + PAYLOAD;
+        String emptyKid = encodeHeader("{\"kid\":\"\"}") + PAYLOAD;
+        String spacedKid = encodeHeader("{\"kid\" : \"key-5\"}") + PAYLOAD;
+
+        assertNull(JwtKeyIdExtractor.extractKeyIdOrNull(noKid));
+        assertNull(JwtKeyIdExtractor.extractKeyIdOrNull(emptyKid));
+        assertNull(JwtKeyIdExtractor.extractKeyIdOrNull(spacedKid));
+        assertThrows(InvalidTokenException.class, () -> JwtProcessor.extractKeyIdOrThrow(noKid));
+        assertThrows(InvalidTokenException.class, () -> JwtProcessor.extractKeyIdOrThrow(null));
+    }
+
+    @Test
+    @DisplayName("Base64 URL-safe 형식이 아닌 header 는 IllegalArgumentException (java.util.Base64 와 동일)")
+    void invalid_base64() {
+        assertThrows(IllegalArgumentException.class, () -> JwtKeyIdExtractor.extractKeyIdOrNull("ab+/" + PAYLOAD));
+        assertThrows(IllegalArgumentException.class, () -> JwtKeyIdExtractor.extractKeyIdOrNull("abcde" + PAYLOAD));
+        assertThrows(IllegalArgumentException.class, () -> JwtKeyIdExtractor.extractKeyIdOrNull("abcd=" + PAYLOAD));
+        assertThrows(IllegalArgumentException.class, () -> JwtKeyIdExtractor.extractKeyIdOrNull("ab=c" + PAYLOAD));
+        assertThrows(InvalidTokenException.class, () -> JwtProcessor.extractKeyIdOrThrow("ab+/" + PAYLOAD));
+    }
+
+    @Test
+    @DisplayName("인증 filter 용 판정은 같은 입력을 거부하되, 미리 만든 stack trace 없는 예외를 사용한다")
+    void reject_with_preallocated_exception() {
+        String token = encodeHeader("{\"kid\":\"key-5\"}") + PAYLOAD;
+        assertEquals("key-5", JwtKeyIdExtractor.extractKeyIdOrReject(token));
+
+        String[] rejected = {
+                "undefined",
+                encodeHeader("{\"kid\":\"key-5\"}") + ".a.b.c",
+                encodeHeader("{\"alg\":\"HS256\"}") + PAYLOAD,
+                "ab+/" + PAYLOAD,
+                "abcd=" + PAYLOAD
+        };
+        TokenRejectedException expected = TokenRejectedException.of(TokenRejectedException.Reason.MALFORMED_TOKEN);
+        for (String input : rejected) {
+            TokenRejectedException e = assertThrows(TokenRejectedException.class, () -> JwtKeyIdExtractor.extractKeyIdOrReject(input));
+            assertSame(expected, e);
+            assertEquals(0, e.getStackTrace().length);
+        }
+        assertSame(expected, assertThrows(TokenRejectedException.class, () -> JwtKeyIdExtractor.extractKeyIdOrReject(null)));
+    }
+}
@@ -0,0 +1,193 @@
+package click.dailyfeed.member.domain.jwt.verifier;
+
+import click.dailyfeed.code.domain.member.key.exception.JwtKeyExpiredException;
+import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalJwtVerifierTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("JWK 로 변환한 공개키는 원래 공개키와 같다")
+    void jwk_round_trip() {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+
+        Map<String, Object> jwk = Jwks.toJwk("kid-1", keyPair.getPublic());
+
+        assertEquals("EC", jwk.get("kty"));
+        assertEquals("ES256", jwk.get("alg"));
+        assertEquals(keyPair.getPublic(), Jwks.toPublicKey(jwk));
+    }
+
+    @Test
+    @DisplayName("JWKS 의 공개키로 서명을 검증하고 claims 를 반환한다")
+    void verify_with_jwks() throws Exception {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        LocalJwtVerifier verifier = new LocalJwtVerifier(jwksOf(Map.of("kid-1", keyPair)));
+
+        VerifiedClaims claims = verifier.verify(token("kid-1", keyPair, "jti-1", 7L));
+
+        assertEquals("kid-1", claims.getKeyId());
+        assertEquals("jti-1", claims.getJti());
+        assertEquals(7L, claims.getMemberId());
+        assertNotNull(claims.getIssuedAt());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 InvalidTokenException")
+    void reject_invalid_signature() throws Exception {
+        KeyPair published = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        KeyPair forged = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        LocalJwtVerifier verifier = new LocalJwtVerifier(jwksOf(Map.of("kid-1", published)));
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token("kid-1", forged, "jti-1", 7L)));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid 는 최소 간격 안에서 JWKS 를 다시 조회하지 않는다")
+    void unknown_kid_is_rate_limited() throws Exception {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        String jwks = jwksOf(Map.of("kid-1", keyPair)).fetchJwks();
+        AtomicInteger fetchCount = new AtomicInteger();
+        LocalJwtVerifier verifier = new LocalJwtVerifier(
+                () -> {
+                    fetchCount.incrementAndGet();
+                    return jwks;
+                },
+                RevocationFeed.NONE,
+                Duration.ofMinutes(5),
+                Duration.ofMinutes(1)
+        );
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(JwtKeyExpiredException.class, () -> verifier.verify(token("unknown", keyPair, "jti-1", 7L)));
+        }
+        assertEquals(1, fetchCount.get());
+        assertEquals(1, verifier.keyCount());
+    }
+
+    @Test
+    @DisplayName("주기적 재조회 중에도 다른 요청은 기다리지 않고 기존 키로 검증한다")
+    void periodic_refresh_does_not_block_other_requests() throws Exception {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        String jwks = jwksOf(Map.of("kid-1", keyPair)).fetchJwks();
+        AtomicInteger fetchCount = new AtomicInteger();
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LocalJwtVerifier verifier = new LocalJwtVerifier(
+                () -> {
+                    if (fetchCount.incrementAndGet() > 1) {
+                        fetching.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return jwks;
+                },
+                RevocationFeed.NONE,
+                Duration.ZERO,
+                Duration.ZERO
+        );
+        verifier.verify(token("kid-1", keyPair, "jti-1", 7L));
+
+        Thread refresher = new Thread(() -> verifier.verify(token("kid-1", keyPair, "jti-2", 7L)));
+        refresher.start();
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> verifier.verify(token("kid-1", keyPair, "jti-3", 7L)));
+        assertEquals(2, fetchCount.get());
+
+        release.countDown();
+        refresher.join();
+    }
+
+    @Test
+    @DisplayName("주기적 재조회에 실패하면 기존 키로 검증하고 minRefreshInterval 동안 다시 조회하지 않는다")
+    void failed_refresh_waits_min_interval() throws Exception {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        String jwks = jwksOf(Map.of("kid-1", keyPair)).fetchJwks();
+        AtomicInteger fetchCount = new AtomicInteger();
+        LocalJwtVerifier verifier = new LocalJwtVerifier(
+                () -> {
+                    if (fetchCount.incrementAndGet() > 1) {
+                        throw new IllegalStateException("jwks unavailable");
+                    }
+                    return jwks;
+                },
+                RevocationFeed.NONE,
+                Duration.ofMillis(20),
+                Duration.ofMinutes(1)
+        );
+        verifier.verify(token("kid-1", keyPair, "jti-1", 7L));
+        Thread.sleep(30);
+
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> verifier.verify(token("kid-1", keyPair, "jti-2", 7L)));
+        }
+        assertEquals(2, fetchCount.get());
+        assertEquals(1, verifier.keyCount());
+    }
+
+    @Test
+    @DisplayName("RevocationFeed 로 전파된 로그아웃/전체 로그아웃 토큰은 거부된다")
+    void reject_revoked() throws Exception {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        RevocationFeed.InMemory revocationFeed = new RevocationFeed.InMemory();
+        LocalJwtVerifier verifier = new LocalJwtVerifier(
+                jwksOf(Map.of("kid-1", keyPair)),
+                revocationFeed,
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(5)
+        );
+
+        revocationFeed.onBlacklistEvent("jti-1," + (System.currentTimeMillis() + 60_000));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token("kid-1", keyPair, "jti-1", 7L)));
+
+        String issuedBeforeEpoch = token("kid-1", keyPair, "jti-2", 8L);
+        revocationFeed.onRevocationEpochEvent("8," + (System.currentTimeMillis() + 1_000));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(issuedBeforeEpoch));
+
+        assertDoesNotThrow(() -> verifier.verify(token("kid-1", keyPair, "jti-3", 9L)));
+    }
+
+    private JwksKeySource jwksOf(Map<String, KeyPair> keyPairs) throws Exception {
+        List<Map<String, Object>> keys = keyPairs.entrySet()
+                .stream()
+                .map(entry -> Jwks.toJwk(entry.getKey(), entry.getValue().getPublic()))
+                .toList();
+        String jwks = OBJECT_MAPPER.writeValueAsString(Map.of("keys", keys));
+        return () -> jwks;
+    }
+
+    private String token(String keyId, KeyPair keyPair, String jti, Long memberId) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setId(jti)
+                .setSubject(String.valueOf(memberId))
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 3_600_000L))
+                .claim("id", memberId)
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+    }
+}
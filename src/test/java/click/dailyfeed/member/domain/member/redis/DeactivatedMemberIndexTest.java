@@ -0,0 +1,82 @@
+package click.dailyfeed.member.domain.member.redis;
+
+import click.dailyfeed.member.config.redis.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class DeactivatedMemberIndexTest {
+    private RedisTemplate<String, String> redisTemplate;
+    private DeactivatedMemberIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = Mockito.mock(RedisTemplate.class);
+        RedisCircuitBreaker redisCircuitBreaker = Mockito.mock(RedisCircuitBreaker.class);
+        given(redisCircuitBreaker.execute(any(), any()))
+                .willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        index = new DeactivatedMemberIndex(redisTemplate, redisCircuitBreaker);
+    }
+
+    @Test
+    @DisplayName("Redis bitmap 의 offset 은 첫 바이트의 최상위 비트부터 센다")
+    void converts_redis_bit_order() {
+        // SETBIT 0, SETBIT 7, SETBIT 9 → 0b10000001, 0b01000000
+        BitSet bitSet = DeactivatedMemberIndex.fromRedisBitmap(new byte[]{(byte) 0x81, (byte) 0x40});
+
+        assertEquals(3, bitSet.cardinality());
+        assertTrue(bitSet.get(0));
+        assertTrue(bitSet.get(7));
+        assertTrue(bitSet.get(9));
+        assertFalse(bitSet.get(1));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 판정하지 않고, 적재 후에는 bitmap 과 전파된 이벤트로 판정한다")
+    @SuppressWarnings("unchecked")
+    void answers_only_after_resync() {
+        assertEquals(Optional.empty(), index.isDeactivated(9L));
+
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(new byte[]{(byte) 0x81, (byte) 0x40});
+        index.resync();
+
+        assertEquals(Optional.of(true), index.isDeactivated(9L));
+        assertEquals(Optional.of(false), index.isDeactivated(8L));
+
+        index.onMessage(new DefaultMessage(new byte[0], "8".getBytes(StandardCharsets.UTF_8)), null);
+        assertEquals(Optional.of(true), index.isDeactivated(8L));
+        assertEquals(Optional.empty(), index.isDeactivated((long) Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("탈퇴 기록은 Redis bitmap 에 쓰고, 재적재 결과에 아직 없어도 로컬에서 유지된다")
+    @SuppressWarnings("unchecked")
+    void deactivate_survives_stale_resync() {
+        ValueOperations<String, String> valueOperations = Mockito.mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(new byte[0]);
+
+        index.deactivate(42L);
+        index.resync();
+
+        verify(valueOperations).setBit(anyString(), eq(42L), eq(true));
+        verify(redisTemplate).convertAndSend(DeactivatedMemberIndex.DEACTIVATED_CHANNEL, "42");
+        assertEquals(Optional.of(true), index.isDeactivated(42L));
+    }
+}
@@ -53,6 +53,7 @@ create table if not exists dailyfeed.member_profiles
     privacy_level       varchar(20),    -- 'public', 'friends', 'private' default 'public'
     profile_completion_score tinyint default 0,
     is_active boolean default true,
+    profile_version int not null default 0, -- Access Token 프로필 claims 버전
     created_at timestamp default current_timestamp,
     updated_at timestamp default current_timestamp on update current_timestamp,
 
@@ -128,9 +129,12 @@ create table if not exists dailyfeed.jwt_keys
     id                 bigint auto_increment PRIMARY KEY,
     key_id             varchar(255) null,
     secret_key         varchar(255) not null,
+    public_key         varchar(512) null,
+    algorithm          varchar(16)  null,
     is_active          tinyint(1)   not null,
     expires_at         datetime     null,
     is_primary         tinyint(1)   not null,
+    promoted_at        datetime     null,
     created_at         datetime     null,
     updated_at         datetime     null
     );
@@ -138,17 +142,16 @@ create table if not exists dailyfeed.jwt_keys
 -- Refresh Token 테이블
 create table if not exists dailyfeed.jwt_refresh_tokens (
                                                             id                 bigint auto_increment PRIMARY KEY,
-                                                            token_id           varchar(255) unique not null,
+                                                            token_id           binary(16) unique not null, -- UUID_TO_BIN(uuid)
     member_id          bigint not null,
-    token_value        varchar(512) unique not null,
-    access_token_id    varchar(255) not null, -- == jti
+    token_digest       binary(32) unique not null, -- SHA-256(token_value)
+    access_token_id    binary(16) not null, -- == jti
     expires_at         timestamp not null,
     is_revoked         boolean default false,
     device_info        varchar(500),
     ip_address         varchar(50),
     created_at         timestamp default current_timestamp,
     updated_at         timestamp default current_timestamp on update current_timestamp,
-    index idx_token_value (token_value),
     index idx_member_id (member_id),
     index idx_access_token_id (access_token_id),
     index idx_expires_at (expires_at)
@@ -157,13 +160,12 @@ create table if not exists dailyfeed.jwt_refresh_tokens (
 -- Token Blacklist 테이블
 create table if not exists dailyfeed.jwt_blacklist (
                                                        id              bigint auto_increment PRIMARY KEY,
-                                                       jti             varchar(255) unique not null,
+                                                       jti             binary(16) unique not null, -- UUID_TO_BIN(uuid)
     member_id       bigint not null,
     expires_at      timestamp not null,
     reason          varchar(100),
     created_at      timestamp default current_timestamp,
     updated_at      timestamp default current_timestamp on update current_timestamp,
-    index idx_token_jti (jti),
     index idx_expires_at (expires_at)
     );
 